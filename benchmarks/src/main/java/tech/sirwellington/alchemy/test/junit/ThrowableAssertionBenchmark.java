@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import static tech.sirwellington.alchemy.test.junit.ThrowableAssertion.assertThrows;
+
+/**
+ * Measures {@link ThrowableAssertion#assertThrows(ExceptionOperation)}, with and without further assertions.
+ *
+ * @author SirWellington
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThrowableAssertionBenchmark
+{
+
+    private final IllegalArgumentException exception = new IllegalArgumentException("bad argument");
+
+    private ExceptionOperation operation;
+
+    @Setup
+    public void setUp()
+    {
+        operation = new ExceptionOperation()
+        {
+            @Override
+            public void call() throws Throwable
+            {
+                throw exception;
+            }
+        };
+    }
+
+    @Benchmark
+    public ThrowableAssertion assertThrowsOnly()
+    {
+        return assertThrows(operation);
+    }
+
+    @Benchmark
+    public ThrowableAssertion assertThrowsWithAssertions()
+    {
+        return assertThrows(operation)
+            .isInstanceOf(IllegalArgumentException.class)
+            .containsInMessage("argument")
+            .hasNoCause();
+    }
+
+    @Benchmark
+    public ThrowableAssertion assertThrowsNewException()
+    {
+        return assertThrows(new ExceptionOperation()
+        {
+            @Override
+            public void call() throws Throwable
+            {
+                throw new IllegalStateException();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static tech.sirwellington.alchemy.generator.CollectionGenerators.listOf;
+import static tech.sirwellington.alchemy.generator.NumberGenerators.integers;
+
+/**
+ * Compares the bulk array generators behind {@link GenerateArray} with generating a {@code List<Integer>},
+ * the way {@link GenerateList} does, and unboxing it into an {@code int[]}.
+ *
+ * @author SirWellington
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayGeneratorBenchmark
+{
+
+    @Param({ "1024", "1048576" })
+    private int size;
+
+    private AlchemyGenerator<Integer> boxedIntegers;
+    private AlchemyGenerator<int[]> intArrays;
+    private AlchemyGenerator<int[]> intArraysInRange;
+    private AlchemyGenerator<byte[]> byteArrays;
+
+    @Setup
+    public void setUp()
+    {
+        boxedIntegers = integers(0, 1000);
+        intArrays = RandomGenerators.intArrays(size);
+        intArraysInRange = RandomGenerators.intArrays(size, 0, 1000);
+        byteArrays = RandomGenerators.byteArrays(size);
+    }
+
+    @Benchmark
+    public int[] unboxedList()
+    {
+        List<Integer> list = listOf(boxedIntegers, size);
+        int[] array = new int[list.size()];
+
+        for (int i = 0; i < array.length; ++i)
+        {
+            array[i] = list.get(i);
+        }
+
+        return array;
+    }
+
+    @Benchmark
+    public int[] intArray()
+    {
+        return intArrays.get();
+    }
+
+    @Benchmark
+    public int[] intArrayInRange()
+    {
+        return intArraysInRange.get();
+    }
+
+    @Benchmark
+    public byte[] byteArray()
+    {
+        return byteArrays.get();
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static tech.sirwellington.alchemy.generator.StringGenerators.alphabeticStrings;
+
+/**
+ * Measures the throughput of the generator behind each {@code Generate*} annotation.
+ * The generators are created once, the way {@link TestClassInjectors} does, and then called repeatedly.
+ *
+ * @author SirWellington
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratorBenchmark
+{
+
+    private AlchemyGenerator<String> alphabeticStringGenerator;
+    private AlchemyGenerator<String> hexadecimalStringGenerator;
+    private AlchemyGenerator<String> uuidGenerator;
+    private AlchemyGenerator<Integer> integerGenerator;
+    private AlchemyGenerator<Long> longGenerator;
+    private AlchemyGenerator<Double> doubleGenerator;
+    private AlchemyGenerator<Float> floatGenerator;
+    private AlchemyGenerator<Boolean> booleanGenerator;
+    private AlchemyGenerator<Date> dateGenerator;
+    private AlchemyGenerator<URL> urlGenerator;
+    private AlchemyGenerator<TimeUnit> enumGenerator;
+    private AlchemyGenerator<List<?>> listGenerator;
+    private AlchemyGenerator<Pojo> pojoGenerator;
+    private AlchemyGenerator<?> customGenerator;
+
+    @Setup
+    public void setUp() throws Exception
+    {
+        alphabeticStringGenerator = GenerateString.Values.createGeneratorFor(annotation("alphabeticString", GenerateString.class));
+        hexadecimalStringGenerator = GenerateString.Values.createGeneratorFor(annotation("hexadecimalString", GenerateString.class));
+        uuidGenerator = GenerateString.Values.createGeneratorFor(annotation("uuid", GenerateString.class));
+        integerGenerator = GenerateInteger.Values.createGeneratorFor(annotation("integer", GenerateInteger.class));
+        longGenerator = GenerateLong.Values.createGeneratorFor(annotation("longValue", GenerateLong.class));
+        doubleGenerator = GenerateDouble.Values.createGeneratorFor(annotation("doubleValue", GenerateDouble.class));
+        floatGenerator = GenerateFloat.Values.createGeneratorFor(annotation("floatValue", GenerateFloat.class));
+        booleanGenerator = GenerateBoolean.Values.createGeneratorFor(annotation("bool", GenerateBoolean.class));
+        dateGenerator = GenerateDate.Values.createGeneratorFor(annotation("date", GenerateDate.class));
+        urlGenerator = GenerateURL.Values.createGeneratorFor(annotation("url", GenerateURL.class));
+        enumGenerator = GenerateEnum.Values.createGeneratorFor(annotation("timeUnit", GenerateEnum.class), TimeUnit.class);
+        listGenerator = GenerateList.Values.createGeneratorFor(annotation("strings", GenerateList.class));
+        pojoGenerator = GeneratePojo.Values.createGeneratorFor(annotation("pojo", GeneratePojo.class), Pojo.class);
+        customGenerator = GenerateCustom.Values.createGeneratorFor(annotation("custom", GenerateCustom.class));
+    }
+
+    @Benchmark
+    public String alphabeticString()
+    {
+        return alphabeticStringGenerator.get();
+    }
+
+    @Benchmark
+    public String hexadecimalString()
+    {
+        return hexadecimalStringGenerator.get();
+    }
+
+    @Benchmark
+    public String uuid()
+    {
+        return uuidGenerator.get();
+    }
+
+    @Benchmark
+    public Integer integer()
+    {
+        return integerGenerator.get();
+    }
+
+    @Benchmark
+    public Long longValue()
+    {
+        return longGenerator.get();
+    }
+
+    @Benchmark
+    public Double doubleValue()
+    {
+        return doubleGenerator.get();
+    }
+
+    @Benchmark
+    public Float floatValue()
+    {
+        return floatGenerator.get();
+    }
+
+    @Benchmark
+    public Boolean bool()
+    {
+        return booleanGenerator.get();
+    }
+
+    @Benchmark
+    public Date date()
+    {
+        return dateGenerator.get();
+    }
+
+    @Benchmark
+    public URL url()
+    {
+        return urlGenerator.get();
+    }
+
+    @Benchmark
+    public TimeUnit enumValue()
+    {
+        return enumGenerator.get();
+    }
+
+    @Benchmark
+    public List<?> list()
+    {
+        return listGenerator.get();
+    }
+
+    @Benchmark
+    public Pojo pojo()
+    {
+        return pojoGenerator.get();
+    }
+
+    @Benchmark
+    public Object custom()
+    {
+        return customGenerator.get();
+    }
+
+    private static <A extends java.lang.annotation.Annotation> A annotation(String fieldName, Class<A> annotationType) throws NoSuchFieldException
+    {
+        Field field = AnnotatedFields.class.getDeclaredField(fieldName);
+        return field.getAnnotation(annotationType);
+    }
+
+    /*
+     * Holds one field for each annotation being measured.
+     */
+    private static class AnnotatedFields
+    {
+
+        @GenerateString(GenerateString.Type.ALPHABETIC)
+        private String alphabeticString;
+
+        @GenerateString(GenerateString.Type.HEXADECIMAL)
+        private String hexadecimalString;
+
+        @GenerateString(GenerateString.Type.UUID)
+        private String uuid;
+
+        @GenerateInteger
+        private int integer;
+
+        @GenerateLong
+        private long longValue;
+
+        @GenerateDouble
+        private double doubleValue;
+
+        @GenerateFloat
+        private float floatValue;
+
+        @GenerateBoolean
+        private boolean bool;
+
+        @GenerateDate
+        private Date date;
+
+        @GenerateURL
+        private URL url;
+
+        @GenerateEnum
+        private TimeUnit timeUnit;
+
+        @GenerateList(String.class)
+        private List<String> strings;
+
+        @GeneratePojo
+        private Pojo pojo;
+
+        @GenerateCustom(NameGenerator.class)
+        private String custom;
+    }
+
+    public static class Pojo
+    {
+        private String name;
+        private int age;
+        private Date birthday;
+        private List<String> nicknames;
+    }
+
+    public static class NameGenerator implements AlchemyGenerator<String>
+    {
+
+        private final AlchemyGenerator<String> names = alphabeticStrings();
+
+        @Override
+        public String get()
+        {
+            return names.get();
+        }
+    }
+
+}
@@ -0,0 +1,423 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.runners.model.TestClass;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link TestClassInjectors#populateGeneratedFields(TestClass, Object)}, which runs before every
+ * iteration of every Test Method, for Test Classes with 1, 10 and 100 generated fields.
+ *
+ * @author SirWellington
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InjectionBenchmark
+{
+
+    @Param({ "1", "10", "100" })
+    public int fields;
+
+    private TestClass testClass;
+    private Object target;
+
+    @Setup
+    public void setUp() throws Exception
+    {
+        Class<?> javaClass = classWithFields(fields);
+
+        testClass = new TestClass(javaClass);
+        target = javaClass.newInstance();
+
+        //The injection plan is built once per class, and is not what we're measuring here
+        TestClassInjectors.populateGeneratedFields(testClass, target);
+    }
+
+    @Benchmark
+    public Object populateGeneratedFields() throws Exception
+    {
+        TestClassInjectors.populateGeneratedFields(testClass, target);
+        return target;
+    }
+
+    private static Class<?> classWithFields(int fields)
+    {
+        switch (fields)
+        {
+            case 1:
+                return OneField.class;
+            case 10:
+                return TenFields.class;
+            case 100:
+                return HundredFields.class;
+            default:
+                throw new IllegalArgumentException("No Test Class with " + fields + " fields");
+        }
+    }
+
+    public static class OneField
+    {
+
+        @GenerateString
+        private String string0;
+    }
+
+    public static class TenFields
+    {
+
+        @GenerateString
+        private String string0;
+
+        @GenerateInteger
+        private int integer1;
+
+        @GenerateLong
+        private long longValue2;
+
+        @GenerateDouble
+        private double doubleValue3;
+
+        @GenerateBoolean
+        private boolean bool4;
+
+        @GenerateString
+        private String string5;
+
+        @GenerateInteger
+        private int integer6;
+
+        @GenerateLong
+        private long longValue7;
+
+        @GenerateDouble
+        private double doubleValue8;
+
+        @GenerateBoolean
+        private boolean bool9;
+    }
+
+    public static class HundredFields
+    {
+
+        @GenerateString
+        private String string0;
+
+        @GenerateInteger
+        private int integer1;
+
+        @GenerateLong
+        private long longValue2;
+
+        @GenerateDouble
+        private double doubleValue3;
+
+        @GenerateBoolean
+        private boolean bool4;
+
+        @GenerateString
+        private String string5;
+
+        @GenerateInteger
+        private int integer6;
+
+        @GenerateLong
+        private long longValue7;
+
+        @GenerateDouble
+        private double doubleValue8;
+
+        @GenerateBoolean
+        private boolean bool9;
+
+        @GenerateString
+        private String string10;
+
+        @GenerateInteger
+        private int integer11;
+
+        @GenerateLong
+        private long longValue12;
+
+        @GenerateDouble
+        private double doubleValue13;
+
+        @GenerateBoolean
+        private boolean bool14;
+
+        @GenerateString
+        private String string15;
+
+        @GenerateInteger
+        private int integer16;
+
+        @GenerateLong
+        private long longValue17;
+
+        @GenerateDouble
+        private double doubleValue18;
+
+        @GenerateBoolean
+        private boolean bool19;
+
+        @GenerateString
+        private String string20;
+
+        @GenerateInteger
+        private int integer21;
+
+        @GenerateLong
+        private long longValue22;
+
+        @GenerateDouble
+        private double doubleValue23;
+
+        @GenerateBoolean
+        private boolean bool24;
+
+        @GenerateString
+        private String string25;
+
+        @GenerateInteger
+        private int integer26;
+
+        @GenerateLong
+        private long longValue27;
+
+        @GenerateDouble
+        private double doubleValue28;
+
+        @GenerateBoolean
+        private boolean bool29;
+
+        @GenerateString
+        private String string30;
+
+        @GenerateInteger
+        private int integer31;
+
+        @GenerateLong
+        private long longValue32;
+
+        @GenerateDouble
+        private double doubleValue33;
+
+        @GenerateBoolean
+        private boolean bool34;
+
+        @GenerateString
+        private String string35;
+
+        @GenerateInteger
+        private int integer36;
+
+        @GenerateLong
+        private long longValue37;
+
+        @GenerateDouble
+        private double doubleValue38;
+
+        @GenerateBoolean
+        private boolean bool39;
+
+        @GenerateString
+        private String string40;
+
+        @GenerateInteger
+        private int integer41;
+
+        @GenerateLong
+        private long longValue42;
+
+        @GenerateDouble
+        private double doubleValue43;
+
+        @GenerateBoolean
+        private boolean bool44;
+
+        @GenerateString
+        private String string45;
+
+        @GenerateInteger
+        private int integer46;
+
+        @GenerateLong
+        private long longValue47;
+
+        @GenerateDouble
+        private double doubleValue48;
+
+        @GenerateBoolean
+        private boolean bool49;
+
+        @GenerateString
+        private String string50;
+
+        @GenerateInteger
+        private int integer51;
+
+        @GenerateLong
+        private long longValue52;
+
+        @GenerateDouble
+        private double doubleValue53;
+
+        @GenerateBoolean
+        private boolean bool54;
+
+        @GenerateString
+        private String string55;
+
+        @GenerateInteger
+        private int integer56;
+
+        @GenerateLong
+        private long longValue57;
+
+        @GenerateDouble
+        private double doubleValue58;
+
+        @GenerateBoolean
+        private boolean bool59;
+
+        @GenerateString
+        private String string60;
+
+        @GenerateInteger
+        private int integer61;
+
+        @GenerateLong
+        private long longValue62;
+
+        @GenerateDouble
+        private double doubleValue63;
+
+        @GenerateBoolean
+        private boolean bool64;
+
+        @GenerateString
+        private String string65;
+
+        @GenerateInteger
+        private int integer66;
+
+        @GenerateLong
+        private long longValue67;
+
+        @GenerateDouble
+        private double doubleValue68;
+
+        @GenerateBoolean
+        private boolean bool69;
+
+        @GenerateString
+        private String string70;
+
+        @GenerateInteger
+        private int integer71;
+
+        @GenerateLong
+        private long longValue72;
+
+        @GenerateDouble
+        private double doubleValue73;
+
+        @GenerateBoolean
+        private boolean bool74;
+
+        @GenerateString
+        private String string75;
+
+        @GenerateInteger
+        private int integer76;
+
+        @GenerateLong
+        private long longValue77;
+
+        @GenerateDouble
+        private double doubleValue78;
+
+        @GenerateBoolean
+        private boolean bool79;
+
+        @GenerateString
+        private String string80;
+
+        @GenerateInteger
+        private int integer81;
+
+        @GenerateLong
+        private long longValue82;
+
+        @GenerateDouble
+        private double doubleValue83;
+
+        @GenerateBoolean
+        private boolean bool84;
+
+        @GenerateString
+        private String string85;
+
+        @GenerateInteger
+        private int integer86;
+
+        @GenerateLong
+        private long longValue87;
+
+        @GenerateDouble
+        private double doubleValue88;
+
+        @GenerateBoolean
+        private boolean bool89;
+
+        @GenerateString
+        private String string90;
+
+        @GenerateInteger
+        private int integer91;
+
+        @GenerateLong
+        private long longValue92;
+
+        @GenerateDouble
+        private double doubleValue93;
+
+        @GenerateBoolean
+        private boolean bool94;
+
+        @GenerateString
+        private String string95;
+
+        @GenerateInteger
+        private int integer96;
+
+        @GenerateLong
+        private long longValue97;
+
+        @GenerateDouble
+        private double doubleValue98;
+
+        @GenerateBoolean
+        private boolean bool99;
+    }
+
+}
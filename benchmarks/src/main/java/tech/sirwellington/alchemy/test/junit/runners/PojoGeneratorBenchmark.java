@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+import tech.sirwellington.alchemy.generator.ObjectGenerators;
+
+/**
+ * Compares the {@link PojoGenerator} behind {@link GeneratePojo} with the reflective
+ * {@link ObjectGenerators#pojos(Class)} it replaced, with and without a pool of leaves.
+ *
+ * @author SirWellington
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PojoGeneratorBenchmark
+{
+
+    private AlchemyGenerator<Person> reflectivePojos;
+    private AlchemyGenerator<Person> compiledPojos;
+    private AlchemyGenerator<Person> pooledPojos;
+
+    @Setup
+    public void setUp()
+    {
+        reflectivePojos = ObjectGenerators.pojos(Person.class);
+        compiledPojos = PojoGenerator.of(Person.class);
+        pooledPojos = PojoGenerator.of(Person.class)
+                                   .withSettings(new PojoSettings(PojoSettings.DEFAULT_MAX_DEPTH,
+                                                                  TypeGenerators.MAX_COLLECTION_SIZE,
+                                                                  GeneratePojo.Cycles.LEAVE_NULL,
+                                                                  16));
+    }
+
+    @Benchmark
+    public Person reflective()
+    {
+        return reflectivePojos.get();
+    }
+
+    @Benchmark
+    public Person compiled()
+    {
+        return compiledPojos.get();
+    }
+
+    @Benchmark
+    public Person pooledLeaves()
+    {
+        return pooledPojos.get();
+    }
+
+    public static class Person
+    {
+        private String name;
+        private int age;
+        private long balance;
+        private double rating;
+        private boolean active;
+        private Date birthday;
+        private Address address;
+        private List<String> nicknames;
+    }
+
+    public static class Address
+    {
+        private String street;
+        private String city;
+        private int zip;
+    }
+
+}
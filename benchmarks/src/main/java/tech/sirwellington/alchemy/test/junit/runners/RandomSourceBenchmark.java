@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+import tech.sirwellington.alchemy.generator.NumberGenerators;
+
+/**
+ * Compares the {@link RandomSource} behind the {@code Generate*} annotations with the shared random state
+ * of Alchemy Generator, on one thread and on several. Thread-local Random Sources should scale with the threads.
+ *
+ * @author SirWellington
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomSourceBenchmark
+{
+
+    private AlchemyGenerator<Integer> sharedIntegers;
+    private AlchemyGenerator<Integer> integers;
+    private AlchemyGenerator<Double> sharedDoubles;
+    private AlchemyGenerator<Double> doubles;
+
+    @Setup
+    public void setUp()
+    {
+        sharedIntegers = NumberGenerators.integers(0, 1_000);
+        integers = RandomGenerators.integers(0, 1_000);
+        sharedDoubles = NumberGenerators.doubles(0, 1_000);
+        doubles = RandomGenerators.doubles(0, 1_000);
+    }
+
+    @Benchmark
+    public Integer sharedIntegers()
+    {
+        return sharedIntegers.get();
+    }
+
+    @Benchmark
+    public Integer integers()
+    {
+        return integers.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer sharedIntegersInParallel()
+    {
+        return sharedIntegers.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer integersInParallel()
+    {
+        return integers.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Double sharedDoublesInParallel()
+    {
+        return sharedDoubles.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Double doublesInParallel()
+    {
+        return doubles.get();
+    }
+
+    @Benchmark
+    public long splitMix(SplitMix state)
+    {
+        return state.source.nextLong();
+    }
+
+    @Benchmark
+    public long xoroshiro(Xoroshiro state)
+    {
+        return state.source.nextLong();
+    }
+
+    @State(Scope.Thread)
+    public static class SplitMix
+    {
+
+        private final RandomSource source = new SplitMixRandomSource(RandomSources.newSeed());
+    }
+
+    @State(Scope.Thread)
+    public static class Xoroshiro
+    {
+
+        private final RandomSource source = new XoroshiroRandomSource(RandomSources.newSeed());
+    }
+
+}
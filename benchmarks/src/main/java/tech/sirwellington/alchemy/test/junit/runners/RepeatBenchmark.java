@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.openjdk.jmh.annotations.*;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures a Test Class repeated 100 times, with a new Test Instance for each iteration, compared to
+ * {@linkplain Repeat#reuseInstance() reusing} a single one, and new Mocks for each iteration, compared to
+ * {@linkplain InitMocks#reuseMocks() reusing} them.
+ *
+ * @author SirWellington
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepeatBenchmark
+{
+
+    private JUnitCore junit;
+
+    @Setup
+    public void setUp()
+    {
+        junit = new JUnitCore();
+    }
+
+    @Benchmark
+    public Result newInstanceEachIteration()
+    {
+        return junit.run(NewInstanceTest.class);
+    }
+
+    @Benchmark
+    public Result reuseInstance()
+    {
+        return junit.run(ReusedInstanceTest.class);
+    }
+
+    @Benchmark
+    public Result newMocksEachIteration()
+    {
+        return junit.run(NewMocksTest.class);
+    }
+
+    @Benchmark
+    public Result reuseMocks()
+    {
+        return junit.run(ReusedMocksTest.class);
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @Repeat(100)
+    public static class NewInstanceTest
+    {
+
+        @GenerateString
+        private String string;
+
+        @GenerateInteger
+        private int integer;
+
+        private StringBuilder builder;
+
+        @Before
+        public void setUp()
+        {
+            builder = new StringBuilder();
+        }
+
+        @Test
+        public void testSomething()
+        {
+            builder.append(string).append(integer);
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @Repeat(value = 100, reuseInstance = true)
+    public static class ReusedInstanceTest
+    {
+
+        @GenerateString
+        private String string;
+
+        @GenerateInteger
+        private int integer;
+
+        private StringBuilder builder;
+
+        @Before
+        public void setUp()
+        {
+            builder = new StringBuilder();
+        }
+
+        @Test
+        public void testSomething()
+        {
+            builder.append(string).append(integer);
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @Repeat(100)
+    public static class NewMocksTest
+    {
+
+        @Mock
+        private RepeatListener first;
+
+        @Mock
+        private RepeatListener second;
+
+        @Mock
+        private Provider<String> third;
+
+        @Test
+        public void testSomething()
+        {
+            when(third.get()).thenReturn("third");
+            first.onStart(null, 1);
+            second.onFinish(null, null);
+            third.get();
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @InitMocks(reuseMocks = true)
+    @Repeat(100)
+    public static class ReusedMocksTest
+    {
+
+        @Mock
+        private RepeatListener first;
+
+        @Mock
+        private RepeatListener second;
+
+        @Mock
+        private Provider<String> third;
+
+        @Test
+        public void testSomething()
+        {
+            when(third.get()).thenReturn("third");
+            first.onStart(null, 1);
+            second.onFinish(null, null);
+            third.get();
+        }
+    }
+
+}
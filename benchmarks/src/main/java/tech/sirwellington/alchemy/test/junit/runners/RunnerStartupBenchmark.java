@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures how long it takes to construct an {@link AlchemyTestRunner}, which happens once per Test Class.
+ *
+ * @author SirWellington
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RunnerStartupBenchmark
+{
+
+    @Benchmark
+    public AlchemyTestRunner plainTestClass() throws Exception
+    {
+        return new AlchemyTestRunner(PlainTest.class);
+    }
+
+    @Benchmark
+    public AlchemyTestRunner annotatedTestClass() throws Exception
+    {
+        return new AlchemyTestRunner(AnnotatedTest.class);
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    public static class PlainTest
+    {
+
+        @Test
+        public void testSomething()
+        {
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @Repeat(value = 100, warmup = 10)
+    @RepeatListeners({})
+    @RunConcurrently(maxConcurrency = 8)
+    public static class AnnotatedTest
+    {
+
+        @GenerateString
+        private String string;
+
+        @GenerateInteger
+        private int integer;
+
+        @Test
+        public void testFirst()
+        {
+        }
+
+        @Test
+        public void testSecond()
+        {
+        }
+
+        @DontRepeat
+        @Test
+        public void testThird()
+        {
+        }
+    }
+
+}
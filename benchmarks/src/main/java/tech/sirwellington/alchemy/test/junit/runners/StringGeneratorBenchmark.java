@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static tech.sirwellington.alchemy.generator.StringGenerators.alphabeticStrings;
+import static tech.sirwellington.alchemy.generator.StringGenerators.numericStrings;
+
+/**
+ * Compares the {@link BufferedStringGenerator} behind {@link GenerateString} with the character-by-character
+ * generators of Alchemy Generator, from short Strings up to 64 KB payloads.
+ *
+ * @author SirWellington
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringGeneratorBenchmark
+{
+
+    @Param({ "16", "1024", "65536" })
+    private int length;
+
+    private AlchemyGenerator<String> alphabetic;
+    private AlchemyGenerator<String> bufferedAlphabetic;
+    private AlchemyGenerator<String> numeric;
+    private AlchemyGenerator<String> bufferedNumeric;
+
+    @Setup
+    public void setUp()
+    {
+        alphabetic = alphabeticStrings(length);
+        bufferedAlphabetic = new BufferedStringGenerator(BufferedStringGenerator.ALPHABETIC, length);
+        numeric = numericStrings(length);
+        bufferedNumeric = new BufferedStringGenerator(BufferedStringGenerator.NUMERIC, length);
+    }
+
+    @Benchmark
+    public String alphabetic()
+    {
+        return alphabetic.get();
+    }
+
+    @Benchmark
+    public String bufferedAlphabetic()
+    {
+        return bufferedAlphabetic.get();
+    }
+
+    @Benchmark
+    public String numeric()
+    {
+        return numeric.get();
+    }
+
+    @Benchmark
+    public String bufferedNumeric()
+    {
+        return bufferedNumeric.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String alphabeticInParallel()
+    {
+        return alphabetic.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String bufferedAlphabeticInParallel()
+    {
+        return bufferedAlphabetic.get();
+    }
+
+}
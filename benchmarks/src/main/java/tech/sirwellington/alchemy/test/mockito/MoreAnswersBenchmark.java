@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.mockito;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static tech.sirwellington.alchemy.test.mockito.MoreAnswers.returnArgumentAtIndex;
+import static tech.sirwellington.alchemy.test.mockito.MoreAnswers.returnFirst;
+
+/**
+ * Measures calls to mocks stubbed with {@link MoreAnswers}, compared to a plain {@code thenReturn()}.
+ *
+ * @author SirWellington
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoreAnswersBenchmark
+{
+
+    private Service returnsFirst;
+    private Service returnsArgumentAtIndex;
+    private Service returnsValue;
+
+    @Setup
+    public void setUp()
+    {
+        returnsFirst = mock(Service.class);
+        when(returnsFirst.call(anyString(), anyString(), anyString())).then(returnFirst());
+
+        returnsArgumentAtIndex = mock(Service.class);
+        when(returnsArgumentAtIndex.call(anyString(), anyString(), anyString())).then(returnArgumentAtIndex(2));
+
+        returnsValue = mock(Service.class);
+        when(returnsValue.call(anyString(), anyString(), anyString())).thenReturn("third");
+    }
+
+    @Benchmark
+    public String returnFirstArgument()
+    {
+        return returnsFirst.call("first", "second", "third");
+    }
+
+    @Benchmark
+    public String returnThirdArgument()
+    {
+        return returnsArgumentAtIndex.call("first", "second", "third");
+    }
+
+    @Benchmark
+    public String baseline()
+    {
+        return returnsValue.call("first", "second", "third");
+    }
+
+    public interface Service
+    {
+        String call(String first, String second, String third);
+    }
+
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * An optional Annotation Processor that generates a {@link GeneratedInjector} for each Test Class with
+ * {@code Generate*} fields. The runner uses the generated injector when it is present, so those fields
+ * are set with plain assignments, instead of by reflection.
+ * <p>
+ * The processor is not registered automatically. To use it with Maven:
+ * <pre>
+ * {@code
+ * <plugin>
+ *     <artifactId>maven-compiler-plugin</artifactId>
+ *     <configuration>
+ *         <annotationProcessors>
+ *             <annotationProcessor>tech.sirwellington.alchemy.test.junit.runners.AlchemyInjectorProcessor</annotationProcessor>
+ *         </annotationProcessors>
+ *     </configuration>
+ * </plugin>
+ * }
+ * </pre>
+ * Generated fields have to be visible to other classes in their package, so Test Classes with {@code private}
+ * or {@code final} generated fields are skipped, and keep being injected by reflection.
+ *
+ * @author SirWellington
+ * @see GeneratedInjector
+ */
+@SupportedAnnotationTypes({ "tech.sirwellington.alchemy.test.junit.runners.GenerateArray",
+                            "tech.sirwellington.alchemy.test.junit.runners.GenerateBoolean",
+                            "tech.sirwellington.alchemy.test.junit.runners.GenerateCustom",
+                            "tech.sirwellington.alchemy.test.junit.runners.GenerateDate",
+                            "tech.sirwellington.alchemy.test.junit.runners.GenerateDouble",
+                            "tech.sirwellington.alchemy.test.junit.runners.GenerateEnum",
+                            "tech.sirwellington.alchemy.test.junit.runners.GenerateFloat",
+                            "tech.sirwellington.alchemy.test.junit.runners.GenerateInteger",
+                            "tech.sirwellington.alchemy.test.junit.runners.GenerateList",
+                            "tech.sirwellington.alchemy.test.junit.runners.GenerateLong",
+                            "tech.sirwellington.alchemy.test.junit.runners.GeneratePojo",
+                            "tech.sirwellington.alchemy.test.junit.runners.GenerateString",
+                            "tech.sirwellington.alchemy.test.junit.runners.GenerateURL" })
+public final class AlchemyInjectorProcessor extends AbstractProcessor
+{
+
+    private final static String RUNNERS_PACKAGE = "tech.sirwellington.alchemy.test.junit.runners.";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round)
+    {
+        Map<TypeElement, Set<VariableElement>> fieldsByClass = new LinkedHashMap<>();
+
+        for (TypeElement annotation : annotations)
+        {
+            for (Element element : round.getElementsAnnotatedWith(annotation))
+            {
+                if (element.getKind() != ElementKind.FIELD)
+                {
+                    continue;
+                }
+
+                TypeElement testClass = (TypeElement) element.getEnclosingElement();
+                Set<VariableElement> fields = fieldsByClass.get(testClass);
+
+                if (fields == null)
+                {
+                    fields = new LinkedHashSet<>();
+                    fieldsByClass.put(testClass, fields);
+                }
+
+                fields.add((VariableElement) element);
+            }
+        }
+
+        for (Map.Entry<TypeElement, Set<VariableElement>> entry : fieldsByClass.entrySet())
+        {
+            TypeElement testClass = entry.getKey();
+            List<VariableElement> fields = inDeclarationOrder(testClass, entry.getValue());
+
+            String reason = whyCannotGenerate(testClass, fields);
+
+            if (reason != null)
+            {
+                note(testClass, testClass.getQualifiedName() + " will be injected by reflection: " + reason);
+                continue;
+            }
+
+            try
+            {
+                writeInjector(testClass, fields);
+            }
+            catch (IOException ex)
+            {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                         "Could not generate an injector: " + ex,
+                                                         testClass);
+            }
+        }
+
+        //Other processors may use the same annotations
+        return false;
+    }
+
+    private static List<VariableElement> inDeclarationOrder(TypeElement testClass, Set<VariableElement> fields)
+    {
+        List<VariableElement> ordered = new ArrayList<>(fields.size());
+
+        for (Element element : testClass.getEnclosedElements())
+        {
+            if (fields.contains(element))
+            {
+                ordered.add((VariableElement) element);
+            }
+        }
+
+        return ordered;
+    }
+
+    private String whyCannotGenerate(TypeElement testClass, List<VariableElement> fields)
+    {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(testClass);
+
+        if (testClass.getKind() != ElementKind.CLASS)
+        {
+            return "it is not a class";
+        }
+
+        if (!isAccessible(testClass, pkg))
+        {
+            return "it is private";
+        }
+
+        for (VariableElement field : fields)
+        {
+            Set<Modifier> modifiers = field.getModifiers();
+
+            if (modifiers.contains(Modifier.PRIVATE))
+            {
+                return "field " + field.getSimpleName() + " is private";
+            }
+
+            if (modifiers.contains(Modifier.FINAL))
+            {
+                return "field " + field.getSimpleName() + " is final";
+            }
+
+            if (!isAccessible(field.asType(), pkg))
+            {
+                return "the type of field " + field.getSimpleName() + " is not visible";
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isAccessible(TypeMirror type, PackageElement pkg)
+    {
+        if (type.getKind() == TypeKind.ARRAY)
+        {
+            return isAccessible(((ArrayType) type).getComponentType(), pkg);
+        }
+
+        if (type.getKind() == TypeKind.DECLARED)
+        {
+            return isAccessible((TypeElement) ((DeclaredType) type).asElement(), pkg);
+        }
+
+        return true;
+    }
+
+    private boolean isAccessible(TypeElement type, PackageElement pkg)
+    {
+        boolean samePackage = processingEnv.getElementUtils().getPackageOf(type).equals(pkg);
+
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement())
+        {
+            TypeElement typeElement = (TypeElement) element;
+
+            if (typeElement.getNestingKind() != NestingKind.TOP_LEVEL && typeElement.getNestingKind() != NestingKind.MEMBER)
+            {
+                return false;
+            }
+
+            Set<Modifier> modifiers = typeElement.getModifiers();
+
+            if (modifiers.contains(Modifier.PRIVATE))
+            {
+                return false;
+            }
+
+            if (!samePackage && !modifiers.contains(Modifier.PUBLIC))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void writeInjector(TypeElement testClass, List<VariableElement> fields) throws IOException
+    {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(testClass).toString();
+        String injectorName = GeneratedInjectors.injectorNameFor(binaryName);
+        String packageName = processingEnv.getElementUtils().getPackageOf(testClass).getQualifiedName().toString();
+        String simpleName = injectorName.substring(injectorName.lastIndexOf('.') + 1);
+        String className = erasureOf(testClass.asType());
+
+        StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty())
+        {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("/**\n")
+              .append(" * Injects the generated fields of {@link ").append(className).append("}.\n")
+              .append(" * Generated by ").append(AlchemyInjectorProcessor.class.getSimpleName()).append(". Do not edit.\n")
+              .append(" */\n")
+              .append("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n")
+              .append("public final class ").append(simpleName)
+              .append(" implements ").append(RUNNERS_PACKAGE).append("GeneratedInjector<").append(className).append(">\n")
+              .append("{\n\n");
+
+        for (int i = 0; i < fields.size(); ++i)
+        {
+            VariableElement field = fields.get(i);
+            String generatorType = primitiveGeneratorFor(field);
+
+            source.append("    private final ")
+                  .append(generatorType != null ? RUNNERS_PACKAGE + generatorType : "tech.sirwellington.alchemy.generator.AlchemyGenerator")
+                  .append(" generator").append(i).append(" = ")
+                  .append(generatorType != null ? "(" + RUNNERS_PACKAGE + generatorType + ") " : "")
+                  .append(RUNNERS_PACKAGE).append("GeneratedInjectors.generatorFor(")
+                  .append(className).append(".class, \"").append(field.getSimpleName()).append("\");\n");
+        }
+
+        source.append("\n")
+              .append("    @Override\n")
+              .append("    public void injectInto(").append(className).append(" target)\n")
+              .append("    {\n");
+
+        for (int i = 0; i < fields.size(); ++i)
+        {
+            VariableElement field = fields.get(i);
+            String owner = field.getModifiers().contains(Modifier.STATIC) ? className : "target";
+            String generatorType = primitiveGeneratorFor(field);
+
+            source.append("        ").append(owner).append(".").append(field.getSimpleName()).append(" = ");
+
+            if (generatorType != null)
+            {
+                source.append("generator").append(i).append(".").append(primitiveGetterFor(field)).append("();\n");
+            }
+            else
+            {
+                source.append("(").append(erasureOf(field.asType())).append(") generator").append(i).append(".get();\n");
+            }
+        }
+
+        source.append("    }\n\n")
+              .append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(injectorName, testClass).openWriter())
+        {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * @return The primitive generator that the field's annotation creates, or {@code null} if the field has to be boxed.
+     */
+    private static String primitiveGeneratorFor(VariableElement field)
+    {
+        TypeKind kind = field.asType().getKind();
+
+        //The generator of a @GenerateOnce field returns its boxed value
+        if (field.getAnnotation(GenerateOnce.class) != null)
+        {
+            return null;
+        }
+
+        if (kind == TypeKind.INT && field.getAnnotation(GenerateInteger.class) != null)
+        {
+            return "IntGenerator";
+        }
+
+        if (kind == TypeKind.LONG && field.getAnnotation(GenerateLong.class) != null)
+        {
+            return "LongGenerator";
+        }
+
+        if (kind == TypeKind.DOUBLE && field.getAnnotation(GenerateDouble.class) != null)
+        {
+            return "DoubleGenerator";
+        }
+
+        if (kind == TypeKind.FLOAT && field.getAnnotation(GenerateFloat.class) != null)
+        {
+            return "FloatGenerator";
+        }
+
+        return null;
+    }
+
+    private static String primitiveGetterFor(VariableElement field)
+    {
+        switch (field.asType().getKind())
+        {
+            case INT:
+                return "getInt";
+            case LONG:
+                return "getLong";
+            case DOUBLE:
+                return "getDouble";
+            default:
+                return "getFloat";
+        }
+    }
+
+    private String erasureOf(TypeMirror type)
+    {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private void note(Element element, String message)
+    {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, element);
+    }
+
+}
@@ -14,24 +14,37 @@
  */
 package tech.sirwellington.alchemy.test.junit.runners;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.internal.runners.statements.Fail;
+import org.junit.runner.Description;
 import org.junit.runner.Runner;
+import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.*;
 import org.mockito.*;
-import org.mockito.internal.junit.UnnecessaryStubbingsReporter;
 import org.mockito.internal.runners.util.FailureDetector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+
 /**
  * Alchemy Test Runner Features:
  * <p>
  * <ul>
  * <li> Initializes Mockito {@linkplain Mock @Mocks}
- * <li> Prints out the testName to the console using {@code System.out.println()}
+ * <li> Prints out the testName to the console using {@code System.out.println()}, or reports it to
+ *      your own {@linkplain RepeatListeners @RepeatListeners}
  * <li> Can repeat your tests using the {@linkplain  Repeat @Repeat} annotation
- * <li> Initialize generated Data Using {@link GenerateString}, {@link GenerateInteger}, etc..
+ * <li> Can fail slow tests using the {@linkplain LatencyBudget @LatencyBudget} annotation
+ * <li> Can run your tests concurrently using the {@linkplain RunConcurrently @RunConcurrently} annotation
+ * <li> Initialize generated Data Using {@link GenerateString}, {@link GenerateInteger}, etc..,
+ *      from a {@linkplain UseRandomSource Random Source} of each iteration's own
  * <p>
  * </ul>
  *
@@ -48,27 +61,58 @@ public class AlchemyTestRunner extends BlockJUnit4ClassRunner
     protected Runner delegate = null;
     protected boolean skipSuper = true;
     protected boolean skipDelegate = false;
+    //Null unless the class is annotated with @RunConcurrently
+    protected RunConcurrently concurrency = null;
+    protected RepeatListener repeatListener = null;
+    //Each iteration gets its own instance of this, for the Generate* annotations, seeded by the RepeatStatement
+    protected Class<? extends RandomSource> randomSource = RandomSources.DEFAULT_TYPE;
+    //If true, @Mocks are created once per Test Method, and reset between iterations
+    protected boolean shouldReuseMocks = false;
+    private final MockitoFields mockitoFields;
+    //Null unless strict stubs are enabled
+    private final UnusedStubbings unusedStubbings;
+    //Shared by the Test Methods and their parallel iterations. Created when first needed, unless @RunConcurrently
+    private ConcurrencyLimit concurrencyLimit = null;
+    //Mocks being reused by the Test Methods currently running
+    private final ConcurrentMap<FrameworkMethod, ReusableMocks> reusableMocks = new ConcurrentHashMap<>();
 
     public AlchemyTestRunner(Class<?> klass) throws InitializationError, InstantiationException, IllegalAccessException
     {
         super(klass);
         shouldInitMocks = shouldInitMockitoMocks();
+        shouldReuseMocks = shouldReuseMockitoMocks();
+        mockitoFields = MockitoFields.of(klass);
+        unusedStubbings = shouldInitMocks && shouldUseStrictStubs() && !mockitoFields.isEmpty()
+                          ? new UnusedStubbings(mockitoFields)
+                          : null;
         readDelegate();
+        readConcurrency();
+        readRepeatListeners();
+        readRandomSource();
     }
 
     @Override
     protected Statement withBefores(FrameworkMethod method, final Object target, Statement statement)
     {
         final Statement superStatement = super.withBefores(method, target, statement);
+        final ReusableMocks mocks = reusableMocks.get(method);
 
         return new Statement()
         {
             @Override
             public void evaluate() throws Throwable
             {
-                if (shouldInitMocks)
+                //Skip Mockito's own scan when there is nothing for it to initialize
+                if (shouldInitMocks && !mockitoFields.isEmpty())
                 {
-                    MockitoAnnotations.initMocks(target);
+                    if (mocks != null)
+                    {
+                        mocks.initMocks(target);
+                    }
+                    else
+                    {
+                        MockitoAnnotations.initMocks(target);
+                    }
                 }
 
                 TestClassInjectors.populateGeneratedFields(getTestClass(), target);
@@ -79,43 +123,181 @@ public class AlchemyTestRunner extends BlockJUnit4ClassRunner
     }
 
     @Override
-    protected Statement methodBlock(final FrameworkMethod method)
+    protected Statement withAfters(FrameworkMethod method, final Object target, Statement statement)
     {
-        int timesToRun = determineTimesToRun(method);
+        final Statement superStatement = super.withAfters(method, target, statement);
 
-        Provider<Statement> statementFactory = new Provider<Statement>()
+        if (unusedStubbings == null)
+        {
+            return superStatement;
+        }
+
+        return new Statement()
         {
             @Override
-            public Statement get()
+            public void evaluate() throws Throwable
             {
-                return AlchemyTestRunner.super.methodBlock(method);
+                superStatement.evaluate();
+
+                //Includes stubbings used by @After methods
+                unusedStubbings.collectFrom(target);
             }
         };
-
-        return new RepeatStatement(timesToRun, statementFactory, method);
     }
 
     @Override
-    public void run(RunNotifier notifier)
+    protected Statement methodBlock(final FrameworkMethod method)
     {
-        if (shouldInitMocks)
+        RepeatSettings settings;
+        try
         {
-            //Allow Mockito to do its verification
-            UnnecessaryStubbingsReporter reporter = new UnnecessaryStubbingsReporter();
-            FailureDetector listener = new FailureDetector();
+            settings = determineRepeatSettings(method);
+        }
+        catch (IllegalArgumentException ex)
+        {
+            return new Fail(ex);
+        }
 
-            Mockito.framework().addListener(reporter);
+        Provider<Statement> statementFactory;
 
-            try
+        if (settings.reuseInstance())
+        {
+            //Built once, along with its Test Instance; mocks and generated fields are refreshed by withBefores()
+            statementFactory = new Provider<Statement>()
             {
-                notifier.addListener(listener);
+                private Statement statement;
+
+                @Override
+                public Statement get()
+                {
+                    if (statement == null)
+                    {
+                        statement = AlchemyTestRunner.super.methodBlock(method);
+                    }
+
+                    return statement;
+                }
+            };
+        }
+        else
+        {
+            statementFactory = new Provider<Statement>()
+            {
+                @Override
+                public Statement get()
+                {
+                    return AlchemyTestRunner.super.methodBlock(method);
+                }
+            };
+        }
+
+        if (shouldInitMocks && shouldReuseMocks && !mockitoFields.isEmpty())
+        {
+            if (settings.getParallelism() == 1)
+            {
+                return withReusableMocks(method, settings, statementFactory);
             }
-            finally
+
+            //Parallel iterations would share, and reset, each other's Mocks
+            LOG.warn("{}() runs its iterations in parallel, so @InitMocks(reuseMocks = true) does not apply to it. " +
+                     "This includes every repeated method of a class annotated with @RunConcurrently.", method.getName());
+        }
+
+        return new RepeatStatement(settings, statementFactory, method);
+    }
+
+    /*
+     * The Mocks are registered before any Statement is built, since withBefores() looks them up,
+     * and released once the method finishes.
+     */
+    private Statement withReusableMocks(final FrameworkMethod method,
+                                        RepeatSettings settings,
+                                        Provider<Statement> statementFactory)
+    {
+        reusableMocks.put(method, new ReusableMocks(mockitoFields));
+
+        final Statement repeatStatement;
+        try
+        {
+            repeatStatement = new RepeatStatement(settings, statementFactory, method);
+        }
+        catch (RuntimeException ex)
+        {
+            reusableMocks.remove(method);
+            throw ex;
+        }
+
+        return new Statement()
+        {
+            @Override
+            public void evaluate() throws Throwable
             {
-                Mockito.framework().removeListener(reporter);
+                try
+                {
+                    repeatStatement.evaluate();
+                }
+                finally
+                {
+                    reusableMocks.remove(method);
+                }
             }
+        };
+    }
+
+    @Override
+    public void run(RunNotifier notifier)
+    {
+        try
+        {
+            runAndCheckStubbings(notifier);
+        }
+        finally
+        {
+            shutdownThreads();
+        }
+    }
+
+    private synchronized void shutdownThreads()
+    {
+        if (concurrencyLimit != null)
+        {
+            concurrencyLimit.shutdown();
+        }
+    }
+
+    private void runAndCheckStubbings(RunNotifier notifier)
+    {
+        if (unusedStubbings == null)
+        {
+            runTests(notifier);
+            return;
+        }
+
+        //Unused stubbings are only worth reporting if everything else passed
+        FailureDetector failureDetector = new FailureDetector();
+        notifier.addListener(failureDetector);
+
+        try
+        {
+            runTests(notifier);
+        }
+        finally
+        {
+            notifier.removeListener(failureDetector);
+        }
+
+        if (failureDetector.isSuccessful() && !unusedStubbings.isEmpty())
+        {
+            Class<?> testClass = getTestClass().getJavaClass();
+            Description description = Description.createTestDescription(testClass, "unnecessary Mockito stubbings");
+            notifier.fireTestFailure(new Failure(description, unusedStubbings.toException(testClass)));
         }
 
+        unusedStubbings.clear();
+    }
+
+    private void runTests(RunNotifier notifier)
+    {
         if (delegate != null && !skipDelegate)
         {
             delegate.run(notifier);
@@ -131,6 +313,156 @@ public class AlchemyTestRunner extends BlockJUnit4ClassRunner
         }
     }
 
+    private RepeatSettings determineRepeatSettings(FrameworkMethod method)
+    {
+        Long replaySeed = determineReplaySeed(method);
+
+        if (replaySeed != null)
+        {
+            LOG.info("Replaying {}() with seed {}", method.getName(), replaySeed);
+
+            return RepeatSettings.times(1)
+                                 .withListener(repeatListener)
+                                 .withRandomSource(randomSource)
+                                 .withReplaySeed(replaySeed);
+        }
+
+        int timesToRun = determineTimesToRun(method);
+        int parallelism = determineParallelism(method);
+        RepeatFor repeatFor = determineRepeatFor(method);
+
+        RepeatSettings settings;
+
+        if (repeatFor != null)
+        {
+            checkThat(repeatFor.maxIterations() > 0, "@RepeatFor maxIterations must be > 0");
+
+            settings = RepeatSettings.times(repeatFor.maxIterations())
+                                     .withDuration(repeatFor.value(), repeatFor.unit());
+        }
+        else
+        {
+            settings = RepeatSettings.times(timesToRun);
+        }
+
+        boolean reuseInstance = determineReuseInstance(method);
+
+        settings = settings.withWarmup(determineWarmup(method))
+                           .withListener(repeatListener)
+                           .withReuseInstance(reuseInstance);
+
+        if (concurrency != null)
+        {
+            //@RunConcurrently also spreads out iterations, over whatever part of its limit is free,
+            //unless @Repeat asks for its own parallelism, or for a single instance
+            if (parallelism == 1 && !reuseInstance && method.getAnnotation(DontRepeat.class) == null)
+            {
+                parallelism = concurrency.maxConcurrency();
+            }
+
+            settings = settings.withVirtualThreads(concurrency.virtualThreads());
+        }
+
+        settings = settings.withParallelism(parallelism)
+                           .withLatencyBudget(determineLatencyBudget(method))
+                           .withRandomSource(randomSource);
+
+        if (parallelism > 1)
+        {
+            settings = settings.withConcurrencyLimit(concurrencyLimit());
+        }
+
+        return settings;
+    }
+
+    /*
+     * Without @RunConcurrently, methods run one at a time, so the limit is the most parallel of them.
+     */
+    private synchronized ConcurrencyLimit concurrencyLimit()
+    {
+        if (concurrencyLimit == null)
+        {
+            int maxParallelism = 1;
+
+            for (FrameworkMethod method : getChildren())
+            {
+                maxParallelism = Math.max(maxParallelism, determineParallelism(method));
+            }
+
+            String threadPrefix = "alchemy-repeat-" + getTestClass().getJavaClass().getSimpleName() + "-";
+            concurrencyLimit = new ConcurrencyLimit(threadPrefix, maxParallelism, false);
+        }
+
+        return concurrencyLimit;
+    }
+
+    /*
+     * @ReplaySeed on the method beats the system property. Null if neither is set.
+     */
+    private Long determineReplaySeed(FrameworkMethod method)
+    {
+        ReplaySeed replaySeed = method.getAnnotation(ReplaySeed.class);
+
+        if (replaySeed != null)
+        {
+            return replaySeed.value();
+        }
+
+        String property = System.getProperty(ReplaySeed.SYSTEM_PROPERTY, "").trim();
+
+        if (property.isEmpty())
+        {
+            return null;
+        }
+
+        try
+        {
+            return Long.parseLong(property.endsWith("L") ? property.substring(0, property.length() - 1) : property);
+        }
+        catch (NumberFormatException ex)
+        {
+            throw new IllegalArgumentException("-D" + ReplaySeed.SYSTEM_PROPERTY + " is not a valid seed: " + property);
+        }
+    }
+
+    /*
+     * @RepeatFor on a method beats any @Repeat, while @RepeatFor on the class only applies to
+     * methods without their own @Repeat.
+     */
+    private RepeatFor determineRepeatFor(FrameworkMethod method)
+    {
+        if (method.getAnnotation(DontRepeat.class) != null)
+        {
+            return null;
+        }
+
+        RepeatFor repeatForOnMethod = method.getAnnotation(RepeatFor.class);
+
+        if (repeatForOnMethod != null)
+        {
+            return repeatForOnMethod;
+        }
+
+        if (method.getAnnotation(Repeat.class) != null)
+        {
+            return null;
+        }
+
+        return getTestClass().getAnnotation(RepeatFor.class);
+    }
+
+    private LatencyBudget determineLatencyBudget(FrameworkMethod method)
+    {
+        LatencyBudget budgetOnMethod = method.getAnnotation(LatencyBudget.class);
+
+        if (budgetOnMethod != null)
+        {
+            return budgetOnMethod;
+        }
+
+        return getTestClass().getAnnotation(LatencyBudget.class);
+    }
+
     private int determineTimesToRun(FrameworkMethod method)
     {
 
@@ -174,6 +506,72 @@ public class AlchemyTestRunner extends BlockJUnit4ClassRunner
         return 1;
     }
 
+    private int determineWarmup(FrameworkMethod method)
+    {
+        Repeat repeat = findRepeat(method);
+
+        if (repeat == null)
+        {
+            return 0;
+        }
+
+        int warmup = repeat.warmup();
+
+        if (warmup < 0)
+        {
+            LOG.error(method.getName() + " annotated with a negative @Repeat warmup. Defaulting to 0");
+            warmup = 0;
+        }
+
+        return warmup;
+    }
+
+    private int determineParallelism(FrameworkMethod method)
+    {
+        Repeat repeat = findRepeat(method);
+
+        if (repeat == null)
+        {
+            return 1;
+        }
+
+        int parallelism = repeat.parallelism();
+
+        if (parallelism <= 0)
+        {
+            LOG.error(method.getName() + " annotated with a non-positive @Repeat parallelism. Defaulting to 1");
+            parallelism = 1;
+        }
+
+        return parallelism;
+    }
+
+    private boolean determineReuseInstance(FrameworkMethod method)
+    {
+        Repeat repeat = findRepeat(method);
+        return repeat != null && repeat.reuseInstance();
+    }
+
+    /*
+     * The @Repeat on the method, or else on the class. Null if there is none, or if the method is annotated with @DontRepeat.
+     */
+    private Repeat findRepeat(FrameworkMethod method)
+    {
+        if (method.getAnnotation(DontRepeat.class) != null)
+        {
+            return null;
+        }
+
+        Repeat repeat = method.getAnnotation(Repeat.class);
+
+        if (repeat == null)
+        {
+            repeat = getTestClass().getAnnotation(Repeat.class);
+        }
+
+        return repeat;
+    }
+
     private boolean shouldInitMockitoMocks()
     {
         TestClass testClass = this.getTestClass();
@@ -187,6 +585,20 @@ public class AlchemyTestRunner extends BlockJUnit4ClassRunner
         return true;
     }
 
+    private boolean shouldUseStrictStubs()
+    {
+        InitMocks initMocks = getTestClass().getAnnotation(InitMocks.class);
+
+        return initMocks != null && initMocks.value() && initMocks.strictStubs();
+    }
+
+    private boolean shouldReuseMockitoMocks()
+    {
+        InitMocks initMocks = getTestClass().getAnnotation(InitMocks.class);
+
+        return initMocks != null && initMocks.value() && initMocks.reuseMocks();
+    }
+
     private void readDelegate() throws IllegalAccessException, InstantiationException
     {
         TestClass testClass = this.getTestClass();
@@ -200,4 +612,134 @@ public class AlchemyTestRunner extends BlockJUnit4ClassRunner
         skipSuper = delegates.skipSuper();
     }
 
+    private void readConcurrency() throws InitializationError
+    {
+        TestClass testClass = this.getTestClass();
+        RunConcurrently runConcurrently = testClass.getAnnotation(RunConcurrently.class);
+
+        if (runConcurrently == null)
+        {
+            return;
+        }
+
+        int maxConcurrency = runConcurrently.maxConcurrency();
+
+        if (maxConcurrency <= 0)
+        {
+            throw new InitializationError(testClass.getName() + " annotated with a non-positive @RunConcurrently maxConcurrency");
+        }
+
+        concurrency = runConcurrently;
+
+        String threadPrefix = "alchemy-" + testClass.getJavaClass().getSimpleName() + "-";
+        concurrencyLimit = new ConcurrencyLimit(threadPrefix, maxConcurrency, runConcurrently.virtualThreads());
+        setScheduler(new ConcurrentScheduler(concurrencyLimit));
+    }
+
+    private void readRepeatListeners() throws InitializationError
+    {
+        TestClass testClass = this.getTestClass();
+        RepeatListeners annotation = testClass.getAnnotation(RepeatListeners.class);
+
+        List<Class<?>> listenerClasses = new ArrayList<>();
+
+        if (annotation != null)
+        {
+            for (Class<? extends RepeatListener> listenerClass : annotation.value())
+            {
+                listenerClasses.add(listenerClass);
+            }
+        }
+        else
+        {
+            String property = System.getProperty(RepeatListeners.SYSTEM_PROPERTY, "");
+            for (String className : property.split(","))
+            {
+                if (!className.trim().isEmpty())
+                {
+                    listenerClasses.add(loadClass(className.trim()));
+                }
+            }
+
+            if (listenerClasses.isEmpty())
+            {
+                listenerClasses.add(ConsoleRepeatListener.class);
+            }
+        }
+
+        List<RepeatListener> listeners = new ArrayList<>(listenerClasses.size());
+        for (Class<?> listenerClass : listenerClasses)
+        {
+            listeners.add(instantiateListener(listenerClass));
+        }
+
+        repeatListener = new CompositeRepeatListener(listeners);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readRandomSource() throws InitializationError
+    {
+        UseRandomSource annotation = getTestClass().getAnnotation(UseRandomSource.class);
+        Class<?> sourceClass = RandomSources.DEFAULT_TYPE;
+
+        if (annotation != null)
+        {
+            sourceClass = annotation.value();
+        }
+        else
+        {
+            String property = System.getProperty(UseRandomSource.SYSTEM_PROPERTY, "").trim();
+
+            if (!property.isEmpty())
+            {
+                sourceClass = loadClass(property);
+            }
+        }
+
+        if (!RandomSource.class.isAssignableFrom(sourceClass))
+        {
+            throw new InitializationError(sourceClass.getName() + " is not a RandomSource");
+        }
+
+        try
+        {
+            RandomSources.constructorOf((Class<? extends RandomSource>) sourceClass);
+        }
+        catch (IllegalArgumentException ex)
+        {
+            throw new InitializationError(ex.getMessage());
+        }
+
+        randomSource = (Class<? extends RandomSource>) sourceClass;
+    }
+
+    private Class<?> loadClass(String className) throws InitializationError
+    {
+        try
+        {
+            return Class.forName(className, true, getTestClass().getJavaClass().getClassLoader());
+        }
+        catch (ClassNotFoundException ex)
+        {
+            throw new InitializationError(ex);
+        }
+    }
+
+    private RepeatListener instantiateListener(Class<?> listenerClass) throws InitializationError
+    {
+        if (!RepeatListener.class.isAssignableFrom(listenerClass))
+        {
+            throw new InitializationError(listenerClass.getName() + " is not a RepeatListener");
+        }
+
+        try
+        {
+            return (RepeatListener) listenerClass.newInstance();
+        }
+        catch (Exception ex)
+        {
+            throw new InitializationError("Cannot instantiate RepeatListener: " + listenerClass.getName());
+        }
+    }
+
 }
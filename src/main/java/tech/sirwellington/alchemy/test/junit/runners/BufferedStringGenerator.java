@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.ThreadSafe;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+
+/**
+ * Generates random Strings of a fixed length from an alphabet.
+ * <p>
+ * Characters are written in bulk into a {@code char[]} that each thread reuses, several characters from every
+ * {@code long} of the thread's {@link RandomSource}, and the String is made with a single copy of the buffer. This keeps large Strings,
+ * like 64 KB payloads, cheap to generate. Characters are chosen uniformly, by dropping the bits that fall
+ * outside the alphabet.
+ *
+ * @author SirWellington
+ * @see GenerateString
+ */
+@Internal
+@ThreadSafe
+final class BufferedStringGenerator implements AlchemyGenerator<String>
+{
+
+    static final String ALPHABETIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    static final String ALPHANUMERIC = ALPHABETIC + "0123456789";
+    static final String HEXADECIMAL = "0123456789ABCDEF";
+    static final String NUMERIC = "0123456789";
+
+    /*
+     * Larger buffers are not kept around between calls.
+     */
+    static final int MAX_RETAINED_BUFFER = 1 << 20;
+
+    private static final ThreadLocal<char[]> BUFFERS = new ThreadLocal<char[]>()
+    {
+        @Override
+        protected char[] initialValue()
+        {
+            return new char[64];
+        }
+    };
+
+    private final char[] alphabet;
+    private final int length;
+    private final int bitsPerChar;
+    private final int mask;
+    private final int charsPerLong;
+
+    BufferedStringGenerator(String alphabet, int length)
+    {
+        checkNotNull(alphabet, "alphabet is null");
+        checkThat(alphabet.length() > 1, "alphabet must have more than one character");
+        checkThat(alphabet.length() <= 256, "alphabet must have at most 256 characters");
+        checkThat(length > 0, "length must be > 0");
+
+        this.alphabet = alphabet.toCharArray();
+        this.length = length;
+        this.bitsPerChar = 32 - Integer.numberOfLeadingZeros(alphabet.length() - 1);
+        this.mask = (1 << bitsPerChar) - 1;
+        this.charsPerLong = 64 / bitsPerChar;
+    }
+
+    @Override
+    public String get()
+    {
+        char[] buffer = bufferFor(length);
+        fill(buffer, length);
+
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * Writes characters of the alphabet into the first {@code length} positions of the buffer.
+     */
+    void fill(char[] buffer, int length)
+    {
+        RandomSource random = RandomSources.current();
+
+        int position = 0;
+
+        while (position < length)
+        {
+            long bits = random.nextLong();
+
+            for (int i = 0; i < charsPerLong && position < length; ++i)
+            {
+                int index = (int) bits & mask;
+                bits >>>= bitsPerChar;
+
+                if (index < alphabet.length)
+                {
+                    buffer[position++] = alphabet[index];
+                }
+            }
+        }
+    }
+
+    private static char[] bufferFor(int length)
+    {
+        char[] buffer = BUFFERS.get();
+
+        if (buffer.length >= length)
+        {
+            return buffer;
+        }
+
+        if (length > MAX_RETAINED_BUFFER)
+        {
+            return new char[length];
+        }
+
+        buffer = new char[Math.max(length, Math.min(buffer.length * 2, MAX_RETAINED_BUFFER))];
+        BUFFERS.set(buffer);
+        return buffer;
+    }
+
+    int getLength()
+    {
+        return length;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "BufferedStringGenerator{" + "alphabet=" + new String(alphabet) + ", length=" + length + '}';
+    }
+
+}
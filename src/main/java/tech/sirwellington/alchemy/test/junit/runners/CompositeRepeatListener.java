@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.runners.model.FrameworkMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+
+/**
+ * Dispatches to a fixed list of {@link RepeatListener RepeatListeners}.
+ * A misbehaving listener is logged, and never fails the test it is listening to.
+ *
+ * @author SirWellington
+ */
+@Internal
+@Immutable
+final class CompositeRepeatListener implements RepeatListener
+{
+
+    private final static Logger LOG = LoggerFactory.getLogger(CompositeRepeatListener.class);
+
+    private final List<RepeatListener> listeners;
+
+    CompositeRepeatListener(List<RepeatListener> listeners)
+    {
+        checkNotNull(listeners, "listeners is null");
+
+        this.listeners = Collections.unmodifiableList(new ArrayList<>(listeners));
+    }
+
+    static CompositeRepeatListener of(RepeatListener... listeners)
+    {
+        return new CompositeRepeatListener(Arrays.asList(listeners));
+    }
+
+    boolean isEmpty()
+    {
+        return listeners.isEmpty();
+    }
+
+    @Override
+    public void onStart(FrameworkMethod method, int iterations)
+    {
+        for (RepeatListener listener : listeners)
+        {
+            try
+            {
+                listener.onStart(method, iterations);
+            }
+            catch (RuntimeException ex)
+            {
+                LOG.warn("RepeatListener {} failed onStart()", listener, ex);
+            }
+        }
+    }
+
+    @Override
+    public void onIteration(FrameworkMethod method, int iteration, long durationNanos)
+    {
+        for (RepeatListener listener : listeners)
+        {
+            try
+            {
+                listener.onIteration(method, iteration, durationNanos);
+            }
+            catch (RuntimeException ex)
+            {
+                LOG.warn("RepeatListener {} failed onIteration()", listener, ex);
+            }
+        }
+    }
+
+    @Override
+    public void onFinish(FrameworkMethod method, RepeatResult result)
+    {
+        for (RepeatListener listener : listeners)
+        {
+            try
+            {
+                listener.onFinish(method, result);
+            }
+            catch (RuntimeException ex)
+            {
+                LOG.warn("RepeatListener {} failed onFinish()", listener, ex);
+            }
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "CompositeRepeatListener{" + "listeners=" + listeners + '}';
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.ThreadSafe;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+
+/**
+ * Bounds how many Test Methods, and iterations of {@linkplain Repeat repeated} methods, a runner has running at the
+ * same time, and owns the threads they run on.
+ * <p>
+ * A Test Method holds a permit while it runs, and runs its own iterations. Additional iteration workers only use the
+ * permits that are free, so methods and iterations together never exceed the limit, and a method never waits on
+ * permits held by another. A single Executor is shared by all of them, and created when it is first needed.
+ *
+ * @author SirWellington
+ * @see RunConcurrently
+ */
+@Internal
+@ThreadSafe
+final class ConcurrencyLimit
+{
+
+    private final static Logger LOG = LoggerFactory.getLogger(ConcurrencyLimit.class);
+
+    private final String namePrefix;
+    private final int maxConcurrency;
+    private final boolean useVirtualThreads;
+    private final Semaphore permits;
+
+    //Guarded by this
+    private ExecutorService executor;
+
+    ConcurrencyLimit(String namePrefix, int maxConcurrency, boolean useVirtualThreads)
+    {
+        checkNotNull(namePrefix, "namePrefix is null");
+        checkThat(maxConcurrency > 0, "maxConcurrency must be > 0");
+
+        this.namePrefix = namePrefix;
+        this.maxConcurrency = maxConcurrency;
+        this.useVirtualThreads = useVirtualThreads;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    int getMaxConcurrency()
+    {
+        return maxConcurrency;
+    }
+
+    /**
+     * Waits for a permit.
+     */
+    void acquire()
+    {
+        permits.acquireUninterruptibly();
+    }
+
+    /**
+     * Takes up to the wanted number of permits, without waiting.
+     *
+     * @return The number of permits taken.
+     */
+    int tryAcquire(int wanted)
+    {
+        int acquired = 0;
+
+        while (acquired < wanted && permits.tryAcquire())
+        {
+            ++acquired;
+        }
+
+        return acquired;
+    }
+
+    void release()
+    {
+        permits.release();
+    }
+
+    /**
+     * Runs a task that holds a permit, and releases the permit once the task finishes, or if it can't be run.
+     */
+    <T> Future<T> submit(final Callable<T> task)
+    {
+        checkNotNull(task, "task is null");
+
+        try
+        {
+            return executor().submit(new Callable<T>()
+            {
+                @Override
+                public T call() throws Exception
+                {
+                    try
+                    {
+                        return task.call();
+                    }
+                    finally
+                    {
+                        permits.release();
+                    }
+                }
+            });
+        }
+        catch (RuntimeException ex)
+        {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Waits until no permits are held, that is, until every task has finished.
+     */
+    void awaitIdle()
+    {
+        permits.acquireUninterruptibly(maxConcurrency);
+        permits.release(maxConcurrency);
+    }
+
+    /**
+     * Stops the threads. A new Executor is created if the limit is used again.
+     */
+    synchronized void shutdown()
+    {
+        if (executor == null)
+        {
+            return;
+        }
+
+        executor.shutdown();
+
+        try
+        {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES))
+            {
+                LOG.debug("Still waiting on concurrent tests to finish");
+            }
+        }
+        catch (InterruptedException ex)
+        {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            executor = null;
+        }
+    }
+
+    private synchronized ExecutorService executor()
+    {
+        if (executor == null)
+        {
+            executor = TestExecutors.newExecutor(namePrefix, maxConcurrency, useVirtualThreads);
+        }
+
+        return executor;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ConcurrencyLimit{" + "maxConcurrency=" + maxConcurrency + ", useVirtualThreads=" + useVirtualThreads + '}';
+    }
+
+}
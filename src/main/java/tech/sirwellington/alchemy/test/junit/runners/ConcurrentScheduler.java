@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.concurrent.Callable;
+
+import org.junit.runners.model.RunnerScheduler;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+
+/**
+ * Schedules child tests onto the threads of a {@link ConcurrencyLimit}, running at most {@code maxConcurrency}
+ * of them at a time. Once all children finish, the threads are shut down.
+ *
+ * @author SirWellington
+ * @see RunConcurrently
+ */
+@Internal
+class ConcurrentScheduler implements RunnerScheduler
+{
+
+    private final ConcurrencyLimit limit;
+
+    ConcurrentScheduler(ConcurrencyLimit limit)
+    {
+        checkNotNull(limit, "limit is null");
+
+        this.limit = limit;
+    }
+
+    @Override
+    public void schedule(final Runnable childStatement)
+    {
+        //Block the scheduling thread once the limit is reached, instead of queueing unboundedly
+        limit.acquire();
+
+        limit.submit(new Callable<Void>()
+        {
+            @Override
+            public Void call()
+            {
+                childStatement.run();
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void finished()
+    {
+        limit.awaitIdle();
+        limit.shutdown();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ConcurrentScheduler{" + "limit=" + limit + '}';
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.runners.model.FrameworkMethod;
+
+/**
+ * Prints the name of each repeated test when it starts, and a short synopsis when it finishes, to {@link System#out}:
+ * <pre>
+ * testValidContentType()
+ * testValidContentType() finished in 7ms
+ *   Runs: 100
+ *   Latency: p50=52us | p90=81us | p99=140us | max=1.2ms | mean=60us | stdDev=25us
+ * </pre>
+ * This is the default {@link RepeatListener}. Individual iterations are not printed. The synopsis names
+ * its test and is printed all at once, so it can be attributed when tests run concurrently.
+ *
+ * @author SirWellington
+ */
+public class ConsoleRepeatListener implements RepeatListener
+{
+
+    @Override
+    public void onStart(FrameworkMethod method, int iterations)
+    {
+        PrintStream out = System.out;
+
+        //Print blank line
+        out.println();
+
+        //Print test name
+        out.println(method.getName() + "()");
+    }
+
+    @Override
+    public void onIteration(FrameworkMethod method, int iteration, long durationNanos)
+    {
+    }
+
+    @Override
+    public void onFinish(FrameworkMethod method, RepeatResult result)
+    {
+        PrintStream out = System.out;
+        StringBuilder synopsis = new StringBuilder();
+
+        synopsis.append(String.format("%s() finished in %dms%n",
+                                      method.getName(),
+                                      result.getTotalDuration(TimeUnit.MILLISECONDS)));
+
+        if (result.getIterations() > 1)
+        {
+            synopsis.append(String.format("  Runs: %d%n", result.getIterations()));
+
+            LatencyHistogram latencies = result.getLatencies();
+            synopsis.append(String.format("  Latency: p50=%s | p90=%s | p99=%s | max=%s | mean=%s | stdDev=%s%n",
+                                          format(latencies.getMedian()),
+                                          format(latencies.getP90()),
+                                          format(latencies.getP99()),
+                                          format(latencies.getMax()),
+                                          format(latencies.getMean()),
+                                          format(latencies.getStdDeviation())));
+        }
+
+        //Print it in one call, so that concurrent tests don't interleave their lines
+        out.print(synopsis);
+    }
+
+    static String format(double nanos)
+    {
+        if (nanos < TimeUnit.MICROSECONDS.toNanos(1))
+        {
+            return String.format("%.0fns", nanos);
+        }
+
+        if (nanos < TimeUnit.MILLISECONDS.toNanos(1))
+        {
+            return String.format("%.3gus", LatencyHistogram.convert(nanos, TimeUnit.MICROSECONDS));
+        }
+
+        if (nanos < TimeUnit.SECONDS.toNanos(1))
+        {
+            return String.format("%.3gms", LatencyHistogram.convert(nanos, TimeUnit.MILLISECONDS));
+        }
+
+        return String.format("%.3gs", LatencyHistogram.convert(nanos, TimeUnit.SECONDS));
+    }
+
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+import tech.sirwellington.alchemy.annotations.concurrency.ThreadSafe;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+
+/**
+ * Writes values into a single {@link Field}.
+ * <p>
+ * The field is unreflected once into a {@link MethodHandle}, so that writes don't pay for
+ * reflection or accessibility checks. Primitive fields also get a setter of their exact
+ * primitive type, so values can be written without boxing.
+ *
+ * @author SirWellington
+ */
+@Internal
+@Immutable
+@ThreadSafe
+final class FieldWriter
+{
+
+    private final static Logger LOG = LoggerFactory.getLogger(FieldWriter.class);
+
+    private final static MethodType OBJECT_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final Class<?> type;
+
+    /*
+     * (Object, Object) -> void
+     */
+    private final MethodHandle setter;
+
+    /*
+     * (Object, primitive) -> void, or null if the field is not a primitive.
+     */
+    private final MethodHandle primitiveSetter;
+
+    private FieldWriter(Field field, MethodHandle setter, MethodHandle primitiveSetter)
+    {
+        this.field = field;
+        this.type = field.getType();
+        this.setter = setter;
+        this.primitiveSetter = primitiveSetter;
+    }
+
+    static FieldWriter forField(Field field) throws IllegalArgumentException
+    {
+        checkNotNull(field, "field is null");
+
+        field.setAccessible(true);
+
+        MethodHandle rawSetter = tryToUnreflect(field);
+
+        if (rawSetter == null)
+        {
+            return new FieldWriter(field, null, null);
+        }
+
+        if (Modifier.isStatic(field.getModifiers()))
+        {
+            rawSetter = MethodHandles.dropArguments(rawSetter, 0, Object.class);
+        }
+
+        MethodHandle setter = rawSetter.asType(OBJECT_SETTER);
+        MethodHandle primitiveSetter = null;
+
+        Class<?> type = field.getType();
+        if (type.isPrimitive())
+        {
+            primitiveSetter = rawSetter.asType(MethodType.methodType(void.class, Object.class, type));
+        }
+
+        return new FieldWriter(field, setter, primitiveSetter);
+    }
+
+    private static MethodHandle tryToUnreflect(Field field)
+    {
+        try
+        {
+            return MethodHandles.lookup().unreflectSetter(field);
+        }
+        catch (IllegalAccessException ex)
+        {
+            //Final fields cannot be unreflected; fall back to plain reflection.
+            LOG.debug("Could not unreflect {}. Using reflection instead.", field, ex);
+            return null;
+        }
+    }
+
+    Field getField()
+    {
+        return field;
+    }
+
+    void set(Object target, Object value) throws IllegalArgumentException, IllegalAccessException
+    {
+        if (setter == null)
+        {
+            field.set(target, value);
+            return;
+        }
+
+        try
+        {
+            setter.invokeExact(target, value);
+        }
+        catch (Throwable ex)
+        {
+            throw rethrow(ex, value);
+        }
+    }
+
+    void setInt(Object target, int value) throws IllegalArgumentException, IllegalAccessException
+    {
+        checkPrimitive(int.class);
+
+        if (primitiveSetter == null)
+        {
+            field.setInt(target, value);
+            return;
+        }
+
+        try
+        {
+            primitiveSetter.invokeExact(target, value);
+        }
+        catch (Throwable ex)
+        {
+            throw rethrow(ex, value);
+        }
+    }
+
+    void setLong(Object target, long value) throws IllegalArgumentException, IllegalAccessException
+    {
+        checkPrimitive(long.class);
+
+        if (primitiveSetter == null)
+        {
+            field.setLong(target, value);
+            return;
+        }
+
+        try
+        {
+            primitiveSetter.invokeExact(target, value);
+        }
+        catch (Throwable ex)
+        {
+            throw rethrow(ex, value);
+        }
+    }
+
+    void setDouble(Object target, double value) throws IllegalArgumentException, IllegalAccessException
+    {
+        checkPrimitive(double.class);
+
+        if (primitiveSetter == null)
+        {
+            field.setDouble(target, value);
+            return;
+        }
+
+        try
+        {
+            primitiveSetter.invokeExact(target, value);
+        }
+        catch (Throwable ex)
+        {
+            throw rethrow(ex, value);
+        }
+    }
+
+    void setFloat(Object target, float value) throws IllegalArgumentException, IllegalAccessException
+    {
+        checkPrimitive(float.class);
+
+        if (primitiveSetter == null)
+        {
+            field.setFloat(target, value);
+            return;
+        }
+
+        try
+        {
+            primitiveSetter.invokeExact(target, value);
+        }
+        catch (Throwable ex)
+        {
+            throw rethrow(ex, value);
+        }
+    }
+
+    void setBoolean(Object target, boolean value) throws IllegalArgumentException, IllegalAccessException
+    {
+        checkPrimitive(boolean.class);
+
+        if (primitiveSetter == null)
+        {
+            field.setBoolean(target, value);
+            return;
+        }
+
+        try
+        {
+            primitiveSetter.invokeExact(target, value);
+        }
+        catch (Throwable ex)
+        {
+            throw rethrow(ex, value);
+        }
+    }
+
+    /*
+     * Called on every primitive write, so the message is only built when the check fails.
+     */
+    private void checkPrimitive(Class<?> expectedType) throws IllegalArgumentException
+    {
+        if (type != expectedType)
+        {
+            throw new IllegalArgumentException("Field " + field.getName() + " is not of type " + expectedType);
+        }
+    }
+
+    private RuntimeException rethrow(Throwable ex, Object value)
+    {
+        if (ex instanceof ClassCastException || ex instanceof NullPointerException)
+        {
+            //Keep the same contract as Field.set()
+            return new IllegalArgumentException("Cannot set " + field + " to " + value, ex);
+        }
+
+        if (ex instanceof RuntimeException)
+        {
+            return (RuntimeException) ex;
+        }
+
+        if (ex instanceof Error)
+        {
+            throw (Error) ex;
+        }
+
+        return new IllegalArgumentException("Failed to set " + field, ex);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "FieldWriter{" + "field=" + field + ", unreflected=" + (setter != null) + '}';
+    }
+
+}
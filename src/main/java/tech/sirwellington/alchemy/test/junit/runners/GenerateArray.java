@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+import static tech.sirwellington.alchemy.test.junit.runners.RandomGenerators.*;
+
+/**
+ * Used in with the {@link AlchemyTestRunner}, this Annotations allows the
+ * Runtime Injection of Generated primitive arrays: {@code int[]}, {@code long[]}, {@code double[]},
+ * {@code float[]}, {@code byte[]} and {@code char[]}.
+ * <p>
+ * Arrays are filled in bulk, without boxing any elements, so even arrays of millions of elements are cheap
+ * to generate.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * `@RunWith(AlchemyTestRunner.class)
+ * public class ExampleTest
+ * {
+ *   `@GenerateArray(size = 1_000_000, min = 0, max = 1000)
+ *    private int[] numbers;
+ *
+ *    ...
+ * }
+ * }
+ * </pre>
+ * Note, ticks (`) used to escape Javadocs.
+ *
+ * @author SirWellington
+ * @see GenerateList
+ */
+@Target(FIELD)
+@Retention(RUNTIME)
+public @interface GenerateArray
+{
+
+    /**
+     * The number of elements in the array. Defaults to 10. This number must be {@code > 0}.
+     */
+    int size() default 10;
+
+    /**
+     * The smallest value of an element, inclusive. When {@code min} and {@code max} are both left at 0,
+     * {@code int[]}, {@code long[]} and {@code byte[]} elements can have any value, {@code double[]} and
+     * {@code float[]} elements are in {@code [0, 1)}, and {@code char[]} elements are alphanumeric.
+     * <p>
+     * For fractional bounds on {@code double[]} and {@code float[]}, use {@link #minDouble()} and {@link #maxDouble()}.
+     */
+    long min() default 0;
+
+    /**
+     * The largest value of an element, exclusive. The range must fit in the type of the array's elements,
+     * so for example, the largest {@code max} of a {@code byte[]} is {@code 128}, and of an {@code int[]}
+     * is {@code 2147483648}.
+     */
+    long max() default 0;
+
+    /**
+     * The smallest value of a {@code double[]} or {@code float[]} element, inclusive. Cannot be combined
+     * with {@link #min()} and {@link #max()}, or used on other arrays.
+     */
+    double minDouble() default 0.0;
+
+    /**
+     * The largest value of a {@code double[]} or {@code float[]} element, exclusive.
+     */
+    double maxDouble() default 0.0;
+
+    @Internal
+    @NonInstantiable
+    class Values
+    {
+
+        private Values() throws IllegalAccessException
+        {
+            throw new IllegalAccessException("cannot instantiate");
+        }
+
+        static AlchemyGenerator<?> createGeneratorFor(GenerateArray annotation, Class<?> arrayType) throws IllegalArgumentException
+        {
+            checkNotNull(annotation, "missing annotation");
+            checkNotNull(arrayType, "missing array type");
+            checkThat(arrayType.isArray() && arrayType.getComponentType().isPrimitive(),
+                      "@GenerateArray can only be used on primitive arrays");
+
+            int size = annotation.size();
+            checkThat(size > 0, "@GenerateArray: size must be > 0");
+
+            long min = annotation.min();
+            long max = annotation.max();
+            boolean hasRange = min != 0 || max != 0;
+            checkThat(!hasRange || min < max, "@GenerateArray: min must be less than max");
+
+            Class<?> type = arrayType.getComponentType();
+            boolean isFloatingPoint = type == double.class || type == float.class;
+
+            double minDouble = annotation.minDouble();
+            double maxDouble = annotation.maxDouble();
+            boolean hasDoubleRange = minDouble != 0.0 || maxDouble != 0.0;
+
+            if (hasDoubleRange)
+            {
+                checkThat(isFloatingPoint, "@GenerateArray: minDouble and maxDouble can only be used on double[] and float[]");
+                checkThat(!hasRange, "@GenerateArray: use either min and max, or minDouble and maxDouble");
+                checkThat(minDouble < maxDouble, "@GenerateArray: minDouble must be less than maxDouble");
+            }
+            else if (hasRange)
+            {
+                minDouble = min;
+                maxDouble = max;
+            }
+            else
+            {
+                minDouble = 0.0;
+                maxDouble = 1.0;
+            }
+
+            if (type == int.class)
+            {
+                if (!hasRange)
+                {
+                    return intArrays(size);
+                }
+
+                checkThat(min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE + 1L, "@GenerateArray: range must fit in an int");
+                return intArrays(size, min, max);
+            }
+
+            if (type == long.class)
+            {
+                return hasRange ? longArrays(size, min, max) : longArrays(size);
+            }
+
+            if (type == double.class)
+            {
+                return doubleArrays(size, minDouble, maxDouble);
+            }
+
+            if (type == float.class)
+            {
+                checkThat((float) minDouble < (float) maxDouble, "@GenerateArray: range is too narrow for a float");
+                return floatArrays(size, (float) minDouble, (float) maxDouble);
+            }
+
+            if (type == byte.class)
+            {
+                if (!hasRange)
+                {
+                    return byteArrays(size);
+                }
+
+                checkThat(min >= Byte.MIN_VALUE && max <= Byte.MAX_VALUE + 1, "@GenerateArray: range must fit in a byte");
+                return byteArrays(size, (int) min, (int) max);
+            }
+
+            if (type == char.class)
+            {
+                if (!hasRange)
+                {
+                    return charArrays(size, BufferedStringGenerator.ALPHANUMERIC);
+                }
+
+                checkThat(min >= Character.MIN_VALUE && max <= Character.MAX_VALUE + 1, "@GenerateArray: range must fit in a char");
+                return charArrays(size, (int) min, (int) max);
+            }
+
+            throw new IllegalArgumentException("@GenerateArray does not support " + arrayType.getSimpleName());
+        }
+
+    }
+
+}
@@ -23,7 +23,6 @@ import java.lang.annotation.Target;
 import tech.sirwellington.alchemy.annotations.access.Internal;
 import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
 import tech.sirwellington.alchemy.generator.AlchemyGenerator;
-import tech.sirwellington.alchemy.generator.BooleanGenerators;
 
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
@@ -68,7 +67,7 @@ public @interface GenerateBoolean
         static AlchemyGenerator<Boolean> createGeneratorFor(GenerateBoolean annotation)
         {
             checkNotNull(annotation, "annotation is null");
-            return BooleanGenerators.booleans();
+            return RandomGenerators.booleans();
         }
     }
 }
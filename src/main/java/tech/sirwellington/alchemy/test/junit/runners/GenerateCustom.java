@@ -56,7 +56,8 @@ public @interface GenerateCustom
 
     /**
      * Specify the Java Class to use to generate values. This class must
-     * be an {@link AlchemyGenerator}.
+     * be an {@link AlchemyGenerator}, with a public no-argument constructor.
+     * A new instance is created for each value injected, so it doesn't need to be thread-safe.
      */
     Class<? extends AlchemyGenerator<?>> value();
 
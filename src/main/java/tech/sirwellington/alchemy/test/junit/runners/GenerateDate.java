@@ -22,7 +22,6 @@ import java.util.Date;
 import tech.sirwellington.alchemy.annotations.access.Internal;
 import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
 import tech.sirwellington.alchemy.generator.AlchemyGenerator;
-import tech.sirwellington.alchemy.generator.DateGenerators;
 
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
@@ -31,7 +30,7 @@ import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
 
 /**
  * Used in with the {@link AlchemyTestRunner}, this Annotations allows the Runtime Injection of Generated {@linkplain Date Dates}
- * using {@link DateGenerators} from the {@link AlchemyGenerator} library.
+ * using the thread's {@link RandomSource}.
  * <p>
  * Example:
  * <pre>
@@ -98,17 +97,17 @@ public @interface GenerateDate
             switch (annotation.value())
             {
                 case PAST:
-                    return DateGenerators.pastDates();
+                    return RandomGenerators.pastDates();
                 case PRESENT:
-                    return DateGenerators.presentDates();
+                    return RandomGenerators.presentDates();
                 case FUTURE:
-                    return DateGenerators.futureDates();
+                    return RandomGenerators.futureDates();
                 case ANYTIME:
-                    return DateGenerators.anyTime();
+                    return RandomGenerators.anyTime();
                 case RANGE:
                     return datesInRange(annotation.startDate(), annotation.endDate());
                 default:
-                    return DateGenerators.anyTime();
+                    return RandomGenerators.anyTime();
             }
         }
 
@@ -116,10 +115,7 @@ public @interface GenerateDate
         {
             checkThat(startDate < endDate, "startDate must come before endDate");
 
-            Date start = new Date(startDate);
-            Date end = new Date(endDate);
-
-            return DateGenerators.datesBetween(start, end);
+            return RandomGenerators.datesBetween(startDate, endDate);
         }
     }
 
@@ -24,11 +24,11 @@ import tech.sirwellington.alchemy.generator.AlchemyGenerator;
 
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
-import static tech.sirwellington.alchemy.generator.NumberGenerators.*;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
 import static tech.sirwellington.alchemy.test.junit.runners.GenerateDouble.Type.POSITIVE;
 import static tech.sirwellington.alchemy.test.junit.runners.GenerateDouble.Type.RANGE;
+import static tech.sirwellington.alchemy.test.junit.runners.RandomGenerators.*;
 
 /**
  * Used in with the {@link AlchemyTestRunner}, this Annotations allows the
@@ -83,7 +83,7 @@ public @interface GenerateDouble
             throw new IllegalAccessException("cannot instantiate");
         }
 
-        static AlchemyGenerator<Double> createGeneratorFor(GenerateDouble annotation)
+        static DoubleGenerator createGeneratorFor(GenerateDouble annotation)
         {
             checkNotNull(annotation, "missing annotation");
 
@@ -102,11 +102,11 @@ public @interface GenerateDouble
             switch (type)
             {
                 case POSITIVE:
-                    return positiveDoubles();
+                    return doubles(0.1, Double.MAX_VALUE);
                 case NEGATIVE:
-                    return negativeDoubles();
+                    return doubles(-Double.MAX_VALUE, -0.01);
                 default:
-                    return anyDoubles();
+                    return doubles(-Double.MAX_VALUE, Double.MAX_VALUE);
             }
         }
 
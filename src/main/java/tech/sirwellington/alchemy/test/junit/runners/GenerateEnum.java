@@ -21,15 +21,14 @@ import java.lang.annotation.Target;
 import tech.sirwellington.alchemy.annotations.access.Internal;
 import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
 import tech.sirwellington.alchemy.generator.AlchemyGenerator;
-import tech.sirwellington.alchemy.generator.EnumGenerators;
 
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
 
 /**
- * Used in with the {@link AlchemyTestRunner}, this Annotations allows the Runtime Injection of Enum values, using
- * {@link EnumGenerators} from the {@link AlchemyGenerator} library.
+ * Used in with the {@link AlchemyTestRunner}, this Annotations allows the Runtime Injection of Enum values, chosen
+ * uniformly from the Enum's constants.
  * <p>
  * Example:
  * <pre>
@@ -77,7 +76,7 @@ public @interface GenerateEnum
             checkNotNull(annotation, "missing annotation");
             checkNotNull(enumClass, "missing enum class");
 
-            return EnumGenerators.enumValueOf(enumClass);
+            return RandomGenerators.enumValues(enumClass);
         }
     }
 
@@ -24,9 +24,9 @@ import tech.sirwellington.alchemy.generator.AlchemyGenerator;
 
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
-import static tech.sirwellington.alchemy.generator.NumberGenerators.*;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+import static tech.sirwellington.alchemy.test.junit.runners.RandomGenerators.*;
 
 /**
  * Used in with the {@link AlchemyTestRunner}, this Annotations allows the
@@ -81,7 +81,7 @@ public @interface GenerateFloat
             throw new IllegalAccessException("cannot instantiate");
         }
 
-        static AlchemyGenerator<Float> createGeneratorFor(GenerateFloat annotation)
+        static FloatGenerator createGeneratorFor(GenerateFloat annotation)
         {
             checkNotNull(annotation, "missing annotation");
 
@@ -93,28 +93,18 @@ public @interface GenerateFloat
                 float min = annotation.min();
                 float max = annotation.max();
                 checkThat(min < max, "@GenerateDouble: min must be less than max");
-
-                final AlchemyGenerator<Double> doubles = doubles(min, max);
-
-                return new AlchemyGenerator<Float>()
-                {
-                    @Override
-                    public Float get()
-                    {
-                        return doubles.get().floatValue();
-                    }
-                };
+                return floats(min, max);
             }
 
             //Cover remaining cases
             switch (type)
             {
                 case POSITIVE:
-                    return positiveFloats();
+                    return floats(0.1f, Float.MAX_VALUE);
                 case NEGATIVE:
-                    return negativeFloats();
+                    return floats(-Float.MAX_VALUE, -0.01f);
                 default:
-                    return anyFloats();
+                    return floats(-Float.MAX_VALUE, Float.MAX_VALUE);
             }
         }
 
@@ -24,11 +24,11 @@ import tech.sirwellington.alchemy.generator.AlchemyGenerator;
 
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
-import static tech.sirwellington.alchemy.generator.NumberGenerators.*;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
 import static tech.sirwellington.alchemy.test.junit.runners.GenerateInteger.Type.POSITIVE;
 import static tech.sirwellington.alchemy.test.junit.runners.GenerateInteger.Type.RANGE;
+import static tech.sirwellington.alchemy.test.junit.runners.RandomGenerators.*;
 
 /**
  * Used in with the {@link AlchemyTestRunner}, this Annotations allows the
@@ -83,7 +83,7 @@ public @interface GenerateInteger
             throw new IllegalAccessException("cannot instantiate");
         }
 
-        static AlchemyGenerator<Integer> createGeneratorFor(GenerateInteger annotation)
+        static IntGenerator createGeneratorFor(GenerateInteger annotation)
         {
             checkNotNull(annotation, "missing annotation");
 
@@ -102,9 +102,9 @@ public @interface GenerateInteger
             switch (type)
             {
                 case POSITIVE:
-                    return positiveIntegers();
+                    return integers(1, Integer.MAX_VALUE);
                 case NEGATIVE:
-                    return negativeIntegers();
+                    return integers(-Integer.MAX_VALUE + 1, 0);
                 default:
                     return integers(Integer.MIN_VALUE, Integer.MAX_VALUE);
             }
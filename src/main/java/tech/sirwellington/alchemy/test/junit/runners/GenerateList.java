@@ -17,9 +17,6 @@ package tech.sirwellington.alchemy.test.junit.runners;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
-import java.nio.ByteBuffer;
-import java.time.Instant;
-import java.util.Date;
 import java.util.List;
 
 import tech.sirwellington.alchemy.annotations.access.Internal;
@@ -29,10 +26,6 @@ import tech.sirwellington.alchemy.generator.*;
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static tech.sirwellington.alchemy.generator.CollectionGenerators.listOf;
-import static tech.sirwellington.alchemy.generator.NumberGenerators.positiveIntegers;
-import static tech.sirwellington.alchemy.generator.NumberGenerators.positiveLongs;
-import static tech.sirwellington.alchemy.generator.ObjectGenerators.pojos;
-import static tech.sirwellington.alchemy.generator.StringGenerators.alphanumericStrings;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
 
@@ -136,47 +129,10 @@ public @interface GenerateList
             Class<?> genericType = annotation.value();
             checkNotNull(genericType, "annotation is missing generic type information");
 
-            if (genericType == String.class)
-            {
-                return alphanumericStrings();
-            }
-
-            if (genericType == Integer.class)
-            {
-                return positiveIntegers();
-            }
-
-            if (genericType == Long.class)
-            {
-                return positiveLongs();
-            }
-
-            if (genericType == Double.class)
-            {
-                return NumberGenerators.doubles(0, 10000);
-            }
-
-            if (Date.class.isAssignableFrom(genericType))
-            {
-                return DateGenerators.anyTime();
-            }
-
-            if (genericType == Instant.class)
-            {
-                return TimeGenerators.anytime();
-            }
-
-            if (genericType == Boolean.class)
-            {
-                return BooleanGenerators.booleans();
-            }
-
-            if (ByteBuffer.class.isAssignableFrom(genericType))
-            {
-                return BinaryGenerators.byteBuffers(1024);
-            }
+            AlchemyGenerator<?> generator = TypeGenerators.forType(genericType);
+            checkThat(generator != null, "cannot generate values of type: " + genericType.getName());
 
-            return pojos(genericType);
+            return generator;
         }
 
         private static boolean canInstantiate(Class<? extends AlchemyGenerator<?>> customGeneratorClass)
@@ -24,12 +24,11 @@ import tech.sirwellington.alchemy.generator.AlchemyGenerator;
 
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
-import static tech.sirwellington.alchemy.generator.NumberGenerators.longs;
-import static tech.sirwellington.alchemy.generator.NumberGenerators.positiveLongs;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
 import static tech.sirwellington.alchemy.test.junit.runners.GenerateLong.Type.POSITIVE;
 import static tech.sirwellington.alchemy.test.junit.runners.GenerateLong.Type.RANGE;
+import static tech.sirwellington.alchemy.test.junit.runners.RandomGenerators.*;
 
 /**
  * Used in with the {@link AlchemyTestRunner}, this Annotations allows the
@@ -83,7 +82,7 @@ public @interface GenerateLong
             throw new IllegalAccessException("cannot instantiate");
         }
 
-        static AlchemyGenerator<Long> createGeneratorFor(GenerateLong annotation)
+        static LongGenerator createGeneratorFor(GenerateLong annotation)
         {
             checkNotNull(annotation, "missing annotation");
 
@@ -102,7 +101,7 @@ public @interface GenerateLong
             switch (type)
             {
                 case POSITIVE:
-                    return positiveLongs();
+                    return longs(1, Long.MAX_VALUE);
                 case NEGATIVE:
                     return longs(Long.MIN_VALUE, 0);
                 default:
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+import tech.sirwellington.alchemy.annotations.concurrency.ThreadSafe;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+
+/**
+ * Used with any of the {@code Generate*} Annotations, this Annotation generates a field's value only once per
+ * Test Class, and injects that same value into every test, and every {@linkplain Repeat repetition}.
+ * <p>
+ * Use it for data that is expensive to generate and that the tests only read, like large Lists or POJO graphs.
+ * Since the value is shared, tests must not modify it.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * `@RunWith(AlchemyTestRunner.class)
+ * `@Repeat(1000)
+ * public class ExampleTest
+ * {
+ *   `@GenerateOnce
+ *   `@GenerateList(value = Order.class, size = 10_000)
+ *    private List<Order> orders;
+ *
+ *    ...
+ * }
+ * }
+ * </pre>
+ * Note, ticks (`) used to escape Javadocs.
+ * <p>
+ * The value is generated with the {@link RandomSource} of the first iteration that needs it, so
+ * {@linkplain ReplaySeed replaying} a later iteration's seed doesn't reproduce it.
+ *
+ * @author SirWellington
+ * @see GenerateList
+ * @see GeneratePojo
+ */
+@Target(FIELD)
+@Retention(RUNTIME)
+public @interface GenerateOnce
+{
+
+    @Internal
+    @NonInstantiable
+    class Values
+    {
+
+        private Values() throws IllegalAccessException
+        {
+            throw new IllegalAccessException("cannot instantiate");
+        }
+
+        /**
+         * @return A generator that returns the first value of the given generator, forever.
+         */
+        static <T> AlchemyGenerator<T> createGeneratorFor(GenerateOnce annotation, AlchemyGenerator<T> generator)
+        {
+            checkNotNull(annotation, "missing annotation");
+            checkNotNull(generator, "missing generator");
+
+            return new OnceGenerator<>(generator);
+        }
+
+        @Internal
+        @ThreadSafe
+        private static final class OnceGenerator<T> implements AlchemyGenerator<T>
+        {
+
+            private final AlchemyGenerator<T> generator;
+
+            private volatile boolean generated = false;
+            private T value;
+
+            private OnceGenerator(AlchemyGenerator<T> generator)
+            {
+                this.generator = generator;
+            }
+
+            @Override
+            public T get()
+            {
+                if (!generated)
+                {
+                    synchronized (this)
+                    {
+                        if (!generated)
+                        {
+                            value = generator.get();
+                            generated = true;
+                        }
+                    }
+                }
+
+                return value;
+            }
+
+            @Override
+            public String toString()
+            {
+                return "OnceGenerator{" + "generator=" + generator + '}';
+            }
+
+        }
+
+    }
+
+}
@@ -22,7 +22,6 @@ import java.lang.annotation.Target;
 import tech.sirwellington.alchemy.annotations.access.Internal;
 import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
 import tech.sirwellington.alchemy.generator.AlchemyGenerator;
-import tech.sirwellington.alchemy.generator.ObjectGenerators;
 
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
@@ -30,13 +29,89 @@ import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
 
 
 /**
+ * Used in with the {@link AlchemyTestRunner}, this Annotations allows the Runtime Injection of generated POJOs.
+ * <p>
+ * Nested POJOs are generated too. To keep large domain models predictable, the shape of the graph is bounded
+ * by {@link #maxDepth()} and {@link #maxCollectionSize()}, and {@link #cycles()} decides what happens when a POJO
+ * refers back to a class that is already being generated.
+ * <p>
+ * Java records and Kotlin data classes can only receive those nested POJOs through their constructor, so when
+ * {@code maxDepth} or {@code cycles} leaves one {@code null}, it is passed to the constructor as {@code null}.
+ * Kotlin rejects {@code null} for a non-null parameter, and generation then fails with an
+ * {@link IllegalStateException} that names the path to it. Make such parameters nullable, or raise {@code maxDepth}.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * `@RunWith(AlchemyTestRunner.class)
+ * public class ExampleTest
+ * {
+ *   `@GeneratePojo(maxDepth = 3, cycles = REUSE)
+ *    private Organization organization;
+ *
+ *    ...
+ * }
+ * }
+ * </pre>
+ * Note, ticks (`) used to escape Javadocs.
+ *
  * @author SirWellington
+ * @see GenerateList
  */
 @Target(FIELD)
 @Retention(RUNTIME)
 public @interface GeneratePojo
 {
 
+    /**
+     * How many levels of nested POJOs to generate below this one. Deeper POJOs are left {@code null}, and
+     * Collections of them are left empty. Defaults to 8.
+     *
+     * @return
+     */
+    int maxDepth() default PojoSettings.DEFAULT_MAX_DEPTH;
+
+    /**
+     * The largest {@link java.util.List}, {@link java.util.Set} or {@link java.util.Map} to generate, at any level.
+     * Defaults to 25.
+     *
+     * @return
+     */
+    int maxCollectionSize() default TypeGenerators.MAX_COLLECTION_SIZE;
+
+    /**
+     * What to do when a POJO refers to a class that is already being generated above it.
+     * Defaults to {@link Cycles#LEAVE_NULL}.
+     *
+     * @return
+     */
+    Cycles cycles() default Cycles.LEAVE_NULL;
+
+    /**
+     * When {@code > 0}, Strings and boxed numbers are drawn from a pool of up to this many values per type, shared
+     * across the whole graph, instead of each being generated anew. Enums are always shared. Defaults to 0, no pool.
+     *
+     * @return
+     */
+    int leafPoolSize() default 0;
+
+    public enum Cycles
+    {
+        /**
+         * The field, or constructor parameter, is left {@code null}.
+         */
+        LEAVE_NULL,
+        /**
+         * The instance already being generated is reused, so the generated graph contains the cycle.
+         * Constructor parameters are left {@code null}, since their instance doesn't exist yet.
+         */
+        REUSE,
+        /**
+         * Generation fails with an {@link IllegalStateException}.
+         */
+        FAIL;
+    }
+
     @Internal
     @NonInstantiable
     static class Values
@@ -51,7 +126,8 @@ public @interface GeneratePojo
             checkNotNull(classOfPojo, "missing classOfPojo");
             checkNotNull(annotation, "missing annotation");
 
-            return ObjectGenerators.pojos(classOfPojo);
+            PojoSettings settings = PojoSettings.from(annotation);
+            return PojoGenerator.of(classOfPojo).withSettings(settings);
         }
     }
 }
@@ -18,14 +18,16 @@ package tech.sirwellington.alchemy.test.junit.runners;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import tech.sirwellington.alchemy.annotations.access.Internal;
 import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
 import tech.sirwellington.alchemy.generator.AlchemyGenerator;
 
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
-import static tech.sirwellington.alchemy.generator.StringGenerators.*;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
 
@@ -109,6 +111,12 @@ public @interface GenerateString
     static class Values
     {
 
+        /*
+         * The generators are stateless, so identical annotations, across all fields and Test Classes,
+         * can share one instance, even across parallel iterations.
+         */
+        private final static ConcurrentMap<Key, AlchemyGenerator<String>> GENERATORS = new ConcurrentHashMap<>();
+
         private Values() throws IllegalAccessException
         {
             throw new IllegalAccessException("cannot instantiate");
@@ -124,22 +132,81 @@ public @interface GenerateString
             Type type = annotation.value();
             checkNotNull(type, "@GenerateString Annotation missing type");
 
+            //UUIDs ignore the length
+            Key key = new Key(type, type == Type.UUID ? 0 : length);
+            AlchemyGenerator<String> generator = GENERATORS.get(key);
+
+            if (generator != null)
+            {
+                return generator;
+            }
+
+            generator = newGenerator(type, length);
+
+            AlchemyGenerator<String> existing = GENERATORS.putIfAbsent(key, generator);
+            return existing != null ? existing : generator;
+        }
+
+        private static AlchemyGenerator<String> newGenerator(Type type, int length)
+        {
             switch (type)
             {
                 case ALPHABETIC:
-                    return alphabeticStrings(length);
+                    return new BufferedStringGenerator(BufferedStringGenerator.ALPHABETIC, length);
                 case ALPHANUMERIC:
-                    return alphanumericStrings(length);
+                    return new BufferedStringGenerator(BufferedStringGenerator.ALPHANUMERIC, length);
                 case HEXADECIMAL:
-                    return hexadecimalString(length);
+                    return new BufferedStringGenerator(BufferedStringGenerator.HEXADECIMAL, length);
                 case NUMERIC:
-                    return numericStrings(length);
+                    return new BufferedStringGenerator(BufferedStringGenerator.NUMERIC, length);
                 case UUID:
-                    return uuids;
+                    return RandomGenerators.uuids();
                 default:
-                    return alphabeticStrings(length);
+                    return new BufferedStringGenerator(BufferedStringGenerator.ALPHABETIC, length);
             }
+        }
+
+        @Immutable
+        private static final class Key
+        {
 
+            private final Type type;
+            private final int length;
+
+            Key(Type type, int length)
+            {
+                this.type = type;
+                this.length = length;
+            }
+
+            @Override
+            public boolean equals(Object other)
+            {
+                if (this == other)
+                {
+                    return true;
+                }
+
+                if (!(other instanceof Key))
+                {
+                    return false;
+                }
+
+                Key that = (Key) other;
+                return this.type == that.type && this.length == that.length;
+            }
+
+            @Override
+            public int hashCode()
+            {
+                return 31 * type.hashCode() + length;
+            }
+
+            @Override
+            public String toString()
+            {
+                return "Key{" + "type=" + type + ", length=" + length + '}';
+            }
         }
     }
 
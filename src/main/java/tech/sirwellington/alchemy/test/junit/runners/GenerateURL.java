@@ -22,7 +22,6 @@ import java.net.URL;
 import tech.sirwellington.alchemy.annotations.access.Internal;
 import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
 import tech.sirwellington.alchemy.generator.AlchemyGenerator;
-import tech.sirwellington.alchemy.generator.NetworkGenerators;
 
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
@@ -92,7 +91,7 @@ public @interface GenerateURL
             checkNotNull(protocol, "protocol cannot be null");
             checkThat(!protocol.isEmpty(), "protocol is empty");
 
-            return NetworkGenerators.urlsWithProtocol(protocol);
+            return RandomGenerators.urls(protocol);
         }
     }
 
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+
+/**
+ * Injects the {@code Generate*} fields declared by a single Test Class, using plain field assignments.
+ * <p>
+ * Implementations are generated at compile time by the {@link AlchemyInjectorProcessor}, and are named
+ * {@code <TestClass>_AlchemyInjector}, after the binary name of the Test Class, such as {@code Outer$Inner_AlchemyInjector}.
+ * They are not meant to be written by hand.
+ *
+ * @param <T> The Test Class.
+ * @author SirWellington
+ * @see GeneratedInjectors
+ */
+@Internal
+public interface GeneratedInjector<T>
+{
+
+    /**
+     * Sets every generated field that {@code T} declares on the target. Fields inherited from
+     * super classes are left alone.
+     */
+    void injectInto(T target);
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+
+/**
+ * Links {@linkplain GeneratedInjector generated injectors} to the rest of the runner. Generated injectors
+ * call {@link #generatorFor(Class, String)} once, when they are created, and the runner finds them
+ * with {@link #find(Class)}.
+ *
+ * @author SirWellington
+ */
+@Internal
+@NonInstantiable
+public final class GeneratedInjectors
+{
+
+    private final static Logger LOG = LoggerFactory.getLogger(GeneratedInjectors.class);
+
+    static final String SUFFIX = "_AlchemyInjector";
+
+    private GeneratedInjectors() throws IllegalAccessException
+    {
+        throw new IllegalAccessException("cannot instantiate");
+    }
+
+    /**
+     * Creates the generator for a field of a Test Class, exactly as the runner would when it injects
+     * the field by reflection.
+     *
+     * @param testClass The class that declares the field.
+     * @param fieldName The name of the field.
+     * @return The generator for the field's {@code Generate*} annotation.
+     * @throws IllegalArgumentException If the field does not exist, or is not annotated.
+     */
+    public static AlchemyGenerator<?> generatorFor(Class<?> testClass, String fieldName) throws IllegalArgumentException
+    {
+        checkNotNull(testClass, "testClass is null");
+        checkNotNull(fieldName, "fieldName is null");
+
+        Field field;
+        try
+        {
+            field = testClass.getDeclaredField(fieldName);
+        }
+        catch (NoSuchFieldException ex)
+        {
+            throw new IllegalArgumentException(testClass.getName() + " has no field " + fieldName, ex);
+        }
+
+        return TestClassInjectors.generatorFor(field);
+    }
+
+    /**
+     * @return The name of the injector generated for the given class, e.g. {@code com.example.Outer$Inner_AlchemyInjector}.
+     *         The {@code $} of nested classes is kept, so that {@code Outer$Inner} and {@code Outer_Inner} get
+     *         different injectors.
+     */
+    static String injectorNameFor(String binaryName)
+    {
+        checkNotNull(binaryName, "binaryName is null");
+
+        return binaryName + SUFFIX;
+    }
+
+    /**
+     * @return The injector generated for the class, or {@code null} if it was compiled without one.
+     */
+    static GeneratedInjector<?> find(Class<?> testClass)
+    {
+        checkNotNull(testClass, "testClass is null");
+
+        String name = injectorNameFor(testClass.getName());
+        Class<?> injectorClass;
+
+        try
+        {
+            injectorClass = Class.forName(name, true, testClass.getClassLoader());
+        }
+        catch (ClassNotFoundException ex)
+        {
+            return null;
+        }
+        catch (LinkageError ex)
+        {
+            LOG.warn("Could not load {}. Injecting {} by reflection instead.", name, testClass, ex);
+            return null;
+        }
+
+        if (!GeneratedInjector.class.isAssignableFrom(injectorClass) || !injects(injectorClass, testClass))
+        {
+            LOG.warn("{} is not a GeneratedInjector of {}. Injecting it by reflection instead.", name, testClass);
+            return null;
+        }
+
+        try
+        {
+            return (GeneratedInjector<?>) injectorClass.newInstance();
+        }
+        catch (InstantiationException | IllegalAccessException ex)
+        {
+            LOG.warn("Could not create {}. Injecting {} by reflection instead.", name, testClass, ex);
+            return null;
+        }
+    }
+
+    /*
+     * Whether the injector implements GeneratedInjector<testClass>.
+     */
+    private static boolean injects(Class<?> injectorClass, Class<?> testClass)
+    {
+        for (Type type : injectorClass.getGenericInterfaces())
+        {
+            if (!(type instanceof ParameterizedType))
+            {
+                continue;
+            }
+
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+
+            if (parameterizedType.getRawType() == GeneratedInjector.class)
+            {
+                return parameterizedType.getActualTypeArguments()[0] == testClass;
+            }
+        }
+
+        return false;
+    }
+
+}
@@ -38,4 +38,35 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface InitMocks
 {
     boolean value() default true;
+
+    /**
+     * When {@code true}, each {@linkplain Mock @Mock} is created once per Test Method, and then
+     * {@linkplain org.mockito.Mockito#reset(Object[]) reset} and reused by each {@linkplain Repeat repeated} iteration,
+     * instead of being created again for every iteration. Stubbings and recorded invocations do not carry over
+     * from one iteration to the next. Captors, Spies and {@linkplain org.mockito.InjectMocks @InjectMocks} are
+     * still created for each iteration.
+     * <p>
+     * Mocks are not reused by iterations that run in {@linkplain Repeat#parallelism() parallel}. This includes
+     * every repeated Test Method of a class annotated with {@link RunConcurrently @RunConcurrently}, which runs
+     * their iterations in parallel. A warning is logged when {@code reuseMocks} is ignored for this reason.
+     *
+     * @return
+     */
+    boolean reuseMocks() default false;
+
+    /**
+     * When {@code true}, the Test Class fails if any stubbing of a {@linkplain Mock @Mock} or
+     * {@linkplain org.mockito.Spy @Spy} field is never used, the same way
+     * {@link org.mockito.junit.MockitoJUnitRunner.StrictStubs} does.
+     * <p>
+     * For {@linkplain Repeat repeated} tests, a stubbing is only unnecessary if no iteration used it.
+     * Unused stubbings are collected across all iterations, and reported once, after all Test Methods have passed.
+     * Lenient stubbings are ignored.
+     * <p>
+     * Only the Mocks and Spies in the Test Class's fields are checked. Mocks created with
+     * {@link org.mockito.Mockito#mock(Class)} inside a Test Method are not.
+     *
+     * @return
+     */
+    boolean strictStubs() default false;
 }
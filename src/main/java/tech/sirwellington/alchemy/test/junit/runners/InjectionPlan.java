@@ -0,0 +1,300 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+
+/**
+ * An Injection Plan is the compiled form of a Test Class's generated fields.
+ * It is built once per Test Class, and holds every annotated field together with its
+ * pre-built {@link AlchemyGenerator}, so that each test iteration only has to pull values
+ * and write them. Primitive fields are written without boxing, whenever their generator allows it.
+ * <p>
+ * Classes with a {@linkplain GeneratedInjector generated injector} are injected by it, instead of field by field.
+ *
+ * @author SirWellington
+ * @see TestClassInjectors
+ */
+@Internal
+@Immutable
+final class InjectionPlan
+{
+
+    private final List<GeneratedInjector<Object>> generatedInjectors;
+    private final List<FieldInjection> injections;
+
+    private InjectionPlan(List<GeneratedInjector<Object>> generatedInjectors, List<FieldInjection> injections)
+    {
+        this.generatedInjectors = Collections.unmodifiableList(new ArrayList<>(generatedInjectors));
+        this.injections = Collections.unmodifiableList(new ArrayList<>(injections));
+    }
+
+    static Builder newBuilder()
+    {
+        return new Builder();
+    }
+
+    void injectInto(Object target) throws IllegalArgumentException, IllegalAccessException
+    {
+        checkNotNull(target, "target is null");
+
+        for (GeneratedInjector<Object> injector : generatedInjectors)
+        {
+            injector.injectInto(target);
+        }
+
+        for (FieldInjection injection : injections)
+        {
+            injection.injectInto(target);
+        }
+    }
+
+    /**
+     * @return The number of fields injected by reflection.
+     */
+    int size()
+    {
+        return injections.size();
+    }
+
+    boolean hasGeneratedInjectors()
+    {
+        return !generatedInjectors.isEmpty();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "InjectionPlan{" + "generatedInjectors=" + generatedInjectors + ", injections=" + injections + '}';
+    }
+
+    static final class Builder
+    {
+
+        private final List<GeneratedInjector<Object>> generatedInjectors = new ArrayList<>();
+        private final List<FieldInjection> injections = new ArrayList<>();
+
+        private Builder()
+        {
+        }
+
+        Builder inject(Field field, AlchemyGenerator<?> generator)
+        {
+            checkNotNull(field, "field is null");
+            checkNotNull(generator, "generator is null");
+
+            FieldWriter writer = FieldWriter.forField(field);
+            injections.add(FieldInjection.of(writer, generator));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        Builder injectWith(GeneratedInjector<?> injector)
+        {
+            checkNotNull(injector, "injector is null");
+
+            generatedInjectors.add((GeneratedInjector<Object>) injector);
+            return this;
+        }
+
+        InjectionPlan build()
+        {
+            return new InjectionPlan(generatedInjectors, injections);
+        }
+    }
+
+    /**
+     * Writes one generated value into one field. Primitive fields whose generator can produce primitives
+     * get a specialized injection, which never boxes the value.
+     */
+    @Immutable
+    private static abstract class FieldInjection
+    {
+
+        final FieldWriter writer;
+        final AlchemyGenerator<?> generator;
+
+        private FieldInjection(FieldWriter writer, AlchemyGenerator<?> generator)
+        {
+            this.writer = writer;
+            this.generator = generator;
+        }
+
+        static FieldInjection of(FieldWriter writer, AlchemyGenerator<?> generator)
+        {
+            Class<?> type = writer.getField().getType();
+
+            if (type == int.class && generator instanceof IntGenerator)
+            {
+                return new IntInjection(writer, (IntGenerator) generator);
+            }
+            else if (type == long.class && generator instanceof LongGenerator)
+            {
+                return new LongInjection(writer, (LongGenerator) generator);
+            }
+            else if (type == double.class && generator instanceof DoubleGenerator)
+            {
+                return new DoubleInjection(writer, (DoubleGenerator) generator);
+            }
+            else if (type == float.class && generator instanceof FloatGenerator)
+            {
+                return new FloatInjection(writer, (FloatGenerator) generator);
+            }
+            else
+            {
+                return new ObjectInjection(writer, generator);
+            }
+        }
+
+        abstract void injectInto(Object target) throws IllegalArgumentException, IllegalAccessException;
+
+        @Override
+        public String toString()
+        {
+            Field field = writer.getField();
+            return field.getDeclaringClass().getSimpleName() + "." + field.getName() + " <- " + generator;
+        }
+    }
+
+    private static final class ObjectInjection extends FieldInjection
+    {
+
+        private final Class<?> type;
+
+        private ObjectInjection(FieldWriter writer, AlchemyGenerator<?> generator)
+        {
+            super(writer, generator);
+            this.type = writer.getField().getType();
+        }
+
+        @Override
+        void injectInto(Object target) throws IllegalArgumentException, IllegalAccessException
+        {
+            Object value = generator.get();
+
+            if (!type.isPrimitive() || value == null)
+            {
+                writer.set(target, value);
+            }
+            else if (type == int.class && value instanceof Integer)
+            {
+                writer.setInt(target, (Integer) value);
+            }
+            else if (type == long.class && value instanceof Long)
+            {
+                writer.setLong(target, (Long) value);
+            }
+            else if (type == double.class && value instanceof Double)
+            {
+                writer.setDouble(target, (Double) value);
+            }
+            else if (type == float.class && value instanceof Float)
+            {
+                writer.setFloat(target, (Float) value);
+            }
+            else if (type == boolean.class && value instanceof Boolean)
+            {
+                writer.setBoolean(target, (Boolean) value);
+            }
+            else
+            {
+                writer.set(target, value);
+            }
+        }
+    }
+
+    private static final class IntInjection extends FieldInjection
+    {
+
+        private final IntGenerator intGenerator;
+
+        private IntInjection(FieldWriter writer, IntGenerator generator)
+        {
+            super(writer, generator);
+            this.intGenerator = generator;
+        }
+
+        @Override
+        void injectInto(Object target) throws IllegalArgumentException, IllegalAccessException
+        {
+            writer.setInt(target, intGenerator.getInt());
+        }
+    }
+
+    private static final class LongInjection extends FieldInjection
+    {
+
+        private final LongGenerator longGenerator;
+
+        private LongInjection(FieldWriter writer, LongGenerator generator)
+        {
+            super(writer, generator);
+            this.longGenerator = generator;
+        }
+
+        @Override
+        void injectInto(Object target) throws IllegalArgumentException, IllegalAccessException
+        {
+            writer.setLong(target, longGenerator.getLong());
+        }
+    }
+
+    private static final class DoubleInjection extends FieldInjection
+    {
+
+        private final DoubleGenerator doubleGenerator;
+
+        private DoubleInjection(FieldWriter writer, DoubleGenerator generator)
+        {
+            super(writer, generator);
+            this.doubleGenerator = generator;
+        }
+
+        @Override
+        void injectInto(Object target) throws IllegalArgumentException, IllegalAccessException
+        {
+            writer.setDouble(target, doubleGenerator.getDouble());
+        }
+    }
+
+    private static final class FloatInjection extends FieldInjection
+    {
+
+        private final FloatGenerator floatGenerator;
+
+        private FloatInjection(FieldWriter writer, FloatGenerator generator)
+        {
+            super(writer, generator);
+            this.floatGenerator = generator;
+        }
+
+        @Override
+        void injectInto(Object target) throws IllegalArgumentException, IllegalAccessException
+        {
+            writer.setFloat(target, floatGenerator.getFloat());
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+/**
+ * An {@link AlchemyGenerator} of {@code int} values, which can be produced without boxing.
+ * The runner, and {@linkplain GeneratedInjector generated injectors}, use {@link #getInt()} to write them
+ * straight into {@code int} fields.
+ *
+ * @author SirWellington
+ */
+@Internal
+public interface IntGenerator extends AlchemyGenerator<Integer>
+{
+
+    int getInt();
+
+}
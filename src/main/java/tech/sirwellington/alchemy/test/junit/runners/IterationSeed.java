@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import org.junit.runners.model.FrameworkMethod;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+
+/**
+ * Reports the seed of an iteration that failed, and how to replay it. It is attached to the failure as a
+ * {@linkplain Throwable#getSuppressed() suppressed exception}, so it shows up alongside the failure's stack trace,
+ * without changing what was thrown.
+ *
+ * @author SirWellington
+ * @see ReplaySeed
+ */
+@Internal
+final class IterationSeed extends Exception
+{
+
+    private final long seed;
+
+    IterationSeed(FrameworkMethod method, int iteration, long seed)
+    {
+        super(messageFor(method, iteration, seed), null, false, false);
+
+        this.seed = seed;
+    }
+
+    private static String messageFor(FrameworkMethod method, int iteration, long seed)
+    {
+        checkNotNull(method, "method is null");
+
+        return String.format("Iteration %d of %s() was generated from seed %d. Replay it using @ReplaySeed(%dL), or -D%s=%d",
+                             iteration,
+                             method.getName(),
+                             seed,
+                             seed,
+                             ReplaySeed.SYSTEM_PROPERTY,
+                             seed);
+    }
+
+    long getSeed()
+    {
+        return seed;
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+
+/**
+ * Fails a {@linkplain Repeat repeated} Test Case when its iterations are too slow.
+ * <p>
+ * Once every iteration has passed, the chosen {@linkplain #percentile() percentile} of iteration latency
+ * is compared against the budget. For example, to require that 99% of 10,000 iterations finish within 2ms:
+ * <pre>
+ * {@code
+ * `@Repeat(10_000)
+ * `@LatencyBudget(value = 2, unit = TimeUnit.MILLISECONDS, percentile = 99.0)
+ * `@Test
+ *  public void testEncrypt()
+ *  {
+ *    ...
+ *  }
+ * }
+ * </pre>
+ * Note, ticks (`) used to escape Javadocs.
+ * <p>
+ * Latencies are recorded in a {@link LatencyHistogram}, whose percentiles are accurate to within 1%.
+ * A test only fails when its percentile is definitely over budget, so iterations that were all within
+ * the budget never fail it; a percentile less than 1% over budget may pass.
+ * <p>
+ * A budget on a Test Method takes precedence over one on the Test Class.
+ *
+ * @author SirWellington
+ * @see LatencyHistogram
+ */
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+@Documented
+@Inherited
+public @interface LatencyBudget
+{
+
+    /**
+     * The maximum latency allowed at the {@linkplain #percentile() percentile}. Must be {@code > 0}.
+     *
+     * @return
+     */
+    long value();
+
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * The percentile of iterations, between 0 (exclusive) and 100 (inclusive), that must finish within
+     * the budget. Use 100 to bound the slowest iteration.
+     *
+     * @return
+     */
+    double percentile() default 99.0;
+
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import tech.sirwellington.alchemy.annotations.concurrency.ThreadSafe;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+
+/**
+ * Records the latency of each iteration of a {@linkplain Repeat repeated} test.
+ * <p>
+ * Like an HDR Histogram, values are counted in log-linear buckets: values below {@value #LINEAR_BUCKETS}ns
+ * are recorded exactly, and larger values are recorded with a relative error below 1%. Memory use is fixed,
+ * regardless of how many iterations are recorded, and recording is lock-free.
+ * <p>
+ * The count, min, max and mean are exact. Percentiles and the standard deviation are computed from the buckets.
+ * All values are in nanoseconds.
+ *
+ * @author SirWellington
+ * @see RepeatResult#getLatencies()
+ */
+@ThreadSafe
+public final class LatencyHistogram
+{
+
+    /*
+     * Each power of two above LINEAR_BUCKETS is split into SUB_BUCKETS buckets.
+     */
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKETS = SUB_BUCKETS * 2;
+    private static final int MAX_SHIFT = 63 - (SUB_BUCKET_BITS + 1);
+    private static final int BUCKETS = LINEAR_BUCKETS + MAX_SHIFT * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(0);
+
+    LatencyHistogram()
+    {
+    }
+
+    void record(long nanos)
+    {
+        checkThat(nanos >= 0, "latency must be >= 0");
+
+        counts.incrementAndGet(bucketFor(nanos));
+        count.incrementAndGet();
+        sum.addAndGet(nanos);
+        updateMin(nanos);
+        updateMax(nanos);
+    }
+
+    public long getCount()
+    {
+        return count.get();
+    }
+
+    public long getMin()
+    {
+        return getCount() == 0 ? 0 : min.get();
+    }
+
+    public long getMax()
+    {
+        return max.get();
+    }
+
+    public double getMean()
+    {
+        long total = getCount();
+        return total == 0 ? 0.0 : (double) sum.get() / total;
+    }
+
+    public double getStdDeviation()
+    {
+        long total = getCount();
+
+        if (total == 0)
+        {
+            return 0.0;
+        }
+
+        double mean = getMean();
+        double squaredDeviations = 0.0;
+
+        for (int bucket = 0; bucket < BUCKETS; ++bucket)
+        {
+            long bucketCount = counts.get(bucket);
+
+            if (bucketCount > 0)
+            {
+                double deviation = middleValueOf(bucket) - mean;
+                squaredDeviations += deviation * deviation * bucketCount;
+            }
+        }
+
+        return Math.sqrt(squaredDeviations / total);
+    }
+
+    /**
+     * @param percentile A value between 0 and 100, e.g. {@code 99.9}.
+     * @return The value, in nanoseconds, that the given percentile of iterations were at or below.
+     *         This is the upper bound of the bucket containing the percentile, so it may over-state the
+     *         true value by up to 1%.
+     */
+    public long getValueAtPercentile(double percentile)
+    {
+        int bucket = bucketAtPercentile(percentile);
+        return bucket < 0 ? 0 : clamp(highestValueOf(bucket));
+    }
+
+    /*
+     * The lower bound of the bucket containing the percentile. The true value is never below it,
+     * so it can be compared against a limit without failing samples that were within it.
+     */
+    long getLowestValueAtPercentile(double percentile)
+    {
+        int bucket = bucketAtPercentile(percentile);
+        return bucket < 0 ? 0 : clamp(lowestValueOf(bucket));
+    }
+
+    /*
+     * Returns the bucket that contains the given percentile, or -1 if nothing has been recorded.
+     */
+    private int bucketAtPercentile(double percentile)
+    {
+        checkThat(percentile >= 0.0 && percentile <= 100.0, "percentile must be between 0 and 100");
+
+        long total = getCount();
+
+        if (total == 0)
+        {
+            return -1;
+        }
+
+        long countAtPercentile = Math.max(1, (long) Math.ceil((percentile / 100.0) * total));
+        long seen = 0;
+
+        for (int bucket = 0; bucket < BUCKETS; ++bucket)
+        {
+            seen += counts.get(bucket);
+
+            if (seen >= countAtPercentile)
+            {
+                return bucket;
+            }
+        }
+
+        return bucketFor(getMax());
+    }
+
+    private long clamp(long value)
+    {
+        return Math.max(getMin(), Math.min(value, getMax()));
+    }
+
+    public long getMedian()
+    {
+        return getValueAtPercentile(50.0);
+    }
+
+    public long getP90()
+    {
+        return getValueAtPercentile(90.0);
+    }
+
+    public long getP99()
+    {
+        return getValueAtPercentile(99.0);
+    }
+
+    /**
+     * Converts a value of this histogram, which is in nanoseconds, to the given unit.
+     */
+    public static double convert(double nanos, TimeUnit unit)
+    {
+        checkNotNull(unit, "unit is null");
+        return nanos / unit.toNanos(1);
+    }
+
+    static int bucketFor(long value)
+    {
+        if (value < LINEAR_BUCKETS)
+        {
+            return (int) value;
+        }
+
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowestValueOf(int bucket)
+    {
+        if (bucket < LINEAR_BUCKETS)
+        {
+            return bucket;
+        }
+
+        int shift = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        int subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+
+        return ((long) (SUB_BUCKETS + subBucket)) << shift;
+    }
+
+    static long highestValueOf(int bucket)
+    {
+        if (bucket < LINEAR_BUCKETS)
+        {
+            return bucket;
+        }
+
+        int shift = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        return lowestValueOf(bucket) + (1L << shift) - 1;
+    }
+
+    private static double middleValueOf(int bucket)
+    {
+        return (lowestValueOf(bucket) + highestValueOf(bucket)) / 2.0;
+    }
+
+    private void updateMin(long value)
+    {
+        long current = min.get();
+
+        while (value < current && !min.compareAndSet(current, value))
+        {
+            current = min.get();
+        }
+    }
+
+    private void updateMax(long value)
+    {
+        long current = max.get();
+
+        while (value > current && !max.compareAndSet(current, value))
+        {
+            current = max.get();
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "LatencyHistogram{" +
+               "count=" + getCount() +
+               ", min=" + getMin() +
+               ", p50=" + getMedian() +
+               ", p90=" + getP90() +
+               ", p99=" + getP99() +
+               ", max=" + getMax() +
+               ", mean=" + getMean() +
+               ", stdDeviation=" + getStdDeviation() +
+               '}';
+    }
+
+}
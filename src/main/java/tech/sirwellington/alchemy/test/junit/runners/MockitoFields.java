@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+
+/**
+ * The fields of a Test Class, including those inherited from its superclasses, that Mockito initializes.
+ * These are scanned for once per Test Class, so that tests without any Mocks can skip Mockito's own
+ * reflective scan on every iteration.
+ *
+ * @author SirWellington
+ */
+@Internal
+@Immutable
+final class MockitoFields
+{
+
+    private final static ConcurrentMap<Class<?>, MockitoFields> CACHE = new ConcurrentHashMap<>();
+
+    private final static List<Class<? extends Annotation>> MOCKITO_ANNOTATIONS = Arrays.asList(Mock.class,
+                                                                                              Spy.class,
+                                                                                              Captor.class,
+                                                                                              InjectMocks.class);
+
+    private final List<Field> fields;
+
+    private MockitoFields(List<Field> fields)
+    {
+        this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+    }
+
+    static MockitoFields of(Class<?> testClass)
+    {
+        checkNotNull(testClass, "testClass is null");
+
+        MockitoFields mockitoFields = CACHE.get(testClass);
+
+        if (mockitoFields != null)
+        {
+            return mockitoFields;
+        }
+
+        mockitoFields = scan(testClass);
+
+        MockitoFields existing = CACHE.putIfAbsent(testClass, mockitoFields);
+        return existing != null ? existing : mockitoFields;
+    }
+
+    private static MockitoFields scan(Class<?> testClass)
+    {
+        List<Field> fields = new ArrayList<>();
+
+        for (Class<?> klass = testClass; klass != null && klass != Object.class; klass = klass.getSuperclass())
+        {
+            for (Field field : klass.getDeclaredFields())
+            {
+                if (isMockitoField(field))
+                {
+                    fields.add(field);
+                }
+            }
+        }
+
+        return new MockitoFields(fields);
+    }
+
+    private static boolean isMockitoField(Field field)
+    {
+        for (Class<? extends Annotation> annotation : MOCKITO_ANNOTATIONS)
+        {
+            if (field.isAnnotationPresent(annotation))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    boolean isEmpty()
+    {
+        return fields.isEmpty();
+    }
+
+    List<Field> getFields()
+    {
+        return fields;
+    }
+
+    List<Field> getFieldsAnnotatedWith(Class<? extends Annotation> annotation)
+    {
+        checkNotNull(annotation, "annotation is null");
+
+        List<Field> annotated = new ArrayList<>();
+
+        for (Field field : fields)
+        {
+            if (field.isAnnotationPresent(annotation))
+            {
+                annotated.add(field);
+            }
+        }
+
+        return annotated;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "MockitoFields{" + "fields=" + fields + '}';
+    }
+
+}
@@ -0,0 +1,521 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+import tech.sirwellington.alchemy.annotations.concurrency.ThreadSafe;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+
+/**
+ * Generates POJOs of a single class.
+ * <p>
+ * The class is introspected once: its constructor is unreflected into a {@link MethodHandle}, and its fields are
+ * compiled into an {@link InjectionPlan}, each with the generator {@link TypeGenerators} picks for its type.
+ * Generating an object is then a constructor call and a series of field writes. Generators are cached per class,
+ * and shared by every field, iteration and Test Class that uses them.
+ * <p>
+ * Java records and Kotlin data classes are instead built entirely through the constructor that takes all of their
+ * components: the canonical constructor of a record, or the primary constructor of a data class.
+ *
+ * @author SirWellington
+ * @see GeneratePojo
+ */
+@Internal
+@Immutable
+@ThreadSafe
+final class PojoGenerator<T> implements AlchemyGenerator<T>
+{
+
+    private final static Logger LOG = LoggerFactory.getLogger(PojoGenerator.class);
+
+    private final static MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final static ConcurrentMap<Class<?>, PojoGenerator<?>> GENERATORS = new ConcurrentHashMap<>();
+
+    /*
+     * Records are only available from Java 16, so they are introspected reflectively.
+     * Both are null when records aren't available.
+     */
+    private final static Method GET_RECORD_COMPONENTS;
+    private final static Method GET_COMPONENT_TYPE;
+
+    static
+    {
+        Method getRecordComponents = null;
+        Method getComponentType = null;
+
+        try
+        {
+            getRecordComponents = Class.class.getMethod("getRecordComponents");
+            getComponentType = Class.forName("java.lang.reflect.RecordComponent").getMethod("getType");
+        }
+        catch (ReflectiveOperationException ex)
+        {
+            LOG.debug("Records are not supported by this JVM");
+        }
+
+        GET_RECORD_COMPONENTS = getRecordComponents;
+        GET_COMPONENT_TYPE = getComponentType;
+    }
+
+    private final Class<T> type;
+
+    /*
+     * (Object[]) -> Object
+     */
+    private final MethodHandle constructor;
+    private final AlchemyGenerator<?>[] arguments;
+    private final InjectionPlan fields;
+
+    private PojoGenerator(Class<T> type, MethodHandle constructor, AlchemyGenerator<?>[] arguments, InjectionPlan fields)
+    {
+        this.type = type;
+        this.constructor = constructor;
+        this.arguments = arguments;
+        this.fields = fields;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PojoGenerator<T> of(Class<T> type) throws IllegalArgumentException
+    {
+        checkNotNull(type, "type is null");
+
+        PojoGenerator<T> generator = (PojoGenerator<T>) GENERATORS.get(type);
+
+        if (generator != null)
+        {
+            return generator;
+        }
+
+        generator = create(type);
+
+        PojoGenerator<T> existing = (PojoGenerator<T>) GENERATORS.putIfAbsent(type, generator);
+        return existing != null ? existing : generator;
+    }
+
+    /**
+     * @return Whether objects of the type can be constructed. Classes of the JDK are left to {@link TypeGenerators}.
+     */
+    static boolean canInstantiate(Class<?> type)
+    {
+        if (type.isPrimitive() || type.isArray() || type.isInterface() || type.isEnum() || type.isAnnotation())
+        {
+            return false;
+        }
+
+        if (Modifier.isAbstract(type.getModifiers()))
+        {
+            return false;
+        }
+
+        String name = type.getName();
+        return !name.startsWith("java.") && !name.startsWith("javax.") && !name.startsWith("sun.");
+    }
+
+    private static <T> PojoGenerator<T> create(Class<T> type) throws IllegalArgumentException
+    {
+        checkThat(canInstantiate(type), "cannot instantiate class: " + type.getName());
+
+        Constructor<?> componentConstructor = componentConstructorOf(type);
+
+        if (componentConstructor != null)
+        {
+            //Every component is set by the constructor
+            return new PojoGenerator<>(type,
+                                       unreflect(componentConstructor),
+                                       argumentsOf(componentConstructor),
+                                       InjectionPlan.newBuilder().build());
+        }
+
+        Constructor<?> constructor = constructorOf(type);
+        MethodHandle handle = unreflect(constructor);
+        AlchemyGenerator<?>[] arguments = argumentsOf(constructor);
+
+        InjectionPlan.Builder fields = InjectionPlan.newBuilder();
+
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass())
+        {
+            for (Field field : current.getDeclaredFields())
+            {
+                int modifiers = field.getModifiers();
+
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic())
+                {
+                    continue;
+                }
+
+                AlchemyGenerator<?> generator = TypeGenerators.forType(field.getType(), field.getGenericType());
+
+                if (generator == null)
+                {
+                    LOG.debug("Cannot generate values for {}. It will be left alone.", field);
+                    continue;
+                }
+
+                fields.inject(field, generator);
+            }
+        }
+
+        return new PojoGenerator<>(type, handle, arguments, fields.build());
+    }
+
+    /*
+     * The canonical constructor of a record, or the primary constructor of a Kotlin data class,
+     * or null if the type is neither.
+     */
+    private static Constructor<?> componentConstructorOf(Class<?> type)
+    {
+        Class<?>[] components = isRecord(type) ? recordComponentsOf(type) : dataClassComponentsOf(type);
+
+        if (components == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            return type.getDeclaredConstructor(components);
+        }
+        catch (NoSuchMethodException ex)
+        {
+            return null;
+        }
+    }
+
+    static boolean isRecord(Class<?> type)
+    {
+        Class<?> superclass = type.getSuperclass();
+
+        return GET_RECORD_COMPONENTS != null &&
+               superclass != null &&
+               superclass.getName().equals("java.lang.Record");
+    }
+
+    private static Class<?>[] recordComponentsOf(Class<?> type)
+    {
+        try
+        {
+            Object[] components = (Object[]) GET_RECORD_COMPONENTS.invoke(type);
+            Class<?>[] types = new Class<?>[components.length];
+
+            for (int i = 0; i < components.length; ++i)
+            {
+                types[i] = (Class<?>) GET_COMPONENT_TYPE.invoke(components[i]);
+            }
+
+            return types;
+        }
+        catch (ReflectiveOperationException ex)
+        {
+            LOG.warn("Could not read the components of record {}", type.getName(), ex);
+            return null;
+        }
+    }
+
+    static boolean isKotlinDataClass(Class<?> type)
+    {
+        return dataClassComponentsOf(type) != null;
+    }
+
+    /*
+     * A data class has a component1()...componentN() method for each parameter of its primary constructor.
+     */
+    private static Class<?>[] dataClassComponentsOf(Class<?> type)
+    {
+        if (!isKotlinClass(type))
+        {
+            return null;
+        }
+
+        List<Class<?>> components = new ArrayList<>();
+
+        while (true)
+        {
+            Method component;
+
+            try
+            {
+                component = type.getMethod("component" + (components.size() + 1));
+            }
+            catch (NoSuchMethodException ex)
+            {
+                break;
+            }
+
+            components.add(component.getReturnType());
+        }
+
+        if (components.isEmpty())
+        {
+            return null;
+        }
+
+        Class<?>[] types = components.toArray(new Class<?>[components.size()]);
+
+        try
+        {
+            type.getDeclaredConstructor(types);
+            return types;
+        }
+        catch (NoSuchMethodException ex)
+        {
+            return null;
+        }
+    }
+
+    private static boolean isKotlinClass(Class<?> type)
+    {
+        for (Annotation annotation : type.getDeclaredAnnotations())
+        {
+            if (annotation.annotationType().getName().equals("kotlin.Metadata"))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /*
+     * A no-argument constructor if there is one, or else the first public constructor.
+     */
+    private static Constructor<?> constructorOf(Class<?> type)
+    {
+        for (Constructor<?> constructor : type.getDeclaredConstructors())
+        {
+            if (constructor.getParameterTypes().length == 0)
+            {
+                return constructor;
+            }
+        }
+
+        Constructor<?>[] constructors = type.getConstructors();
+
+        if (constructors.length > 0)
+        {
+            return constructors[0];
+        }
+
+        constructors = type.getDeclaredConstructors();
+        checkThat(constructors.length > 0, "no constructor for class: " + type.getName());
+
+        return constructors[0];
+    }
+
+    private static MethodHandle unreflect(Constructor<?> constructor) throws IllegalArgumentException
+    {
+        try
+        {
+            constructor.setAccessible(true);
+
+            return MethodHandles.lookup()
+                                .unreflectConstructor(constructor)
+                                .asSpreader(Object[].class, constructor.getParameterTypes().length)
+                                .asType(CONSTRUCTOR_TYPE);
+        }
+        catch (IllegalAccessException | RuntimeException ex)
+        {
+            throw new IllegalArgumentException("cannot access constructor: " + constructor, ex);
+        }
+    }
+
+    private static AlchemyGenerator<?>[] argumentsOf(Constructor<?> constructor)
+    {
+        Class<?>[] types = constructor.getParameterTypes();
+        Type[] genericTypes = constructor.getGenericParameterTypes();
+        AlchemyGenerator<?>[] arguments = new AlchemyGenerator<?>[types.length];
+
+        //Generic parameter types leave out synthetic parameters, like the outer instance
+        int offset = types.length - genericTypes.length;
+
+        for (int i = 0; i < types.length; ++i)
+        {
+            Type genericType = i >= offset ? genericTypes[i - offset] : types[i];
+            arguments[i] = TypeGenerators.forType(types[i], genericType);
+
+            checkThat(arguments[i] != null || !types[i].isPrimitive(),
+                      "cannot generate parameter " + i + " of " + constructor);
+        }
+
+        return arguments;
+    }
+
+    @Override
+    public T get()
+    {
+        return generate(PojoSettings.DEFAULTS);
+    }
+
+    /**
+     * @return A generator of graphs of the given shape, rooted at this class.
+     */
+    AlchemyGenerator<T> withSettings(final PojoSettings settings)
+    {
+        checkNotNull(settings, "settings is null");
+
+        return new AlchemyGenerator<T>()
+        {
+            @Override
+            public T get()
+            {
+                return generate(settings);
+            }
+        };
+    }
+
+    /*
+     * The settings are only used by a root POJO. Nested POJOs join the graph of their root.
+     */
+    private T generate(PojoSettings settings)
+    {
+        PojoGraph graph = PojoGraph.current();
+
+        if (graph != null)
+        {
+            return generateWithin(graph);
+        }
+
+        graph = PojoGraph.open(settings);
+
+        try
+        {
+            return generateWithin(graph);
+        }
+        finally
+        {
+            graph.close();
+        }
+    }
+
+    private T generateWithin(PojoGraph graph)
+    {
+        if (graph.depth() > graph.getSettings().getMaxDepth())
+        {
+            return null;
+        }
+
+        if (graph.contains(type))
+        {
+            switch (graph.getSettings().getCycles())
+            {
+                case REUSE:
+                    return type.cast(graph.ancestorOf(type));
+                case FAIL:
+                    throw new IllegalStateException("cycle in generated graph: " + graph.describePath() + type.getSimpleName());
+                default:
+                    return null;
+            }
+        }
+
+        graph.push(type);
+
+        try
+        {
+            return construct(graph);
+        }
+        finally
+        {
+            graph.pop();
+        }
+    }
+
+    private T construct(PojoGraph graph)
+    {
+        Object[] values = new Object[arguments.length];
+
+        for (int i = 0; i < values.length; ++i)
+        {
+            //Parameters that can't be generated are left null
+            values[i] = arguments[i] != null ? arguments[i].get() : null;
+        }
+
+        Object instance;
+
+        try
+        {
+            instance = (Object) constructor.invokeExact(values);
+            graph.constructed(instance);
+            fields.injectInto(instance);
+        }
+        catch (RuntimeException ex)
+        {
+            if (isKotlinNullCheck(ex) && Arrays.asList(values).contains(null))
+            {
+                throw new IllegalStateException("cannot leave a non-null Kotlin parameter null at " + graph.describePath() +
+                                                "null (" + ex.getMessage() + "). The maxDepth or cycles of @GeneratePojo " +
+                                                "left it null; make the parameter nullable, or raise maxDepth.", ex);
+            }
+
+            throw ex;
+        }
+        catch (Error ex)
+        {
+            throw ex;
+        }
+        catch (Throwable ex)
+        {
+            throw new IllegalStateException("could not generate " + type.getName(), ex);
+        }
+
+        return type.cast(instance);
+    }
+
+    /*
+     * Kotlin checks each non-null parameter on entry: with an IllegalArgumentException up to Kotlin 1.3,
+     * and a NullPointerException since.
+     */
+    private static boolean isKotlinNullCheck(RuntimeException ex)
+    {
+        String message = ex.getMessage();
+
+        return (ex instanceof IllegalArgumentException || ex instanceof NullPointerException) &&
+               message != null &&
+               message.startsWith("Parameter specified as non-null is null");
+    }
+
+    Class<T> getType()
+    {
+        return type;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "PojoGenerator{" + "type=" + type.getName() + ", fields=" + fields + '}';
+    }
+
+}
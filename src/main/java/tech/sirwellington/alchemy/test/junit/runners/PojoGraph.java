@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.ThreadUnsafe;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+
+/**
+ * The object graph a {@link PojoGenerator} is generating on the current thread.
+ * <p>
+ * Generators are shared, so they can't hold the state of a single graph. Instead, the root POJO opens a graph, and
+ * the POJOs, Collections and leaves generated beneath it find it with {@link #current()}. It tracks the path from
+ * the root, which bounds the depth and detects cycles, and the pool of leaves, when they are pooled.
+ *
+ * @author SirWellington
+ * @see PojoSettings
+ */
+@Internal
+@ThreadUnsafe
+final class PojoGraph
+{
+
+    private final static ThreadLocal<PojoGraph> CURRENT = new ThreadLocal<>();
+
+    private final PojoSettings settings;
+
+    /*
+     * The POJOs being generated, from the root down. An instance is null until it has been constructed.
+     */
+    private final List<Class<?>> types = new ArrayList<>();
+    private final List<Object> instances = new ArrayList<>();
+
+    //Keyed by the generator of each kind of leaf
+    private final Map<AlchemyGenerator<?>, Object[]> leaves = new IdentityHashMap<>();
+
+    private PojoGraph(PojoSettings settings)
+    {
+        this.settings = settings;
+    }
+
+    /**
+     * @return The graph being generated on this thread, or {@code null} if there isn't one.
+     */
+    static PojoGraph current()
+    {
+        return CURRENT.get();
+    }
+
+    static PojoGraph open(PojoSettings settings)
+    {
+        checkNotNull(settings, "settings is null");
+
+        PojoGraph graph = new PojoGraph(settings);
+        CURRENT.set(graph);
+        return graph;
+    }
+
+    void close()
+    {
+        CURRENT.remove();
+    }
+
+    PojoSettings getSettings()
+    {
+        return settings;
+    }
+
+    /**
+     * @return How many POJOs are being generated, from the root down.
+     */
+    int depth()
+    {
+        return types.size();
+    }
+
+    boolean contains(Class<?> type)
+    {
+        return types.contains(type);
+    }
+
+    /**
+     * @return The nearest instance of the type being generated, or {@code null} if it hasn't been constructed yet.
+     */
+    Object ancestorOf(Class<?> type)
+    {
+        return instances.get(types.lastIndexOf(type));
+    }
+
+    void push(Class<?> type)
+    {
+        types.add(type);
+        instances.add(null);
+    }
+
+    void constructed(Object instance)
+    {
+        instances.set(instances.size() - 1, instance);
+    }
+
+    void pop()
+    {
+        types.remove(types.size() - 1);
+        instances.remove(instances.size() - 1);
+    }
+
+    String describePath()
+    {
+        StringBuilder path = new StringBuilder();
+
+        for (Class<?> type : types)
+        {
+            path.append(type.getSimpleName()).append(" -> ");
+        }
+
+        return path.toString();
+    }
+
+    /**
+     * Draws a leaf from the pool of the generator, filling the pool as it goes.
+     */
+    Object pooled(AlchemyGenerator<?> generator)
+    {
+        Object[] pool = leaves.get(generator);
+
+        if (pool == null)
+        {
+            pool = new Object[settings.getLeafPoolSize()];
+            leaves.put(generator, pool);
+        }
+
+        int index = RandomSources.nextInt(RandomSources.current(), 0, pool.length);
+
+        if (pool[index] == null)
+        {
+            pool[index] = generator.get();
+        }
+
+        return pool[index];
+    }
+
+    @Override
+    public String toString()
+    {
+        return "PojoGraph{" + "settings=" + settings + ", path=" + types + '}';
+    }
+
+}
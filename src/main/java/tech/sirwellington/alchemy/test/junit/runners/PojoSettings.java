@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+
+/**
+ * Describes the shape of the object graphs a {@link PojoGenerator} makes.
+ *
+ * @author SirWellington
+ * @see GeneratePojo
+ */
+@Internal
+@Immutable
+final class PojoSettings
+{
+
+    static final int DEFAULT_MAX_DEPTH = 8;
+
+    static final PojoSettings DEFAULTS = new PojoSettings(DEFAULT_MAX_DEPTH,
+                                                          TypeGenerators.MAX_COLLECTION_SIZE,
+                                                          GeneratePojo.Cycles.LEAVE_NULL,
+                                                          0);
+
+    private final int maxDepth;
+    private final int maxCollectionSize;
+    private final GeneratePojo.Cycles cycles;
+    //0 when leaves aren't pooled
+    private final int leafPoolSize;
+
+    PojoSettings(int maxDepth, int maxCollectionSize, GeneratePojo.Cycles cycles, int leafPoolSize)
+    {
+        checkThat(maxDepth >= 0, "maxDepth must be >= 0");
+        checkThat(maxCollectionSize >= 0, "maxCollectionSize must be >= 0");
+        checkNotNull(cycles, "cycles is null");
+        checkThat(leafPoolSize >= 0, "leafPoolSize must be >= 0");
+
+        this.maxDepth = maxDepth;
+        this.maxCollectionSize = maxCollectionSize;
+        this.cycles = cycles;
+        this.leafPoolSize = leafPoolSize;
+    }
+
+    static PojoSettings from(GeneratePojo annotation)
+    {
+        checkNotNull(annotation, "missing annotation");
+
+        return new PojoSettings(annotation.maxDepth(),
+                                annotation.maxCollectionSize(),
+                                annotation.cycles(),
+                                annotation.leafPoolSize());
+    }
+
+    /**
+     * @return How many levels of nested POJOs are generated below the root.
+     */
+    int getMaxDepth()
+    {
+        return maxDepth;
+    }
+
+    int getMaxCollectionSize()
+    {
+        return maxCollectionSize;
+    }
+
+    GeneratePojo.Cycles getCycles()
+    {
+        return cycles;
+    }
+
+    boolean poolLeaves()
+    {
+        return leafPoolSize > 0;
+    }
+
+    int getLeafPoolSize()
+    {
+        return leafPoolSize;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "PojoSettings{" +
+               "maxDepth=" + maxDepth +
+               ", maxCollectionSize=" + maxCollectionSize +
+               ", cycles=" + cycles +
+               ", leafPoolSize=" + leafPoolSize +
+               '}';
+    }
+
+}
@@ -0,0 +1,624 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+
+/**
+ * The generators behind the {@code Generate*} annotations. They draw from the {@linkplain RandomSources#current()
+ * Random Source} of the calling thread, so they hold no state of their own, and can be shared by parallel iterations.
+ * <p>
+ * They produce the same ranges as their counterparts in Alchemy Generator. The numeric generators can also produce
+ * their values as primitives, without boxing.
+ *
+ * @author SirWellington
+ */
+@Internal
+@NonInstantiable
+final class RandomGenerators
+{
+
+    /*
+     * How far into the past or future dates are generated.
+     */
+    private final static long MIN_DATE_OFFSET = TimeUnit.DAYS.toMillis(1);
+    private final static long MAX_DATE_OFFSET = TimeUnit.DAYS.toMillis(1000);
+
+    private final static String[] URL_DOMAINS =
+    {
+        "yahoo.com", "google.com", "gmail.com", "sirwellington.tech", "apple.com", "icloud.com", "microsoft.com"
+    };
+
+    private RandomGenerators() throws IllegalAccessException
+    {
+        throw new IllegalAccessException("cannot instantiate");
+    }
+
+    /**
+     * @return Integers in {@code [min, max)}.
+     */
+    static IntGenerator integers(final int min, final int max)
+    {
+        checkThat(min < max, "min must be less than max");
+
+        return new IntGenerator()
+        {
+            @Override
+            public int getInt()
+            {
+                return RandomSources.nextInt(RandomSources.current(), min, max);
+            }
+
+            @Override
+            public Integer get()
+            {
+                return getInt();
+            }
+        };
+    }
+
+    /**
+     * @return Longs in {@code [min, max)}.
+     */
+    static LongGenerator longs(final long min, final long max)
+    {
+        checkThat(min < max, "min must be less than max");
+
+        return new LongGenerator()
+        {
+            @Override
+            public long getLong()
+            {
+                return RandomSources.nextLong(RandomSources.current(), min, max);
+            }
+
+            @Override
+            public Long get()
+            {
+                return getLong();
+            }
+        };
+    }
+
+    /**
+     * @return Doubles in {@code [min, max)}.
+     */
+    static DoubleGenerator doubles(final double min, final double max)
+    {
+        checkThat(min < max, "min must be less than max");
+
+        return new DoubleGenerator()
+        {
+            @Override
+            public double getDouble()
+            {
+                return RandomSources.nextDouble(RandomSources.current(), min, max);
+            }
+
+            @Override
+            public Double get()
+            {
+                return getDouble();
+            }
+        };
+    }
+
+    /**
+     * @return Floats in {@code [min, max)}.
+     */
+    static FloatGenerator floats(final float min, final float max)
+    {
+        checkThat(min < max, "min must be less than max");
+
+        return new FloatGenerator()
+        {
+            @Override
+            public float getFloat()
+            {
+                float value = (float) RandomSources.nextDouble(RandomSources.current(), min, max);
+
+                //Rounding to a float can reach the bound
+                return value < max ? value : Math.nextAfter(max, min);
+            }
+
+            @Override
+            public Float get()
+            {
+                return getFloat();
+            }
+        };
+    }
+
+    static AlchemyGenerator<Boolean> booleans()
+    {
+        return new AlchemyGenerator<Boolean>()
+        {
+            @Override
+            public Boolean get()
+            {
+                return RandomSources.nextBoolean(RandomSources.current());
+            }
+        };
+    }
+
+    /**
+     * @return Dates in {@code [start, end)}, in milliseconds since the epoch.
+     */
+    static AlchemyGenerator<Date> datesBetween(final long start, final long end)
+    {
+        checkThat(start < end, "startDate must come before endDate");
+
+        return new AlchemyGenerator<Date>()
+        {
+            @Override
+            public Date get()
+            {
+                return new Date(RandomSources.nextLong(RandomSources.current(), start, end));
+            }
+        };
+    }
+
+    /**
+     * @return Dates between 1 and 1000 days before the moment they are generated.
+     */
+    static AlchemyGenerator<Date> pastDates()
+    {
+        return new AlchemyGenerator<Date>()
+        {
+            @Override
+            public Date get()
+            {
+                return new Date(System.currentTimeMillis() - dateOffset());
+            }
+        };
+    }
+
+    /**
+     * @return Dates between 1 and 1000 days after the moment they are generated.
+     */
+    static AlchemyGenerator<Date> futureDates()
+    {
+        return new AlchemyGenerator<Date>()
+        {
+            @Override
+            public Date get()
+            {
+                return new Date(System.currentTimeMillis() + dateOffset());
+            }
+        };
+    }
+
+    static AlchemyGenerator<Date> presentDates()
+    {
+        return new AlchemyGenerator<Date>()
+        {
+            @Override
+            public Date get()
+            {
+                return new Date();
+            }
+        };
+    }
+
+    /**
+     * @return Dates in the past, present or future.
+     */
+    static AlchemyGenerator<Date> anyTime()
+    {
+        return new AlchemyGenerator<Date>()
+        {
+            @Override
+            public Date get()
+            {
+                long now = System.currentTimeMillis();
+
+                switch (RandomSources.nextInt(RandomSources.current(), 0, 3))
+                {
+                    case 0:
+                        return new Date(now - dateOffset());
+                    case 1:
+                        return new Date(now + dateOffset());
+                    default:
+                        return new Date(now);
+                }
+            }
+        };
+    }
+
+    /**
+     * @return Arrays of {@code size} ints, drawn from every int. Each {@code long} of randomness fills two elements.
+     */
+    static AlchemyGenerator<int[]> intArrays(final int size)
+    {
+        checkThat(size > 0, "size must be > 0");
+
+        return new AlchemyGenerator<int[]>()
+        {
+            @Override
+            public int[] get()
+            {
+                RandomSource random = RandomSources.current();
+                int[] array = new int[size];
+                int i = 0;
+
+                for (; i + 1 < size; i += 2)
+                {
+                    long bits = random.nextLong();
+                    array[i] = (int) bits;
+                    array[i + 1] = (int) (bits >>> 32);
+                }
+
+                if (i < size)
+                {
+                    array[i] = (int) random.nextLong();
+                }
+
+                return array;
+            }
+        };
+    }
+
+    /**
+     * @return Arrays of {@code size} ints in {@code [min, max)}. The bounds are longs so that {@code max}
+     *         can be {@code Integer.MAX_VALUE + 1}.
+     */
+    static AlchemyGenerator<int[]> intArrays(final int size, final long min, final long max)
+    {
+        checkThat(size > 0, "size must be > 0");
+        checkThat(min < max, "min must be less than max");
+        checkThat(min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE + 1L, "range must fit in an int");
+
+        return new AlchemyGenerator<int[]>()
+        {
+            @Override
+            public int[] get()
+            {
+                RandomSource random = RandomSources.current();
+                int[] array = new int[size];
+
+                for (int i = 0; i < size; ++i)
+                {
+                    array[i] = (int) RandomSources.nextLong(random, min, max);
+                }
+
+                return array;
+            }
+        };
+    }
+
+    /**
+     * @return Arrays of {@code size} longs, drawn from every long.
+     */
+    static AlchemyGenerator<long[]> longArrays(final int size)
+    {
+        checkThat(size > 0, "size must be > 0");
+
+        return new AlchemyGenerator<long[]>()
+        {
+            @Override
+            public long[] get()
+            {
+                RandomSource random = RandomSources.current();
+                long[] array = new long[size];
+
+                for (int i = 0; i < size; ++i)
+                {
+                    array[i] = random.nextLong();
+                }
+
+                return array;
+            }
+        };
+    }
+
+    /**
+     * @return Arrays of {@code size} longs in {@code [min, max)}.
+     */
+    static AlchemyGenerator<long[]> longArrays(final int size, final long min, final long max)
+    {
+        checkThat(size > 0, "size must be > 0");
+        checkThat(min < max, "min must be less than max");
+
+        return new AlchemyGenerator<long[]>()
+        {
+            @Override
+            public long[] get()
+            {
+                RandomSource random = RandomSources.current();
+                long[] array = new long[size];
+
+                for (int i = 0; i < size; ++i)
+                {
+                    array[i] = RandomSources.nextLong(random, min, max);
+                }
+
+                return array;
+            }
+        };
+    }
+
+    /**
+     * @return Arrays of {@code size} doubles in {@code [min, max)}.
+     */
+    static AlchemyGenerator<double[]> doubleArrays(final int size, final double min, final double max)
+    {
+        checkThat(size > 0, "size must be > 0");
+        checkThat(min < max, "min must be less than max");
+
+        return new AlchemyGenerator<double[]>()
+        {
+            @Override
+            public double[] get()
+            {
+                RandomSource random = RandomSources.current();
+                double[] array = new double[size];
+
+                for (int i = 0; i < size; ++i)
+                {
+                    array[i] = RandomSources.nextDouble(random, min, max);
+                }
+
+                return array;
+            }
+        };
+    }
+
+    /**
+     * @return Arrays of {@code size} floats in {@code [min, max)}.
+     */
+    static AlchemyGenerator<float[]> floatArrays(final int size, final float min, final float max)
+    {
+        checkThat(size > 0, "size must be > 0");
+        checkThat(min < max, "min must be less than max");
+
+        return new AlchemyGenerator<float[]>()
+        {
+            @Override
+            public float[] get()
+            {
+                RandomSource random = RandomSources.current();
+                float[] array = new float[size];
+
+                for (int i = 0; i < size; ++i)
+                {
+                    float value = (float) RandomSources.nextDouble(random, min, max);
+                    array[i] = value < max ? value : Math.nextAfter(max, min);
+                }
+
+                return array;
+            }
+        };
+    }
+
+    /**
+     * @return Arrays of {@code size} bytes, drawn from every byte. Each {@code long} of randomness fills eight elements.
+     */
+    static AlchemyGenerator<byte[]> byteArrays(final int size)
+    {
+        checkThat(size > 0, "size must be > 0");
+
+        return new AlchemyGenerator<byte[]>()
+        {
+            @Override
+            public byte[] get()
+            {
+                RandomSource random = RandomSources.current();
+                byte[] array = new byte[size];
+                int i = 0;
+
+                while (i < size)
+                {
+                    long bits = random.nextLong();
+
+                    for (int end = Math.min(size, i + 8); i < end; ++i)
+                    {
+                        array[i] = (byte) bits;
+                        bits >>>= 8;
+                    }
+                }
+
+                return array;
+            }
+        };
+    }
+
+    /**
+     * @return Arrays of {@code size} bytes in {@code [min, max)}.
+     */
+    static AlchemyGenerator<byte[]> byteArrays(final int size, final int min, final int max)
+    {
+        checkThat(size > 0, "size must be > 0");
+        checkThat(min < max, "min must be less than max");
+        checkThat(min >= Byte.MIN_VALUE && max <= Byte.MAX_VALUE + 1, "range must fit in a byte");
+
+        return new AlchemyGenerator<byte[]>()
+        {
+            @Override
+            public byte[] get()
+            {
+                RandomSource random = RandomSources.current();
+                byte[] array = new byte[size];
+
+                for (int i = 0; i < size; ++i)
+                {
+                    array[i] = (byte) RandomSources.nextInt(random, min, max);
+                }
+
+                return array;
+            }
+        };
+    }
+
+    /**
+     * @return Arrays of {@code size} characters of the alphabet.
+     */
+    static AlchemyGenerator<char[]> charArrays(final int size, String alphabet)
+    {
+        final BufferedStringGenerator characters = new BufferedStringGenerator(alphabet, size);
+
+        return new AlchemyGenerator<char[]>()
+        {
+            @Override
+            public char[] get()
+            {
+                char[] array = new char[size];
+                characters.fill(array, size);
+                return array;
+            }
+        };
+    }
+
+    /**
+     * @return Arrays of {@code size} characters in {@code [min, max)}.
+     */
+    static AlchemyGenerator<char[]> charArrays(final int size, final int min, final int max)
+    {
+        checkThat(size > 0, "size must be > 0");
+        checkThat(min < max, "min must be less than max");
+        checkThat(min >= Character.MIN_VALUE && max <= Character.MAX_VALUE + 1, "range must fit in a char");
+
+        return new AlchemyGenerator<char[]>()
+        {
+            @Override
+            public char[] get()
+            {
+                RandomSource random = RandomSources.current();
+                char[] array = new char[size];
+
+                for (int i = 0; i < size; ++i)
+                {
+                    array[i] = (char) RandomSources.nextInt(random, min, max);
+                }
+
+                return array;
+            }
+        };
+    }
+
+    /**
+     * @return Random, version 4 UUIDs, in their String form.
+     */
+    static AlchemyGenerator<String> uuids()
+    {
+        return new AlchemyGenerator<String>()
+        {
+            @Override
+            public String get()
+            {
+                RandomSource random = RandomSources.current();
+
+                long mostSignificantBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+                long leastSignificantBits = (random.nextLong() & ~(0xCL << 60)) | (0x8L << 60);
+
+                return new UUID(mostSignificantBits, leastSignificantBits).toString();
+            }
+        };
+    }
+
+    /**
+     * @return URLs with the protocol, an alphanumeric host, and a popular domain, like {@code http://d8Sk2bW0qz.gmail.com}.
+     * @throws IllegalArgumentException If the protocol isn't supported by {@link URL}.
+     */
+    static AlchemyGenerator<URL> urls(final String protocol) throws IllegalArgumentException
+    {
+        checkNotNull(protocol, "protocol is null");
+
+        try
+        {
+            new URL(protocol + "://");
+        }
+        catch (MalformedURLException ex)
+        {
+            throw new IllegalArgumentException("Unknown protocol: " + protocol, ex);
+        }
+
+        final AlchemyGenerator<String> hosts = new BufferedStringGenerator(BufferedStringGenerator.ALPHANUMERIC, 10);
+
+        return new AlchemyGenerator<URL>()
+        {
+            @Override
+            public URL get()
+            {
+                String domain = URL_DOMAINS[RandomSources.nextInt(RandomSources.current(), 0, URL_DOMAINS.length)];
+
+                try
+                {
+                    return new URL(protocol + "://" + hosts.get() + "." + domain);
+                }
+                catch (MalformedURLException ex)
+                {
+                    throw new IllegalStateException("could not generate a URL with protocol: " + protocol, ex);
+                }
+            }
+        };
+    }
+
+    /**
+     * @return Buffers of {@code size} bytes, drawn from every byte.
+     */
+    static AlchemyGenerator<ByteBuffer> byteBuffers(int size)
+    {
+        final AlchemyGenerator<byte[]> bytes = byteArrays(size);
+
+        return new AlchemyGenerator<ByteBuffer>()
+        {
+            @Override
+            public ByteBuffer get()
+            {
+                return ByteBuffer.wrap(bytes.get());
+            }
+        };
+    }
+
+    /**
+     * @return Any of the constants of the Enum.
+     */
+    static <E> AlchemyGenerator<E> enumValues(Class<E> enumClass)
+    {
+        checkNotNull(enumClass, "enumClass is null");
+        checkThat(enumClass.isEnum(), "not an Enum: " + enumClass.getName());
+
+        final E[] constants = enumClass.getEnumConstants();
+        checkThat(constants != null && constants.length > 0, "Enum has no constants: " + enumClass.getName());
+
+        return new AlchemyGenerator<E>()
+        {
+            @Override
+            public E get()
+            {
+                return constants[RandomSources.nextInt(RandomSources.current(), 0, constants.length)];
+            }
+        };
+    }
+
+    private static long dateOffset()
+    {
+        return RandomSources.nextLong(RandomSources.current(), MIN_DATE_OFFSET, MAX_DATE_OFFSET);
+    }
+
+}
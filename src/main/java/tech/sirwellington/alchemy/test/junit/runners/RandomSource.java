@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+/**
+ * Supplies the random bits behind the {@code Generate*} annotations, such as {@link GenerateInteger},
+ * {@link GenerateString} and {@link GenerateDate}.
+ * <p>
+ * The {@link AlchemyTestRunner} gives each iteration of a test its own Random Source, on the thread running that
+ * iteration. Implementations therefore don't need to be thread-safe, and parallel iterations never contend
+ * on shared random state.
+ * <p>
+ * Implementations must have a public constructor that takes a {@code long} seed, and two instances created with
+ * the same seed must produce the same values. They are registered using {@link UseRandomSource @UseRandomSource}.
+ *
+ * @author SirWellington
+ * @see SplitMixRandomSource
+ * @see XoroshiroRandomSource
+ */
+public interface RandomSource
+{
+
+    /**
+     * @return The next 64 random bits, uniformly distributed.
+     */
+    long nextLong();
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+
+import static tech.sirwellington.alchemy.test.junit.runners.SplitMixRandomSource.GOLDEN_GAMMA;
+import static tech.sirwellington.alchemy.test.junit.runners.SplitMixRandomSource.mix64;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+
+/**
+ * Keeps track of the {@link RandomSource} of the current thread, and turns its bits into bounded values.
+ * <p>
+ * Each iteration is given a new Random Source, seeded from a lock-free sequence of seeds, the same way
+ * {@code SplittableRandom} splits. Generators used outside of an iteration get a Random Source of their own,
+ * the first time they are used on a thread.
+ *
+ * @author SirWellington
+ */
+@Internal
+@NonInstantiable
+final class RandomSources
+{
+
+    static final Class<? extends RandomSource> DEFAULT_TYPE = SplitMixRandomSource.class;
+
+    private final static AtomicLong SEEDS = new AtomicLong(mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+
+    private final static ConcurrentMap<Class<?>, Constructor<? extends RandomSource>> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+    private final static ThreadLocal<RandomSource> CURRENT = new ThreadLocal<RandomSource>()
+    {
+        @Override
+        protected RandomSource initialValue()
+        {
+            return create(DEFAULT_TYPE, newSeed());
+        }
+    };
+
+    private RandomSources() throws IllegalAccessException
+    {
+        throw new IllegalAccessException("cannot instantiate");
+    }
+
+    /**
+     * @return The Random Source of the current thread.
+     */
+    static RandomSource current()
+    {
+        return CURRENT.get();
+    }
+
+    /**
+     * Gives the current thread a new Random Source, for the iteration it is about to run.
+     */
+    static RandomSource startIteration(Class<? extends RandomSource> type, long seed)
+    {
+        RandomSource source = create(type, seed);
+        CURRENT.set(source);
+        return source;
+    }
+
+    static long newSeed()
+    {
+        return mix64(SEEDS.getAndAdd(GOLDEN_GAMMA));
+    }
+
+    static RandomSource create(Class<? extends RandomSource> type, long seed) throws IllegalArgumentException
+    {
+        Constructor<? extends RandomSource> constructor = constructorOf(type);
+
+        try
+        {
+            return constructor.newInstance(seed);
+        }
+        catch (Exception ex)
+        {
+            throw new IllegalArgumentException("Could not create RandomSource " + type.getName(), ex);
+        }
+    }
+
+    /**
+     * Fails unless the type has the public {@code long} constructor a Random Source needs.
+     */
+    static Constructor<? extends RandomSource> constructorOf(Class<? extends RandomSource> type) throws IllegalArgumentException
+    {
+        checkNotNull(type, "type is null");
+
+        Constructor<? extends RandomSource> constructor = CONSTRUCTORS.get(type);
+
+        if (constructor != null)
+        {
+            return constructor;
+        }
+
+        try
+        {
+            constructor = type.getConstructor(long.class);
+        }
+        catch (NoSuchMethodException ex)
+        {
+            throw new IllegalArgumentException("RandomSource " + type.getName() + " needs a public constructor taking a long seed");
+        }
+
+        CONSTRUCTORS.putIfAbsent(type, constructor);
+        return constructor;
+    }
+
+    /**
+     * @return A value in {@code [origin, bound)}.
+     */
+    static long nextLong(RandomSource random, long origin, long bound)
+    {
+        checkThat(origin < bound, "origin must be < bound");
+
+        long range = bound - origin;
+        long value = random.nextLong();
+
+        if (range > 0)
+        {
+            //Unbiased, by rejecting values from the last, incomplete range
+            long limit = range - 1;
+
+            if ((range & limit) == 0)
+            {
+                return origin + (value & limit);
+            }
+
+            for (long bits = value >>> 1; bits + limit - (value = bits % range) < 0; bits = random.nextLong() >>> 1)
+            {
+            }
+
+            return origin + value;
+        }
+
+        //The range overflows a long
+        while (value < origin || value >= bound)
+        {
+            value = random.nextLong();
+        }
+
+        return value;
+    }
+
+    /**
+     * @return A value in {@code [origin, bound)}.
+     */
+    static int nextInt(RandomSource random, int origin, int bound)
+    {
+        return (int) nextLong(random, origin, bound);
+    }
+
+    /**
+     * @return A value in {@code [0, 1)}.
+     */
+    static double nextDouble(RandomSource random)
+    {
+        return (random.nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * @return A value in {@code [origin, bound)}. The range may be wider than {@link Double#MAX_VALUE}.
+     */
+    static double nextDouble(RandomSource random, double origin, double bound)
+    {
+        checkThat(origin < bound, "origin must be < bound");
+
+        double fraction = nextDouble(random);
+        double value = (1.0 - fraction) * origin + fraction * bound;
+
+        return value < bound ? value : Math.nextAfter(bound, origin);
+    }
+
+    static boolean nextBoolean(RandomSource random)
+    {
+        return random.nextLong() < 0;
+    }
+
+}
@@ -36,4 +36,41 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface Repeat
 {
     int value() default 100;
+
+    /**
+     * The number of iterations to run at the same time. Defaults to 1, which runs
+     * each iteration sequentially on the test's thread.
+     * <p>
+     * When {@code > 1}, each iteration gets its own freshly built Test Instance, and any failures are
+     * reported together, in iteration order, once all running iterations finish.
+     * Your test, and anything static it touches, must be safe to call from multiple threads.
+     *
+     * @return
+     */
+    int parallelism() default 1;
+
+    /**
+     * The number of iterations to run before the {@linkplain #value() measured ones}, giving the JIT,
+     * class loading and mocking a chance to settle. Defaults to 0.
+     * <p>
+     * Warmup iterations fail the test like any other iteration, but they are excluded from the
+     * reported duration, the {@linkplain LatencyHistogram latency statistics}, any
+     * {@linkplain LatencyBudget latency budget}, and the {@linkplain RepeatListener listeners}.
+     *
+     * @return
+     */
+    int warmup() default 0;
+
+    /**
+     * When {@code true}, a single Test Instance, and the JUnit Statements and Rules around it, are built once and
+     * reused for every iteration. Your {@code @Before} and {@code @After} methods still run on each iteration,
+     * and Mocks and generated fields are still refreshed, but anything else your test stores in its fields is kept
+     * from one iteration to the next. This cuts the set-up cost of tests repeated hundreds of times.
+     * <p>
+     * Defaults to {@code false}, which builds a new Test Instance for each iteration.
+     * Cannot be combined with a {@linkplain #parallelism() parallelism} greater than 1.
+     *
+     * @return
+     */
+    boolean reuseInstance() default false;
 }
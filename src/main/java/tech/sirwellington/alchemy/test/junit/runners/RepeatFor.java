@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+
+/**
+ * Repeats each Test Case for a length of time, instead of a fixed number of times. This lets soak-style tests
+ * scale to the machine they run on: a fast test gets many iterations, and a slow one isn't held to a count
+ * that blows the build's time budget.
+ * <p>
+ * Iterations stop once the time is up, or once {@link #maxIterations()} have run, whichever comes first.
+ * At least one iteration always runs, and an iteration already running is allowed to finish.
+ * <pre>
+ * {@code
+ * //Runs for 2 seconds, or 10,000 times, whichever comes first
+ * `@RepeatFor(value = 2, unit = TimeUnit.SECONDS, maxIterations = 10_000)
+ * `@Test
+ *  public void testEncrypt()
+ *  {
+ *    ...
+ *  }
+ * }
+ * </pre>
+ * Note, ticks (`) used to escape Javadocs.
+ * <p>
+ * On a Test Method, this takes precedence over any {@linkplain Repeat @Repeat}. On a Test Class, it applies
+ * to Test Methods that aren't annotated with {@linkplain Repeat @Repeat} themselves. The
+ * {@linkplain Repeat#parallelism() parallelism} and {@linkplain Repeat#warmup() warmup} of a {@linkplain Repeat @Repeat}
+ * still apply.
+ *
+ * @author SirWellington
+ */
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+@Documented
+@Inherited
+public @interface RepeatFor
+{
+
+    /**
+     * How long to keep repeating for. Must be {@code > 0}.
+     *
+     * @return
+     */
+    long value();
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * The most iterations to run, even if time remains. Must be {@code > 0}.
+     *
+     * @return
+     */
+    int maxIterations() default Integer.MAX_VALUE;
+
+}
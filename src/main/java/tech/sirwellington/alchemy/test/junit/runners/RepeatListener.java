@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import org.junit.runners.model.FrameworkMethod;
+
+/**
+ * Receives timing information from {@linkplain Repeat repeated} tests.
+ * <p>
+ * Implementations must have a public no-argument constructor, and are registered using
+ * {@link RepeatListeners @RepeatListeners}. If no listeners are registered, a {@link ConsoleRepeatListener} is used.
+ * <p>
+ * When iterations run in parallel, {@link #onIteration(FrameworkMethod, int, long)} is called from multiple threads,
+ * so implementations must be thread-safe.
+ *
+ * @author SirWellington
+ * @see ConsoleRepeatListener
+ * @see Slf4jRepeatListener
+ */
+public interface RepeatListener
+{
+
+    /**
+     * Called once, before the first iteration of a test method.
+     *
+     * @param method     The test method about to be repeated.
+     * @param iterations The number of iterations that will be run. For a {@linkplain RepeatFor time-bounded} test,
+     *                   this is the most that will be run; {@link RepeatResult#getIterations()} has the actual number.
+     */
+    void onStart(FrameworkMethod method, int iterations);
+
+    /**
+     * Called after each iteration that completes successfully.
+     *
+     * @param method        The test method.
+     * @param iteration     The 0-based number of the iteration.
+     * @param durationNanos How long the iteration took, as measured by {@link System#nanoTime()}.
+     */
+    void onIteration(FrameworkMethod method, int iteration, long durationNanos);
+
+    /**
+     * Called once, after all iterations complete successfully.
+     *
+     * @param method The test method.
+     * @param result Summarizes the run.
+     */
+    void onFinish(FrameworkMethod method, RepeatResult result);
+
+}
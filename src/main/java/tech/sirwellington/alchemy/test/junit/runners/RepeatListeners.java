@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.annotation.*;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+
+/**
+ * Registers the {@linkplain RepeatListener Repeat Listeners} that receive timing information from your tests.
+ * <p>
+ * Use an empty array to turn off reporting entirely:
+ * <pre>
+ * {@code
+ * `@RunWith(AlchemyTestRunner.class)
+ * `@RepeatListeners({})
+ *  public class QuietTest
+ *  {
+ *    ...
+ *  }
+ * }
+ * </pre>
+ * Note, ticks (`) used to escape Javadocs.
+ * <p>
+ * When a class is not annotated, the listeners named in the {@value #SYSTEM_PROPERTY} system property
+ * (a comma-separated list of class names) are used. If that isn't set either, a {@link ConsoleRepeatListener} is used.
+ *
+ * @author SirWellington
+ */
+@Retention(RUNTIME)
+@Target({TYPE})
+@Documented
+@Inherited
+public @interface RepeatListeners
+{
+
+    String SYSTEM_PROPERTY = "alchemy.test.repeatListeners";
+
+    Class<? extends RepeatListener>[] value();
+
+}
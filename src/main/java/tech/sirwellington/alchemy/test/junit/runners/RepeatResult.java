@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.concurrent.TimeUnit;
+
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+
+/**
+ * Summarizes the run of a {@linkplain Repeat repeated} test method.
+ *
+ * @author SirWellington
+ * @see RepeatListener
+ */
+@Immutable
+public final class RepeatResult
+{
+
+    private final int iterations;
+    private final long totalNanos;
+    private final LatencyHistogram latencies;
+
+    RepeatResult(int iterations, long totalNanos)
+    {
+        this(iterations, totalNanos, new LatencyHistogram());
+    }
+
+    RepeatResult(int iterations, long totalNanos, LatencyHistogram latencies)
+    {
+        checkThat(iterations >= 0, "iterations must be >= 0");
+        checkThat(totalNanos >= 0, "totalNanos must be >= 0");
+        checkNotNull(latencies, "latencies are null");
+
+        this.iterations = iterations;
+        this.totalNanos = totalNanos;
+        this.latencies = latencies;
+    }
+
+    /**
+     * @return The number of iterations that were run.
+     */
+    public int getIterations()
+    {
+        return iterations;
+    }
+
+    /**
+     * @return The wall-clock time taken by all iterations, in nanoseconds.
+     */
+    public long getTotalNanos()
+    {
+        return totalNanos;
+    }
+
+    public long getTotalDuration(TimeUnit unit)
+    {
+        checkNotNull(unit, "unit is null");
+        return unit.convert(totalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return The latency of each individual iteration, from which percentiles, the mean, and the standard
+     * deviation can be read.
+     */
+    public LatencyHistogram getLatencies()
+    {
+        return latencies;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "RepeatResult{" + "iterations=" + iterations + ", totalNanos=" + totalNanos + ", latencies=" + latencies + '}';
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.concurrent.TimeUnit;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+
+/**
+ * Describes how a {@link RepeatStatement} runs its iterations.
+ *
+ * @author SirWellington
+ */
+@Internal
+@Immutable
+final class RepeatSettings
+{
+
+    private final int timesToRepeat;
+    private final int warmupIterations;
+    //0 when the iterations aren't bound by time
+    private final long durationNanos;
+    private final int parallelism;
+    private final boolean virtualThreads;
+    private final boolean reuseInstance;
+    private final RepeatListener listener;
+    //Null when there is no budget
+    private final LatencyBudget latencyBudget;
+    private final Class<? extends RandomSource> randomSource;
+    //Null unless a single seed is being replayed
+    private final Long replaySeed;
+    //Null when parallel iterations get threads of their own
+    private final ConcurrencyLimit concurrencyLimit;
+
+    private RepeatSettings(int timesToRepeat,
+                           int warmupIterations,
+                           long durationNanos,
+                           int parallelism,
+                           boolean virtualThreads,
+                           boolean reuseInstance,
+                           RepeatListener listener,
+                           LatencyBudget latencyBudget,
+                           Class<? extends RandomSource> randomSource,
+                           Long replaySeed,
+                           ConcurrencyLimit concurrencyLimit)
+    {
+        checkThat(timesToRepeat > 0, "timesToRepeat must be > 0");
+        checkThat(warmupIterations >= 0, "warmupIterations must be >= 0");
+        checkThat(durationNanos >= 0, "duration must be >= 0");
+        checkThat(parallelism > 0, "parallelism must be > 0");
+        checkNotNull(listener, "listener is null");
+        checkThat(!reuseInstance || parallelism == 1, "a Test Instance cannot be reused by parallel iterations");
+        checkNotNull(randomSource, "randomSource is null");
+        checkThat(replaySeed == null || timesToRepeat == 1, "a replayed seed can only be run once");
+
+        if (latencyBudget != null)
+        {
+            checkThat(latencyBudget.value() > 0, "@LatencyBudget value must be > 0");
+            checkNotNull(latencyBudget.unit(), "@LatencyBudget unit is null");
+            checkThat(latencyBudget.percentile() > 0.0 && latencyBudget.percentile() <= 100.0,
+                      "@LatencyBudget percentile must be in (0, 100]");
+        }
+
+        this.timesToRepeat = timesToRepeat;
+        this.warmupIterations = warmupIterations;
+        this.durationNanos = durationNanos;
+        this.parallelism = parallelism;
+        this.virtualThreads = virtualThreads;
+        this.reuseInstance = reuseInstance;
+        this.listener = listener;
+        this.latencyBudget = latencyBudget;
+        this.randomSource = randomSource;
+        this.replaySeed = replaySeed;
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    static RepeatSettings times(int timesToRepeat)
+    {
+        return new RepeatSettings(timesToRepeat, 0, 0, 1, false, false, new ConsoleRepeatListener(), null, RandomSources.DEFAULT_TYPE, null, null);
+    }
+
+    RepeatSettings withWarmup(int warmupIterations)
+    {
+        return new RepeatSettings(timesToRepeat, warmupIterations, durationNanos, parallelism, virtualThreads, reuseInstance, listener, latencyBudget, randomSource, replaySeed, concurrencyLimit);
+    }
+
+    /**
+     * Stops repeating once the duration has elapsed, even if fewer than {@link #getTimesToRepeat()} iterations
+     * have run.
+     */
+    RepeatSettings withDuration(long duration, TimeUnit unit)
+    {
+        checkThat(duration > 0, "duration must be > 0");
+        checkNotNull(unit, "unit is null");
+
+        return new RepeatSettings(timesToRepeat, warmupIterations, unit.toNanos(duration), parallelism, virtualThreads, reuseInstance, listener, latencyBudget, randomSource, replaySeed, concurrencyLimit);
+    }
+
+    RepeatSettings withParallelism(int parallelism)
+    {
+        return new RepeatSettings(timesToRepeat, warmupIterations, durationNanos, parallelism, virtualThreads, reuseInstance, listener, latencyBudget, randomSource, replaySeed, concurrencyLimit);
+    }
+
+    RepeatSettings withVirtualThreads(boolean virtualThreads)
+    {
+        return new RepeatSettings(timesToRepeat, warmupIterations, durationNanos, parallelism, virtualThreads, reuseInstance, listener, latencyBudget, randomSource, replaySeed, concurrencyLimit);
+    }
+
+    RepeatSettings withReuseInstance(boolean reuseInstance)
+    {
+        return new RepeatSettings(timesToRepeat, warmupIterations, durationNanos, parallelism, virtualThreads, reuseInstance, listener, latencyBudget, randomSource, replaySeed, concurrencyLimit);
+    }
+
+    RepeatSettings withListener(RepeatListener listener)
+    {
+        return new RepeatSettings(timesToRepeat, warmupIterations, durationNanos, parallelism, virtualThreads, reuseInstance, listener, latencyBudget, randomSource, replaySeed, concurrencyLimit);
+    }
+
+    RepeatSettings withLatencyBudget(LatencyBudget latencyBudget)
+    {
+        return new RepeatSettings(timesToRepeat, warmupIterations, durationNanos, parallelism, virtualThreads, reuseInstance, listener, latencyBudget, randomSource, replaySeed, concurrencyLimit);
+    }
+
+    RepeatSettings withRandomSource(Class<? extends RandomSource> randomSource)
+    {
+        return new RepeatSettings(timesToRepeat, warmupIterations, durationNanos, parallelism, virtualThreads, reuseInstance, listener, latencyBudget, randomSource, replaySeed, concurrencyLimit);
+    }
+
+    /**
+     * Seeds the only iteration with the given seed, instead of a new one.
+     */
+    RepeatSettings withReplaySeed(long replaySeed)
+    {
+        return new RepeatSettings(timesToRepeat, warmupIterations, durationNanos, parallelism, virtualThreads, reuseInstance, listener, latencyBudget, randomSource, replaySeed, concurrencyLimit);
+    }
+
+    /**
+     * Shares the limit, and threads, of the runner with parallel iterations.
+     */
+    RepeatSettings withConcurrencyLimit(ConcurrencyLimit concurrencyLimit)
+    {
+        return new RepeatSettings(timesToRepeat, warmupIterations, durationNanos, parallelism, virtualThreads, reuseInstance, listener, latencyBudget, randomSource, replaySeed, concurrencyLimit);
+    }
+
+    int getTimesToRepeat()
+    {
+        return timesToRepeat;
+    }
+
+    int getWarmupIterations()
+    {
+        return warmupIterations;
+    }
+
+    long getDurationNanos()
+    {
+        return durationNanos;
+    }
+
+    boolean isTimeBounded()
+    {
+        return durationNanos > 0;
+    }
+
+    int getParallelism()
+    {
+        return parallelism;
+    }
+
+    boolean useVirtualThreads()
+    {
+        return virtualThreads;
+    }
+
+    boolean reuseInstance()
+    {
+        return reuseInstance;
+    }
+
+    RepeatListener getListener()
+    {
+        return listener;
+    }
+
+    LatencyBudget getLatencyBudget()
+    {
+        return latencyBudget;
+    }
+
+    boolean hasLatencyBudget()
+    {
+        return latencyBudget != null;
+    }
+
+    Class<? extends RandomSource> getRandomSource()
+    {
+        return randomSource;
+    }
+
+    ConcurrencyLimit getConcurrencyLimit()
+    {
+        return concurrencyLimit;
+    }
+
+    boolean hasReplaySeed()
+    {
+        return replaySeed != null;
+    }
+
+    /**
+     * @return The seed for the next iteration: the replayed seed, if there is one, or else a new one.
+     */
+    long nextSeed()
+    {
+        return replaySeed != null ? replaySeed : RandomSources.newSeed();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "RepeatSettings{" +
+               "timesToRepeat=" + timesToRepeat +
+               ", warmupIterations=" + warmupIterations +
+               ", durationNanos=" + durationNanos +
+               ", parallelism=" + parallelism +
+               ", virtualThreads=" + virtualThreads +
+               ", reuseInstance=" + reuseInstance +
+               ", listener=" + listener +
+               ", latencyBudget=" + latencyBudget +
+               ", randomSource=" + randomSource +
+               ", replaySeed=" + replaySeed +
+               ", concurrencyLimit=" + concurrencyLimit +
+               '}';
+    }
+
+}
@@ -14,8 +14,22 @@
  */
 package tech.sirwellington.alchemy.test.junit.runners;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.internal.AssumptionViolatedException;
 import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.MultipleFailureException;
 import org.junit.runners.model.Statement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import tech.sirwellington.alchemy.annotations.access.Internal;
 import tech.sirwellington.alchemy.annotations.concurrency.Immutable;
 
@@ -30,54 +44,301 @@ import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
 class RepeatStatement extends Statement
 {
 
-    private final int timesToRepeat;
+    private final static Logger LOG = LoggerFactory.getLogger(RepeatStatement.class);
+
+    private final RepeatSettings settings;
     private final Provider<Statement> statementFactory;
     private final FrameworkMethod method;
 
     public RepeatStatement(int timesToRepeat, Provider<Statement> statementFactory, FrameworkMethod method)
     {
-        checkThat(timesToRepeat > 0, "timesToRepeat must be > 0");
+        this(timesToRepeat, 1, statementFactory, method);
+    }
+
+    public RepeatStatement(int timesToRepeat, int parallelism, Provider<Statement> statementFactory, FrameworkMethod method)
+    {
+        this(settingsFor(timesToRepeat, parallelism), statementFactory, method);
+    }
+
+    public RepeatStatement(RepeatSettings settings, Provider<Statement> statementFactory, FrameworkMethod method)
+    {
+        checkNotNull(settings, "settings are null");
         checkNotNull(statementFactory);
         checkNotNull(statementFactory.get(), "statementFactory returned null");
         checkNotNull(method);
 
-        this.timesToRepeat = timesToRepeat;
+        this.settings = settings;
         this.statementFactory = statementFactory;
         this.method = method;
     }
 
+    private static RepeatSettings settingsFor(int timesToRepeat, int parallelism)
+    {
+        checkThat(timesToRepeat > 0, "timesToRepeat must be > 0");
+        checkThat(parallelism > 0, "parallelism must be > 0");
+
+        return RepeatSettings.times(timesToRepeat).withParallelism(parallelism);
+    }
+
     @Override
     public void evaluate() throws Throwable
     {
-        //Print blank line
-        System.out.println();
+        if (settings.getWarmupIterations() > 0)
+        {
+            //Warmup iterations are run, but not measured or reported
+            evaluateIterations(settings.getWarmupIterations(), 0, null);
+        }
+
+        RepeatListener listener = settings.getListener();
+        listener.onStart(method, settings.getTimesToRepeat());
+
+        LatencyHistogram latencies = new LatencyHistogram();
+
+        long start = System.nanoTime();
+        int iterations = evaluateIterations(settings.getTimesToRepeat(), settings.getDurationNanos(), latencies);
+        long end = System.nanoTime();
+
+        listener.onFinish(method, new RepeatResult(iterations, end - start, latencies));
+
+        if (settings.hasLatencyBudget())
+        {
+            checkLatencyBudget(settings.getLatencyBudget(), latencies);
+        }
+    }
+
+    private void checkLatencyBudget(LatencyBudget budget, LatencyHistogram latencies)
+    {
+        long budgetNanos = budget.unit().toNanos(budget.value());
+
+        //Only fail when even the lowest value the percentile could have is over budget
+        if (latencies.getLowestValueAtPercentile(budget.percentile()) > budgetNanos)
+        {
+            long actualNanos = latencies.getValueAtPercentile(budget.percentile());
 
-        //Print test name
-        String methodName = method.getName();
-        System.out.println(methodName + "()");
+            String message = String.format("%s() p%s latency of %dns exceeded its budget of %d %s, across %d iterations",
+                                           method.getName(),
+                                           formatPercentile(budget.percentile()),
+                                           actualNanos,
+                                           budget.value(),
+                                           budget.unit().name().toLowerCase(),
+                                           latencies.getCount());
+            throw new AssertionError(message);
+        }
+    }
+
+    private static String formatPercentile(double percentile)
+    {
+        if (percentile == Math.rint(percentile))
+        {
+            return String.valueOf((long) percentile);
+        }
+
+        return String.valueOf(percentile);
+    }
+
+    /*
+     * Runs up to timesToRepeat iterations, stopping early once durationNanos have elapsed, if it is > 0.
+     * When latencies is null, the iterations are not measured.
+     * Returns the number of iterations that were run.
+     */
+    private int evaluateIterations(int timesToRepeat, long durationNanos, LatencyHistogram latencies) throws Throwable
+    {
+        long startTime = System.nanoTime();
 
-        //Time the test run
-        long start = System.currentTimeMillis();
+        if (settings.getParallelism() > 1 && timesToRepeat > 1)
+        {
+            return evaluateInParallel(timesToRepeat, startTime, durationNanos, latencies);
+        }
+        else
+        {
+            return evaluateSequentially(timesToRepeat, startTime, durationNanos, latencies);
+        }
+    }
+
+    private int evaluateSequentially(int timesToRepeat, long startTime, long durationNanos, LatencyHistogram latencies) throws Throwable
+    {
         for (int i = 0; i < timesToRepeat; ++i)
         {
-            Statement delegateStatement = statementFactory.get();
-            checkNotNull(delegateStatement, "statementFactory returned null Statement");
+            //The first iteration always runs
+            if (i > 0 && isTimeUp(startTime, durationNanos))
+            {
+                return i;
+            }
+
+            evaluateIteration(i, latencies);
+        }
+
+        return timesToRepeat;
+    }
+
+    private static boolean isTimeUp(long startTime, long durationNanos)
+    {
+        return durationNanos > 0 && System.nanoTime() - startTime >= durationNanos;
+    }
+
+    private void evaluateIteration(int iteration, LatencyHistogram latencies) throws Throwable
+    {
+        Statement delegateStatement = statementFactory.get();
+        checkNotNull(delegateStatement, "statementFactory returned null Statement");
+
+        //Seeded here, so that a failure anywhere in the iteration can be replayed
+        long seed = settings.nextSeed();
+        RandomSources.startIteration(settings.getRandomSource(), seed);
+
+        try
+        {
+            if (latencies == null)
+            {
+                delegateStatement.evaluate();
+                return;
+            }
+
+            long start = System.nanoTime();
             delegateStatement.evaluate();
+            long end = System.nanoTime();
+
+            latencies.record(end - start);
+            settings.getListener().onIteration(method, iteration, end - start);
+        }
+        catch (AssumptionViolatedException ex)
+        {
+            //Skipped, rather than failed
+            throw ex;
+        }
+        catch (Throwable ex)
+        {
+            IterationSeed report = new IterationSeed(method, iteration, seed);
+            LOG.warn(report.getMessage());
+            ex.addSuppressed(report);
+            throw ex;
         }
-        long end = System.currentTimeMillis();
+    }
+
+    /*
+     * Workers pull iteration numbers until all iterations have been claimed, time is up, or one of them fails.
+     * Iterations already running when a failure occurs are allowed to finish, and every failure is
+     * reported in iteration order, so that the outcome doesn't depend on thread scheduling.
+     */
+    private int evaluateInParallel(final int timesToRepeat,
+                                   final long startTime,
+                                   final long durationNanos,
+                                   final LatencyHistogram latencies) throws Throwable
+    {
+        int workers = Math.min(settings.getParallelism(), timesToRepeat);
+
+        final AtomicInteger nextIteration = new AtomicInteger();
+        final AtomicInteger completedIterations = new AtomicInteger();
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final ConcurrentSkipListMap<Integer, Throwable> failures = new ConcurrentSkipListMap<>();
+
+        Callable<Void> worker = new Callable<Void>()
+        {
+            @Override
+            public Void call()
+            {
+                while (!failed.get())
+                {
+                    int iteration = nextIteration.getAndIncrement();
 
-        System.out.printf("  Duration: %dms\n", end - start);
+                    if (iteration >= timesToRepeat)
+                    {
+                        break;
+                    }
 
-        if (timesToRepeat > 1)
+                    if (iteration > 0 && isTimeUp(startTime, durationNanos))
+                    {
+                        break;
+                    }
+
+                    try
+                    {
+                        evaluateIteration(iteration, latencies);
+                        completedIterations.incrementAndGet();
+                    }
+                    catch (Throwable ex)
+                    {
+                        failures.put(iteration, ex);
+                        failed.set(true);
+                    }
+                }
+
+                return null;
+            }
+        };
+
+        //This thread is a worker too, and others only use the permits that are free
+        ConcurrencyLimit limit = settings.getConcurrencyLimit();
+        boolean ownsLimit = limit == null;
+
+        if (ownsLimit)
         {
-            System.out.printf("  Runs: %d\n", timesToRepeat);
+            String threadPrefix = "alchemy-repeat-" + method.getName() + "-";
+            limit = new ConcurrencyLimit(threadPrefix, workers - 1, settings.useVirtualThreads());
         }
+
+        List<Future<Void>> results = new ArrayList<>(workers - 1);
+
+        try
+        {
+            while (results.size() < workers - 1 && limit.tryAcquire(1) == 1)
+            {
+                results.add(limit.submit(worker));
+            }
+
+            worker.call();
+
+            for (Future<Void> result : results)
+            {
+                result.get();
+            }
+        }
+        catch (InterruptedException ex)
+        {
+            failed.set(true);
+            throw ex;
+        }
+        catch (ExecutionException ex)
+        {
+            throw ex.getCause();
+        }
+        finally
+        {
+            if (ownsLimit)
+            {
+                limit.shutdown();
+            }
+        }
+
+        throwFailures(failures);
+
+        return completedIterations.get();
+    }
+
+    private void throwFailures(ConcurrentSkipListMap<Integer, Throwable> failures) throws Throwable
+    {
+        if (failures.isEmpty())
+        {
+            return;
+        }
+
+        if (failures.size() == 1)
+        {
+            throw failures.firstEntry().getValue();
+        }
+
+        List<Throwable> errors = new ArrayList<>(failures.size());
+        for (Map.Entry<Integer, Throwable> failure : failures.entrySet())
+        {
+            errors.add(failure.getValue());
+        }
+
+        throw new MultipleFailureException(errors);
     }
 
     @Override
     public String toString()
     {
-        return "RepeatStatement{" + "timesToRepeat=" + timesToRepeat + ", statementFactory=" + statementFactory + ", method=" + method + '}';
+        return "RepeatStatement{" + "settings=" + settings + ", statementFactory=" + statementFactory + ", method=" + method + '}';
     }
 
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.annotation.*;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Runs a single iteration of a Test Method, with the seed of an iteration that failed.
+ * <p>
+ * Every iteration seeds its own {@link RandomSource}, and when an iteration fails, its seed is reported
+ * along with the failure. Replaying that seed injects the same values into the {@code Generate*} fields
+ * backed by the Random Source, such as {@link GenerateString} and {@link GenerateInteger}, so a failure
+ * found on iteration 437 of 500 can be debugged on its own.
+ * <pre>
+ * {@code
+ * `@ReplaySeed(-4962768465676381896L)
+ * `@Test
+ *  public void testEncrypt()
+ *  {
+ *    ...
+ *  }
+ * }
+ * </pre>
+ * Note, ticks (`) used to escape Javadocs.
+ * <p>
+ * The seed can also be passed using the {@value #SYSTEM_PROPERTY} system property, in which case it applies to every
+ * Test Method that runs.
+ * <p>
+ * Strings, including UUIDs, numbers, booleans, Enums, URLs, arrays, Lists and {@linkplain GeneratePojo POJOs} are
+ * replayed exactly. Past and future Dates, Instants and ZonedDateTimes are generated relative to the time they are
+ * replayed, so their distance from the present is the same, but not the date itself. Values from a
+ * {@linkplain GenerateCustom custom generator} are not replayed.
+ *
+ * @author SirWellington
+ * @see UseRandomSource
+ */
+@Retention(RUNTIME)
+@Target({METHOD})
+@Documented
+public @interface ReplaySeed
+{
+
+    String SYSTEM_PROPERTY = "alchemy.test.replaySeed";
+
+    long value();
+
+}
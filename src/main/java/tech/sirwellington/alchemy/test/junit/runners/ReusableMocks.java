@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.mockito.internal.configuration.InjectingAnnotationEngine;
+import org.mockito.internal.configuration.SpyAnnotationEngine;
+import org.mockito.internal.util.reflection.GenericMaster;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.ThreadUnsafe;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+
+/**
+ * Initializes the Mockito fields of successive Test Instances, creating each {@linkplain Mock @Mock} only once.
+ * <p>
+ * The first Test Instance is initialized by {@link MockitoAnnotations#initMocks(Object)}, and its Mocks are kept.
+ * Every instance after that receives the same Mocks, {@linkplain Mockito#reset(Object[]) reset} to a fresh state,
+ * along with new {@linkplain Captor Captors} and Spies, and Mocks are injected the same way Mockito does.
+ * <p>
+ * Since the same Mocks are shared, only one Test Instance may use them at a time.
+ *
+ * @author SirWellington
+ * @see InitMocks#reuseMocks()
+ */
+@Internal
+@ThreadUnsafe
+final class ReusableMocks
+{
+
+    private final static GenericMaster GENERICS = new GenericMaster();
+
+    private final MockitoFields mockitoFields;
+    private final Map<FieldWriter, Object> mocks = new LinkedHashMap<>();
+    private final List<FieldWriter> captors = new ArrayList<>();
+    private boolean initialized = false;
+
+    ReusableMocks(MockitoFields mockitoFields)
+    {
+        checkNotNull(mockitoFields, "mockitoFields is null");
+
+        this.mockitoFields = mockitoFields;
+    }
+
+    void initMocks(Object target) throws IllegalAccessException
+    {
+        checkNotNull(target, "target is null");
+
+        if (!initialized)
+        {
+            MockitoAnnotations.initMocks(target);
+            keepMocksOf(target);
+            initialized = true;
+            return;
+        }
+
+        for (Map.Entry<FieldWriter, Object> mock : mocks.entrySet())
+        {
+            Mockito.reset(mock.getValue());
+            mock.getKey().set(target, mock.getValue());
+        }
+
+        for (FieldWriter captor : captors)
+        {
+            Class<?> capturedType = GENERICS.getGenericType(captor.getField());
+            captor.set(target, ArgumentCaptor.forClass(capturedType));
+        }
+
+        //The same steps Mockito takes after creating its Mocks
+        SpyAnnotationEngine spies = new SpyAnnotationEngine();
+        for (Class<?> klass = target.getClass(); klass != null && klass != Object.class; klass = klass.getSuperclass())
+        {
+            spies.process(klass, target);
+        }
+
+        new InjectingAnnotationEngine().injectMocks(target);
+    }
+
+    private void keepMocksOf(Object target) throws IllegalAccessException
+    {
+        for (Field field : mockitoFields.getFieldsAnnotatedWith(Mock.class))
+        {
+            field.setAccessible(true);
+            mocks.put(FieldWriter.forField(field), field.get(target));
+        }
+
+        for (Field field : mockitoFields.getFieldsAnnotatedWith(Captor.class))
+        {
+            captors.add(FieldWriter.forField(field));
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ReusableMocks{" + "mockitoFields=" + mockitoFields + ", initialized=" + initialized + '}';
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.annotation.*;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+
+/**
+ * Runs the Test Methods of a class concurrently, as well as the {@linkplain Repeat repeated iterations}
+ * of each method. This is intended for I/O-bound tests that spend most of their time waiting,
+ * for example on an embedded database or an in-process HTTP stub.
+ * <p>
+ * When the JDK supports Virtual Threads, tests are run on them. Otherwise, a pool of
+ * platform threads is used, shared by the whole class.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * `@RunWith(AlchemyTestRunner.class)
+ * `@RunConcurrently(maxConcurrency = 500)
+ * `@Repeat(100)
+ *  public class ExampleTest
+ *  {
+ *    ...
+ *  }
+ * }
+ * </pre>
+ * Note, ticks (`) used to escape Javadocs.
+ *
+ * @author SirWellington
+ * @see Repeat#parallelism()
+ */
+@Retention(RUNTIME)
+@Target({TYPE})
+@Documented
+@Inherited
+public @interface RunConcurrently
+{
+
+    /**
+     * The maximum number of Test Methods, and iterations of repeated methods, that may run at the same time,
+     * and so the maximum number of threads. Each running method runs its own iterations, and spreads them over
+     * whatever part of the limit is free, up to {@link Repeat#parallelism()} if it is set.
+     * Must be {@code > 0}.
+     *
+     * @return
+     */
+    int maxConcurrency() default 64;
+
+    /**
+     * Set to false to always use platform threads, even if Virtual Threads are available.
+     *
+     * @return
+     */
+    boolean virtualThreads() default true;
+
+}
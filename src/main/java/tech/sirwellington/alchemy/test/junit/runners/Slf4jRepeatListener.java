@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.runners.model.FrameworkMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs repeated test runs using SLF4J. The start of each run is logged at {@code DEBUG}, its synopsis at {@code INFO},
+ * and each iteration at {@code TRACE}.
+ *
+ * @author SirWellington
+ */
+public class Slf4jRepeatListener implements RepeatListener
+{
+
+    private final static Logger LOG = LoggerFactory.getLogger(Slf4jRepeatListener.class);
+
+    @Override
+    public void onStart(FrameworkMethod method, int iterations)
+    {
+        LOG.debug("Starting {}() for {} iterations", method.getName(), iterations);
+    }
+
+    @Override
+    public void onIteration(FrameworkMethod method, int iteration, long durationNanos)
+    {
+        if (LOG.isTraceEnabled())
+        {
+            LOG.trace("{}() iteration {} took {}ns", method.getName(), iteration, durationNanos);
+        }
+    }
+
+    @Override
+    public void onFinish(FrameworkMethod method, RepeatResult result)
+    {
+        LatencyHistogram latencies = result.getLatencies();
+
+        LOG.info("{}() Duration: {}ms | Runs: {} | p50: {}ns | p90: {}ns | p99: {}ns | max: {}ns | mean: {}ns | stdDev: {}ns",
+                 method.getName(),
+                 result.getTotalDuration(TimeUnit.MILLISECONDS),
+                 result.getIterations(),
+                 latencies.getMedian(),
+                 latencies.getP90(),
+                 latencies.getP99(),
+                 latencies.getMax(),
+                 Math.round(latencies.getMean()),
+                 Math.round(latencies.getStdDeviation()));
+    }
+
+}
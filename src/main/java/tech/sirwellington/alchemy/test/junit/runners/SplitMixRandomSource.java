@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import tech.sirwellington.alchemy.annotations.concurrency.ThreadUnsafe;
+
+/**
+ * The default {@link RandomSource}, using the SplitMix64 algorithm behind {@code java.util.SplittableRandom}.
+ * It is very fast, has 64 bits of state, and passes BigCrush.
+ *
+ * @author SirWellington
+ */
+@ThreadUnsafe
+public final class SplitMixRandomSource implements RandomSource
+{
+
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    public SplitMixRandomSource(long seed)
+    {
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong()
+    {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    static long mix64(long value)
+    {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "SplitMixRandomSource{" + "state=" + state + '}';
+    }
+
+}
@@ -15,11 +15,17 @@
 
 package tech.sirwellington.alchemy.test.junit.runners;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.net.URL;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.junit.runners.model.FrameworkField;
 import org.junit.runners.model.TestClass;
@@ -34,6 +40,9 @@ import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
 import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
 
 /**
+ * Injects the {@code Generate*} fields of Test Classes. Classes compiled with the {@link AlchemyInjectorProcessor}
+ * use their {@linkplain GeneratedInjector generated injectors}, and the rest are injected by reflection.
+ *
  * @author SirWellington
  */
 @Internal
@@ -44,206 +53,334 @@ final class TestClassInjectors
 
     private final static Logger LOG = LoggerFactory.getLogger(TestClassInjectors.class);
 
+    /*
+     * Plans are immutable and depend only on the Test Class, so they are compiled once
+     * and shared across every test method and every repetition.
+     */
+    private final static ConcurrentMap<Class<?>, InjectionPlan> PLANS = new ConcurrentHashMap<>();
+
     static void populateGeneratedFields(TestClass testClass, Object target) throws IllegalArgumentException,
                                                                                    IllegalAccessException
     {
-        //@GenerateString
-        List<FrameworkField> stringGeneratedFields = testClass.getAnnotatedFields(GenerateString.class);
+        checkNotNull(testClass, "testClass is null");
+
+        InjectionPlan plan = planFor(testClass);
+        plan.injectInto(target);
+    }
+
+    static InjectionPlan planFor(TestClass testClass) throws IllegalArgumentException
+    {
+        Class<?> javaClass = testClass.getJavaClass();
+        checkNotNull(javaClass, "testClass has no Java Class");
+
+        InjectionPlan plan = PLANS.get(javaClass);
+
+        if (plan != null)
+        {
+            return plan;
+        }
+
+        plan = createPlanFor(testClass);
 
-        for (FrameworkField field : stringGeneratedFields)
+        InjectionPlan existing = PLANS.putIfAbsent(javaClass, plan);
+        return existing != null ? existing : plan;
+    }
+
+    private static InjectionPlan createPlanFor(TestClass testClass) throws IllegalArgumentException
+    {
+        InjectionPlan.Builder plan = InjectionPlan.newBuilder();
+
+        //Classes with a generated injector don't need their fields reflected
+        Set<Class<?>> generatedClasses = new HashSet<>();
+
+        for (Class<?> type = testClass.getJavaClass(); type != null && type != Object.class; type = type.getSuperclass())
+        {
+            GeneratedInjector<?> injector = GeneratedInjectors.find(type);
+
+            if (injector != null)
+            {
+                plan.injectWith(injector);
+                generatedClasses.add(type);
+            }
+        }
+
+        //@GenerateString
+        for (Field field : fieldsToReflect(testClass, GenerateString.class, generatedClasses))
         {
-            inflateString(field, target);
+            plan.inject(field, scoped(field, generatorForString(field)));
         }
 
         //@GenerateBoolean
-        List<FrameworkField> booleanGeneratedFields = testClass.getAnnotatedFields(GenerateBoolean.class);
-        for (FrameworkField field : booleanGeneratedFields)
+        for (Field field : fieldsToReflect(testClass, GenerateBoolean.class, generatedClasses))
         {
-            inflateBoolean(field, target);
+            plan.inject(field, scoped(field, generatorForBoolean(field)));
         }
 
         //@GenerateInteger
-        List<FrameworkField> integerGeneratedFields = testClass.getAnnotatedFields(GenerateInteger.class);
-        for (FrameworkField field : integerGeneratedFields)
+        for (Field field : fieldsToReflect(testClass, GenerateInteger.class, generatedClasses))
         {
-            inflateInteger(field, target);
+            plan.inject(field, scoped(field, generatorForInteger(field)));
         }
 
         //@GenerateLong
-        List<FrameworkField> longGeneratedFields = testClass.getAnnotatedFields(GenerateLong.class);
-        for (FrameworkField field : longGeneratedFields)
+        for (Field field : fieldsToReflect(testClass, GenerateLong.class, generatedClasses))
         {
-            inflateLong(field, target);
+            plan.inject(field, scoped(field, generatorForLong(field)));
         }
 
         //@GenerateFloat
-        List<FrameworkField> floatGeneratedFields = testClass.getAnnotatedFields(GenerateFloat.class);
-        for (FrameworkField field : floatGeneratedFields)
+        for (Field field : fieldsToReflect(testClass, GenerateFloat.class, generatedClasses))
         {
-            inflateFloat(field, target);
+            plan.inject(field, scoped(field, generatorForFloat(field)));
         }
 
         //@GenerateDouble
-        List<FrameworkField> doubleGeneratedFields = testClass.getAnnotatedFields(GenerateDouble.class);
-        for (FrameworkField field : doubleGeneratedFields)
+        for (Field field : fieldsToReflect(testClass, GenerateDouble.class, generatedClasses))
         {
-            inflateDouble(field, target);
+            plan.inject(field, scoped(field, generatorForDouble(field)));
         }
 
         //@GenerateDate
-        List<FrameworkField> dateGeneratedFields = testClass.getAnnotatedFields(GenerateDate.class);
-        for (FrameworkField field : dateGeneratedFields)
+        for (Field field : fieldsToReflect(testClass, GenerateDate.class, generatedClasses))
         {
-            inflateDate(field, target);
+            plan.inject(field, scoped(field, generatorForDate(field)));
         }
 
         //@GenerateURL
-        List<FrameworkField> urlGeneratedFields = testClass.getAnnotatedFields(GenerateURL.class);
-        for (FrameworkField field : urlGeneratedFields)
+        for (Field field : fieldsToReflect(testClass, GenerateURL.class, generatedClasses))
         {
-            inflateUrl(field, target);
+            plan.inject(field, scoped(field, generatorForUrl(field)));
         }
 
         //@GeneratePojo
-        List<FrameworkField> pojoGeneratedFields = testClass.getAnnotatedFields(GeneratePojo.class);
-        for (FrameworkField field : pojoGeneratedFields)
+        for (Field field : fieldsToReflect(testClass, GeneratePojo.class, generatedClasses))
         {
-            inflatePojo(field, target);
+            plan.inject(field, scoped(field, generatorForPojo(field)));
         }
 
         //@GenerateEnum
-        List<FrameworkField> enumGeneratedFields = testClass.getAnnotatedFields(GenerateEnum.class);
-        for (FrameworkField field : enumGeneratedFields)
+        for (Field field : fieldsToReflect(testClass, GenerateEnum.class, generatedClasses))
         {
-            inflateEnum(field, target);
+            plan.inject(field, scoped(field, generatorForEnum(field)));
         }
 
         //@GenerateList
-        List<FrameworkField> listGeneratedFields = testClass.getAnnotatedFields(GenerateList.class);
-        for (FrameworkField field : listGeneratedFields)
+        for (Field field : fieldsToReflect(testClass, GenerateList.class, generatedClasses))
+        {
+            plan.inject(field, scoped(field, generatorForList(field)));
+        }
+
+        //@GenerateArray
+        for (Field field : fieldsToReflect(testClass, GenerateArray.class, generatedClasses))
         {
-            inflateList(field, target);
+            plan.inject(field, scoped(field, generatorForArray(field)));
         }
 
         //@GenerateCustom
-        List<FrameworkField> customGeneratedFields = testClass.getAnnotatedFields(GenerateCustom.class);
-        for (FrameworkField field : customGeneratedFields)
+        for (Field field : fieldsToReflect(testClass, GenerateCustom.class, generatedClasses))
+        {
+            plan.inject(field, scoped(field, generatorForCustom(field)));
+        }
+
+        return plan.build();
+    }
+
+    private static List<Field> fieldsToReflect(TestClass testClass,
+                                               Class<? extends Annotation> annotation,
+                                               Set<Class<?>> generatedClasses)
+    {
+        List<Field> fields = new ArrayList<>();
+
+        for (FrameworkField field : testClass.getAnnotatedFields(annotation))
+        {
+            if (!generatedClasses.contains(field.getField().getDeclaringClass()))
+            {
+                fields.add(field.getField());
+            }
+        }
+
+        return fields;
+    }
+
+    /**
+     * Creates the generator for a single field, according to its {@code Generate*} annotation.
+     */
+    static AlchemyGenerator<?> generatorFor(Field field) throws IllegalArgumentException
+    {
+        checkNotNull(field, "field is null");
+
+        return scoped(field, unscopedGeneratorFor(field));
+    }
+
+    /**
+     * Fields marked with {@link GenerateOnce} keep the first value they are given.
+     */
+    private static AlchemyGenerator<?> scoped(Field field, AlchemyGenerator<?> generator)
+    {
+        GenerateOnce once = field.getAnnotation(GenerateOnce.class);
+
+        return once != null ? GenerateOnce.Values.createGeneratorFor(once, generator) : generator;
+    }
+
+    private static AlchemyGenerator<?> unscopedGeneratorFor(Field field) throws IllegalArgumentException
+    {
+
+        if (field.isAnnotationPresent(GenerateString.class))
+        {
+            return generatorForString(field);
+        }
+
+        if (field.isAnnotationPresent(GenerateBoolean.class))
+        {
+            return generatorForBoolean(field);
+        }
+
+        if (field.isAnnotationPresent(GenerateInteger.class))
+        {
+            return generatorForInteger(field);
+        }
+
+        if (field.isAnnotationPresent(GenerateLong.class))
+        {
+            return generatorForLong(field);
+        }
+
+        if (field.isAnnotationPresent(GenerateFloat.class))
+        {
+            return generatorForFloat(field);
+        }
+
+        if (field.isAnnotationPresent(GenerateDouble.class))
+        {
+            return generatorForDouble(field);
+        }
+
+        if (field.isAnnotationPresent(GenerateDate.class))
+        {
+            return generatorForDate(field);
+        }
+
+        if (field.isAnnotationPresent(GenerateURL.class))
+        {
+            return generatorForUrl(field);
+        }
+
+        if (field.isAnnotationPresent(GeneratePojo.class))
+        {
+            return generatorForPojo(field);
+        }
+
+        if (field.isAnnotationPresent(GenerateEnum.class))
+        {
+            return generatorForEnum(field);
+        }
+
+        if (field.isAnnotationPresent(GenerateList.class))
+        {
+            return generatorForList(field);
+        }
+
+        if (field.isAnnotationPresent(GenerateArray.class))
+        {
+            return generatorForArray(field);
+        }
+
+        if (field.isAnnotationPresent(GenerateCustom.class))
         {
-            inflateCustom(field, target);
+            return generatorForCustom(field);
         }
+
+        throw new IllegalArgumentException(field + " has no Generate* annotation");
     }
 
-    private static void inflateString(FrameworkField field, Object target) throws IllegalArgumentException, IllegalAccessException
+    private static AlchemyGenerator<String> generatorForString(Field field) throws IllegalArgumentException
     {
         GenerateString annotation = field.getAnnotation(GenerateString.class);
         checkNotNull(annotation, "missing annotation");
 
-        AlchemyGenerator<String> generator = GenerateString.Values.createGeneratorFor(annotation);
-        String value = generator.get();
-        inflate(field, target, value);
+        return GenerateString.Values.createGeneratorFor(annotation);
     }
 
-    private static void inflateBoolean(FrameworkField field, Object target) throws IllegalArgumentException,
-                                                                                   IllegalAccessException
+    private static AlchemyGenerator<Boolean> generatorForBoolean(Field field) throws IllegalArgumentException
     {
         GenerateBoolean annotation = field.getAnnotation(GenerateBoolean.class);
         checkNotNull(annotation, "missing annotation: @GenerateBoolean");
 
-        AlchemyGenerator<Boolean> generator = GenerateBoolean.Values.createGeneratorFor(annotation);
-        Boolean value = generator.get();
-        inflate(field, target, value);
+        return GenerateBoolean.Values.createGeneratorFor(annotation);
     }
 
-    private static void inflateInteger(FrameworkField field, Object target) throws IllegalArgumentException,
-                                                                                   IllegalAccessException
+    private static IntGenerator generatorForInteger(Field field) throws IllegalArgumentException
     {
         GenerateInteger annotation = field.getAnnotation(GenerateInteger.class);
         checkNotNull(annotation, "missing annotation");
 
-        AlchemyGenerator<Integer> generator = GenerateInteger.Values.createGeneratorFor(annotation);
-        Integer value = generator.get();
-        inflate(field, target, value);
-
+        return GenerateInteger.Values.createGeneratorFor(annotation);
     }
 
-    private static void inflateLong(FrameworkField field, Object target) throws IllegalAccessException
+    private static LongGenerator generatorForLong(Field field) throws IllegalArgumentException
     {
         GenerateLong annotation = field.getAnnotation(GenerateLong.class);
         checkNotNull(annotation, "missing annotation");
 
-        AlchemyGenerator<Long> generator = GenerateLong.Values.createGeneratorFor(annotation);
-        Long value = generator.get();
-        inflate(field, target, value);
+        return GenerateLong.Values.createGeneratorFor(annotation);
     }
 
-    private static void inflateFloat(FrameworkField field, Object target) throws IllegalAccessException
+    private static FloatGenerator generatorForFloat(Field field) throws IllegalArgumentException
     {
         GenerateFloat annotation = field.getAnnotation(GenerateFloat.class);
         checkNotNull(annotation, "missing annotation");
 
-        AlchemyGenerator<Float> generator = GenerateFloat.Values.createGeneratorFor(annotation);
-        Float value = generator.get();
-        inflate(field, target, value);
+        return GenerateFloat.Values.createGeneratorFor(annotation);
     }
 
-    private static void inflateDouble(FrameworkField field, Object target) throws IllegalAccessException
+    private static DoubleGenerator generatorForDouble(Field field) throws IllegalArgumentException
     {
         GenerateDouble annotation = field.getAnnotation(GenerateDouble.class);
         checkNotNull(annotation, "missing annotation");
 
-        AlchemyGenerator<Double> generator = GenerateDouble.Values.createGeneratorFor(annotation);
-        Double value = generator.get();
-        inflate(field, target, value);
+        return GenerateDouble.Values.createGeneratorFor(annotation);
     }
 
-    private static void inflateDate(FrameworkField field, Object target) throws IllegalArgumentException, IllegalAccessException
+    private static AlchemyGenerator<?> generatorForDate(Field field) throws IllegalArgumentException
     {
         GenerateDate annotation = field.getAnnotation(GenerateDate.class);
         checkNotNull(annotation, "missing annotation");
 
         AlchemyGenerator<Date> generator = GenerateDate.Values.createGeneratorFor(annotation);
 
-        Object value;
-
         if (field.getType() == java.sql.Timestamp.class)
         {
             AlchemyGenerator<Timestamp> timestampGenerator = DateGeneratorsKt.asSqlTimestampGenerator(generator);
-            value = timestampGenerator.get();
+            return timestampGenerator;
         }
         else if (field.getType() == java.sql.Date.class)
         {
             AlchemyGenerator<java.sql.Date> sqlGenerator = DateGeneratorsKt.asSqlDateGenerator(generator);
-            value = sqlGenerator.get();
+            return sqlGenerator;
         }
         else
         {
-            value = generator.get();
+            return generator;
         }
-
-        inflate(field, target, value);
     }
 
-    private static void inflateUrl(FrameworkField field, Object target) throws IllegalAccessException
+    private static AlchemyGenerator<URL> generatorForUrl(Field field) throws IllegalArgumentException
     {
         GenerateURL annotation = field.getAnnotation(GenerateURL.class);
         checkNotNull(annotation, "missing annotation");
 
-        AlchemyGenerator<URL> generator = GenerateURL.Values.createGeneratorFor(annotation);
-        URL value = generator.get();
-        inflate(field, target, value);
+        return GenerateURL.Values.createGeneratorFor(annotation);
     }
 
-    private static void inflatePojo(FrameworkField field, Object target) throws IllegalArgumentException, IllegalAccessException
+    private static AlchemyGenerator<?> generatorForPojo(Field field) throws IllegalArgumentException
     {
         Class<?> typeOfPojo = field.getType();
         GeneratePojo annotation = field.getAnnotation(GeneratePojo.class);
 
-        AlchemyGenerator<?> generator = GeneratePojo.Values.createGeneratorFor(annotation, typeOfPojo);
-        Object value = generator.get();
-        inflate(field, target, value);
+        return GeneratePojo.Values.createGeneratorFor(annotation, typeOfPojo);
     }
 
-    private static void inflateEnum(FrameworkField field, Object target) throws IllegalArgumentException, IllegalAccessException
+    private static AlchemyGenerator<?> generatorForEnum(Field field) throws IllegalArgumentException
     {
         Class<?> typeOfField = field.getType();
         checkThat(typeOfField.isEnum(), "@GenerateEnum can only be used on Enum Types");
@@ -251,49 +388,46 @@ final class TestClassInjectors
 
         GenerateEnum annotation = field.getAnnotation(GenerateEnum.class);
 
-        AlchemyGenerator<?> generator = GenerateEnum.Values.createGeneratorFor(annotation, typeOfEnum);
-        Object value = generator.get();
-        inflate(field, target, value);
+        return GenerateEnum.Values.createGeneratorFor(annotation, typeOfEnum);
     }
 
-    private static void inflateList(FrameworkField field, Object target) throws IllegalArgumentException, IllegalAccessException
+    private static AlchemyGenerator<?> generatorForList(Field field) throws IllegalArgumentException
     {
         Class<?> typeOfField = field.getType();
         checkThat(List.class.isAssignableFrom(typeOfField), "@GenerateList can only be used on List Types");
 
         GenerateList annotation = field.getAnnotation(GenerateList.class);
 
-        AlchemyGenerator<?> generator = GenerateList.Values.createGeneratorFor(annotation);
-        Object value = generator.get();
-        inflate(field, target, value);
+        return GenerateList.Values.createGeneratorFor(annotation);
     }
 
-    private static void inflateCustom(FrameworkField field, Object target) throws IllegalArgumentException, IllegalAccessException
+    private static AlchemyGenerator<?> generatorForArray(Field field) throws IllegalArgumentException
     {
-        GenerateCustom annotation = field.getAnnotation(GenerateCustom.class);
+        Class<?> typeOfField = field.getType();
+        checkThat(typeOfField.isArray(), "@GenerateArray can only be used on Array Types");
 
-        AlchemyGenerator<?> generator = GenerateCustom.Values.createGeneratorFor(annotation);
-        Object value = generator.get();
-        inflate(field, target, value);
+        GenerateArray annotation = field.getAnnotation(GenerateArray.class);
+
+        return GenerateArray.Values.createGeneratorFor(annotation, typeOfField);
     }
 
-    private static void inflate(FrameworkField field, Object target, Object value) throws IllegalArgumentException,
-                                                                                          IllegalAccessException
+    /*
+     * Custom generators may hold state, or not be thread-safe, so each injection gets a new one,
+     * as it always has. Only the first is created up front, so that a broken generator fails early.
+     */
+    private static AlchemyGenerator<?> generatorForCustom(Field field) throws IllegalArgumentException
     {
+        final GenerateCustom annotation = field.getAnnotation(GenerateCustom.class);
+        GenerateCustom.Values.createGeneratorFor(annotation);
 
-        Field javaField = field.getField();
-        boolean originalAccessibility = javaField.isAccessible();
-
-        try
-        {
-            javaField.setAccessible(true);
-            javaField.set(target, value);
-        }
-        finally
+        return new AlchemyGenerator<Object>()
         {
-            javaField.setAccessible(originalAccessibility);
-        }
+            @Override
+            public Object get()
+            {
+                return GenerateCustom.Values.createGeneratorFor(annotation).get();
+            }
+        };
     }
 
-
 }
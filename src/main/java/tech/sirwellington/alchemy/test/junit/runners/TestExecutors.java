@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+
+/**
+ * Creates the {@link ExecutorService Executors} used to run tests and test iterations concurrently.
+ * <p>
+ * Virtual Threads are used when requested and the running JDK supports them. They are looked up reflectively,
+ * since this library still targets older JDKs. Otherwise, a bounded pool of daemon threads is used, whose
+ * threads are reused, and stop once they have been idle for a while.
+ *
+ * @author SirWellington
+ */
+@Internal
+@NonInstantiable
+final class TestExecutors
+{
+
+    private final static Logger LOG = LoggerFactory.getLogger(TestExecutors.class);
+
+    private final static boolean VIRTUAL_THREADS_SUPPORTED = checkVirtualThreadsSupported();
+
+    private final static long IDLE_SECONDS = 30;
+
+    private TestExecutors() throws IllegalAccessException
+    {
+        throw new IllegalAccessException("cannot instantiate");
+    }
+
+    static boolean virtualThreadsSupported()
+    {
+        return VIRTUAL_THREADS_SUPPORTED;
+    }
+
+    /**
+     * Creates a new Executor.
+     *
+     * @param namePrefix  The prefix used to name each thread.
+     * @param maxThreads  The maximum number of platform threads to use. Virtual Thread executors
+     *                    are unbounded, so callers must limit how many tasks they submit.
+     * @param useVirtual  Whether to prefer Virtual Threads, if available.
+     * @return An Executor of Virtual Threads, or else of at most {@code maxThreads} platform threads, which
+     *         are stopped once idle.
+     */
+    static ExecutorService newExecutor(String namePrefix, int maxThreads, boolean useVirtual)
+    {
+        checkNotNull(namePrefix, "namePrefix is null");
+        checkThat(maxThreads > 0, "maxThreads must be > 0");
+
+        if (useVirtual && VIRTUAL_THREADS_SUPPORTED)
+        {
+            ExecutorService executor = tryToCreateVirtualExecutor(namePrefix);
+
+            if (executor != null)
+            {
+                return executor;
+            }
+        }
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads,
+                                                             maxThreads,
+                                                             IDLE_SECONDS,
+                                                             TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<Runnable>(),
+                                                             new DaemonThreadFactory(namePrefix));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static boolean checkVirtualThreadsSupported()
+    {
+        try
+        {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return builder != null;
+        }
+        catch (Throwable ex)
+        {
+            //Either an older JDK, or Virtual Threads are a disabled preview feature.
+            return false;
+        }
+    }
+
+    private static ExecutorService tryToCreateVirtualExecutor(String namePrefix)
+    {
+        try
+        {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, factory);
+        }
+        catch (Throwable ex)
+        {
+            LOG.warn("Failed to create a Virtual Thread Executor. Falling back to platform threads.", ex);
+            return null;
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory
+    {
+
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        DaemonThreadFactory(String prefix)
+        {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.access.NonInstantiable;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+import tech.sirwellington.alchemy.generator.DateGeneratorsKt;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+
+/**
+ * Decides how to generate values of a type that isn't described by an annotation: the elements of a
+ * {@link GenerateList}, and the fields and constructor parameters of a {@link GeneratePojo}.
+ * <p>
+ * Generators hold no state of their own, so the same generator is shared by every field of a type.
+ *
+ * @author SirWellington
+ * @see PojoGenerator
+ */
+@Internal
+@NonInstantiable
+final class TypeGenerators
+{
+
+    /*
+     * The size of generated Collections and Maps, in [MIN, MAX].
+     */
+    static final int MIN_COLLECTION_SIZE = 3;
+    static final int MAX_COLLECTION_SIZE = 25;
+
+    static final int STRING_LENGTH = 10;
+
+    private static final Map<Class<?>, AlchemyGenerator<?>> VALUES = new HashMap<>();
+
+    /*
+     * Immutable values that a graph may pool. Primitives aren't pooled, and keep their unboxed generators.
+     */
+    private static final Map<Class<?>, AlchemyGenerator<?>> LEAVES = new HashMap<>();
+
+    static
+    {
+        final AlchemyGenerator<Integer> shorts = RandomGenerators.integers(1, Short.MAX_VALUE);
+        final AlchemyGenerator<String> characters = new BufferedStringGenerator(BufferedStringGenerator.ALPHANUMERIC, 1);
+        final AlchemyGenerator<byte[]> bytes = RandomGenerators.byteArrays(1);
+        final AlchemyGenerator<Date> dates = RandomGenerators.anyTime();
+        final AlchemyGenerator<Instant> instants = new AlchemyGenerator<Instant>()
+        {
+            @Override
+            public Instant get()
+            {
+                return Instant.ofEpochMilli(dates.get().getTime());
+            }
+        };
+
+        VALUES.put(String.class, new BufferedStringGenerator(BufferedStringGenerator.ALPHANUMERIC, STRING_LENGTH));
+        VALUES.put(Integer.class, RandomGenerators.integers(1, Integer.MAX_VALUE));
+        VALUES.put(Long.class, RandomGenerators.longs(1, Long.MAX_VALUE));
+        VALUES.put(Double.class, RandomGenerators.doubles(0, 10_000));
+        VALUES.put(Float.class, RandomGenerators.floats(0, 10_000));
+        VALUES.put(Boolean.class, RandomGenerators.booleans());
+        VALUES.put(Short.class, new AlchemyGenerator<Short>()
+        {
+            @Override
+            public Short get()
+            {
+                return shorts.get().shortValue();
+            }
+        });
+        VALUES.put(Byte.class, new AlchemyGenerator<Byte>()
+        {
+            @Override
+            public Byte get()
+            {
+                return bytes.get()[0];
+            }
+        });
+        VALUES.put(Character.class, new AlchemyGenerator<Character>()
+        {
+            @Override
+            public Character get()
+            {
+                return characters.get().charAt(0);
+            }
+        });
+        VALUES.put(Date.class, dates);
+        VALUES.put(java.sql.Date.class, DateGeneratorsKt.asSqlDateGenerator(dates));
+        VALUES.put(Timestamp.class, DateGeneratorsKt.asSqlTimestampGenerator(dates));
+        VALUES.put(Instant.class, instants);
+        VALUES.put(ZonedDateTime.class, new AlchemyGenerator<ZonedDateTime>()
+        {
+            @Override
+            public ZonedDateTime get()
+            {
+                return ZonedDateTime.ofInstant(instants.get(), ZoneOffset.UTC);
+            }
+        });
+        VALUES.put(URL.class, RandomGenerators.urls("http"));
+        VALUES.put(ByteBuffer.class, RandomGenerators.byteBuffers(1024));
+        VALUES.put(byte[].class, RandomGenerators.byteArrays(1024));
+
+        for (Class<?> type : Arrays.<Class<?>>asList(String.class, Integer.class, Long.class, Double.class, Float.class,
+                                                     Short.class, Byte.class, Character.class))
+        {
+            LEAVES.put(type, pooled(VALUES.get(type)));
+        }
+    }
+
+    private TypeGenerators() throws IllegalAccessException
+    {
+        throw new IllegalAccessException("cannot instantiate");
+    }
+
+    /**
+     * @return A generator of the type, or {@code null} if it can't be generated.
+     */
+    static AlchemyGenerator<?> forType(Class<?> type)
+    {
+        return forType(type, type);
+    }
+
+    /**
+     * @param type        The type to generate.
+     * @param genericType The full type, with the type arguments of Collections and Maps.
+     * @return A generator of the type, or {@code null} if it can't be generated.
+     */
+    static AlchemyGenerator<?> forType(Class<?> type, Type genericType)
+    {
+        checkNotNull(type, "type is null");
+
+        AlchemyGenerator<?> generator = LEAVES.get(type);
+
+        if (generator != null)
+        {
+            return generator;
+        }
+
+        generator = VALUES.get(boxed(type));
+
+        if (generator != null)
+        {
+            return generator;
+        }
+
+        if (type.isEnum())
+        {
+            return enumsOf(type);
+        }
+
+        if (Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type))
+        {
+            return collectionsOf(type, genericType);
+        }
+
+        if (!PojoGenerator.canInstantiate(type))
+        {
+            return null;
+        }
+
+        return pojosOf(type);
+    }
+
+    private static Class<?> boxed(Class<?> type)
+    {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static AlchemyGenerator<?> enumsOf(Class<?> type)
+    {
+        return RandomGenerators.enumValues(type);
+    }
+
+    /*
+     * Nested POJOs are resolved when they are first generated, so that classes which refer to each other
+     * don't have to be introspected at the same time.
+     */
+    private static AlchemyGenerator<?> pojosOf(final Class<?> type)
+    {
+        return new AlchemyGenerator<Object>()
+        {
+            private volatile PojoGenerator<?> pojos;
+
+            @Override
+            public Object get()
+            {
+                PojoGenerator<?> generator = pojos;
+
+                if (generator == null)
+                {
+                    generator = PojoGenerator.of(type);
+                    pojos = generator;
+                }
+
+                return generator.get();
+            }
+        };
+    }
+
+    private static AlchemyGenerator<?> collectionsOf(Class<?> type, Type genericType)
+    {
+        if (!(genericType instanceof ParameterizedType))
+        {
+            return null;
+        }
+
+        Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+
+        if (type.isAssignableFrom(LinkedHashMap.class) && arguments.length == 2)
+        {
+            AlchemyGenerator<?> keys = forTypeArgument(arguments[0]);
+            AlchemyGenerator<?> values = forTypeArgument(arguments[1]);
+
+            return keys != null && values != null ? maps(keys, values) : null;
+        }
+
+        if (arguments.length != 1)
+        {
+            return null;
+        }
+
+        AlchemyGenerator<?> elements = forTypeArgument(arguments[0]);
+
+        if (elements == null)
+        {
+            return null;
+        }
+
+        if (type.isAssignableFrom(ArrayList.class))
+        {
+            return lists(elements);
+        }
+
+        if (type.isAssignableFrom(HashSet.class))
+        {
+            return sets(elements);
+        }
+
+        return null;
+    }
+
+    private static AlchemyGenerator<?> forTypeArgument(Type argument)
+    {
+        if (argument instanceof Class)
+        {
+            return forType((Class<?>) argument, argument);
+        }
+
+        if (argument instanceof ParameterizedType)
+        {
+            Type rawType = ((ParameterizedType) argument).getRawType();
+            return rawType instanceof Class ? forType((Class<?>) rawType, argument) : null;
+        }
+
+        //Kotlin declares List<Pojo> as List<? extends Pojo>
+        if (argument instanceof WildcardType && ((WildcardType) argument).getLowerBounds().length == 0)
+        {
+            return forTypeArgument(((WildcardType) argument).getUpperBounds()[0]);
+        }
+
+        return null;
+    }
+
+    private static AlchemyGenerator<?> pooled(final AlchemyGenerator<?> values)
+    {
+        return new AlchemyGenerator<Object>()
+        {
+            @Override
+            public Object get()
+            {
+                PojoGraph graph = PojoGraph.current();
+
+                if (graph != null && graph.getSettings().poolLeaves())
+                {
+                    return graph.pooled(values);
+                }
+
+                return values.get();
+            }
+        };
+    }
+
+    private static int nextCollectionSize()
+    {
+        PojoGraph graph = PojoGraph.current();
+        int max = graph != null ? graph.getSettings().getMaxCollectionSize() : MAX_COLLECTION_SIZE;
+        int min = Math.min(MIN_COLLECTION_SIZE, max);
+
+        return RandomSources.nextInt(RandomSources.current(), min, max + 1);
+    }
+
+    private static AlchemyGenerator<List<?>> lists(final AlchemyGenerator<?> elements)
+    {
+        return new AlchemyGenerator<List<?>>()
+        {
+            @Override
+            public List<?> get()
+            {
+                int size = nextCollectionSize();
+                List<Object> list = new ArrayList<>(size);
+
+                for (int i = 0; i < size; ++i)
+                {
+                    addIfPresent(list, elements.get());
+                }
+
+                return list;
+            }
+        };
+    }
+
+    private static AlchemyGenerator<Set<?>> sets(final AlchemyGenerator<?> elements)
+    {
+        return new AlchemyGenerator<Set<?>>()
+        {
+            @Override
+            public Set<?> get()
+            {
+                int size = nextCollectionSize();
+                Set<Object> set = new HashSet<>(size * 2);
+
+                for (int i = 0; i < size; ++i)
+                {
+                    addIfPresent(set, elements.get());
+                }
+
+                return set;
+            }
+        };
+    }
+
+    private static AlchemyGenerator<Map<?, ?>> maps(final AlchemyGenerator<?> keys, final AlchemyGenerator<?> values)
+    {
+        return new AlchemyGenerator<Map<?, ?>>()
+        {
+            @Override
+            public Map<?, ?> get()
+            {
+                int size = nextCollectionSize();
+                Map<Object, Object> map = new LinkedHashMap<>(size * 2);
+
+                for (int i = 0; i < size; ++i)
+                {
+                    Object key = keys.get();
+                    Object value = values.get();
+
+                    if (key != null && value != null)
+                    {
+                        map.put(key, value);
+                    }
+                }
+
+                return map;
+            }
+        };
+    }
+
+    /*
+     * POJOs below the maximum depth, or that would close a cycle, are null. They are left out.
+     */
+    private static void addIfPresent(Collection<Object> collection, Object element)
+    {
+        if (element != null)
+        {
+            collection.add(element);
+        }
+    }
+
+}
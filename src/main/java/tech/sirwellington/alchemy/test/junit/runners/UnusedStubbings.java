@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mockito.Mock;
+import org.mockito.MockingDetails;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.exceptions.misusing.UnnecessaryStubbingException;
+import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Stubbing;
+import tech.sirwellington.alchemy.annotations.access.Internal;
+import tech.sirwellington.alchemy.annotations.concurrency.ThreadSafe;
+
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkNotNull;
+import static tech.sirwellington.alchemy.test.Checks.Internal.checkThat;
+
+/**
+ * Collects the stubbings of a Test Class's {@linkplain Mock Mocks} and {@linkplain Spy Spies} that were never used.
+ * <p>
+ * Stubbings are identified by the line of code that made them, and by their order among the stubbings made by
+ * that line in the same iteration. So a stubbing made on every iteration of a {@linkplain Repeat repeated} test is
+ * tracked once, and it counts as used if any iteration used it, while stubbings made by the same line in a loop,
+ * or by a shared helper method, are tracked separately.
+ * At most {@link #MAX_LOCATIONS} stubbings are tracked, regardless of how many iterations run.
+ * Lenient stubbings and Mocks are ignored, and so are Mocks that are not in a field.
+ *
+ * @author SirWellington
+ * @see InitMocks#strictStubs()
+ */
+@Internal
+@ThreadSafe
+final class UnusedStubbings
+{
+
+    static final int MAX_LOCATIONS = 1_000;
+
+    private final List<Field> mockFields;
+    private final Set<String> usedLocations = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    //Location -> Description of the stubbing
+    private final ConcurrentMap<String, String> unusedLocations = new ConcurrentHashMap<>();
+    private final AtomicInteger trackedLocations = new AtomicInteger();
+
+    UnusedStubbings(MockitoFields mockitoFields)
+    {
+        checkNotNull(mockitoFields, "mockitoFields is null");
+
+        List<Field> fields = new ArrayList<>();
+        fields.addAll(mockitoFields.getFieldsAnnotatedWith(Mock.class));
+        fields.addAll(mockitoFields.getFieldsAnnotatedWith(Spy.class));
+
+        for (Field field : fields)
+        {
+            field.setAccessible(true);
+        }
+
+        this.mockFields = Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * Records the stubbings of the Mocks in the target's fields. Call this once an iteration has finished,
+     * and before its Mocks are reset.
+     */
+    void collectFrom(Object target) throws IllegalAccessException
+    {
+        checkNotNull(target, "target is null");
+
+        Map<String, Integer> stubbingsPerLine = new HashMap<>();
+
+        for (Field field : mockFields)
+        {
+            Object mock = field.get(target);
+
+            if (mock == null)
+            {
+                continue;
+            }
+
+            MockingDetails details = Mockito.mockingDetails(mock);
+
+            if (!details.isMock() || details.getMockCreationSettings().isLenient())
+            {
+                continue;
+            }
+
+            //Stubbings are in the order they were made
+            for (Stubbing stubbing : details.getStubbings())
+            {
+                collect(stubbing, stubbingsPerLine);
+            }
+        }
+    }
+
+    private void collect(Stubbing stubbing, Map<String, Integer> stubbingsPerLine)
+    {
+        if (stubbing.getStrictness() == Strictness.LENIENT)
+        {
+            return;
+        }
+
+        String location = locationOf(stubbing, stubbingsPerLine);
+
+        if (stubbing.wasUsed())
+        {
+            if (usedLocations.contains(location) || !track(location))
+            {
+                return;
+            }
+
+            usedLocations.add(location);
+            unusedLocations.remove(location);
+        }
+        else
+        {
+            if (usedLocations.contains(location) || unusedLocations.containsKey(location) || !track(location))
+            {
+                return;
+            }
+
+            unusedLocations.putIfAbsent(location, stubbing.getInvocation().toString());
+
+            //Another thread may have found it used in the meantime
+            if (usedLocations.contains(location))
+            {
+                unusedLocations.remove(location);
+            }
+        }
+    }
+
+    /*
+     * The line that made the stubbing, followed by its position among the stubbings made by that line
+     * in this iteration, if it isn't the first.
+     */
+    private static String locationOf(Stubbing stubbing, Map<String, Integer> stubbingsPerLine)
+    {
+        String line = String.valueOf(stubbing.getInvocation().getLocation());
+
+        Integer previous = stubbingsPerLine.get(line);
+        int count = previous == null ? 1 : previous + 1;
+        stubbingsPerLine.put(line, count);
+
+        return count == 1 ? line : line + " (stubbing #" + count + " of this line)";
+    }
+
+    /*
+     * Returns false once the limit is reached.
+     */
+    private boolean track(String location)
+    {
+        if (unusedLocations.containsKey(location))
+        {
+            return true;
+        }
+
+        return trackedLocations.incrementAndGet() <= MAX_LOCATIONS;
+    }
+
+    boolean isEmpty()
+    {
+        return unusedLocations.isEmpty();
+    }
+
+    List<String> getUnusedLocations()
+    {
+        List<String> locations = new ArrayList<>(unusedLocations.keySet());
+        Collections.sort(locations);
+        return locations;
+    }
+
+    UnnecessaryStubbingException toException(Class<?> testClass)
+    {
+        checkNotNull(testClass, "testClass is null");
+        checkThat(!isEmpty(), "there are no unused stubbings");
+
+        StringBuilder message = new StringBuilder()
+            .append("\nUnnecessary stubbings detected in test class: ").append(testClass.getSimpleName())
+            .append("\nClean & maintainable test code requires zero unnecessary code.")
+            .append("\nThese stubbings were not used by any iteration:");
+
+        int count = 0;
+        for (String location : getUnusedLocations())
+        {
+            count += 1;
+            message.append("\n  ").append(count).append(". ").append(location)
+                   .append("\n     ").append(unusedLocations.get(location));
+        }
+
+        message.append("\nPlease remove the unnecessary stubbings, or make them lenient.");
+
+        return new UnnecessaryStubbingException(message.toString());
+    }
+
+    void clear()
+    {
+        usedLocations.clear();
+        unusedLocations.clear();
+        trackedLocations.set(0);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "UnusedStubbings{" + "mockFields=" + mockFields + ", unusedLocations=" + unusedLocations.keySet() + '}';
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.annotation.*;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Chooses the {@link RandomSource} behind the {@code Generate*} annotations of a Test Class.
+ * <pre>
+ * {@code
+ * `@RunWith(AlchemyTestRunner.class)
+ * `@UseRandomSource(XoroshiroRandomSource.class)
+ *  public class ExampleTest
+ *  {
+ *    ...
+ *  }
+ * }
+ * </pre>
+ * Note, ticks (`) used to escape Javadocs.
+ * <p>
+ * When a class is not annotated, the class named in the {@value #SYSTEM_PROPERTY} system property is used.
+ * If that isn't set either, a {@link SplitMixRandomSource} is used.
+ *
+ * @author SirWellington
+ */
+@Retention(RUNTIME)
+@Target({TYPE})
+@Documented
+@Inherited
+public @interface UseRandomSource
+{
+
+    String SYSTEM_PROPERTY = "alchemy.test.randomSource";
+
+    Class<? extends RandomSource> value();
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import tech.sirwellington.alchemy.annotations.concurrency.ThreadUnsafe;
+
+import static tech.sirwellington.alchemy.test.junit.runners.SplitMixRandomSource.GOLDEN_GAMMA;
+import static tech.sirwellington.alchemy.test.junit.runners.SplitMixRandomSource.mix64;
+
+/**
+ * A {@link RandomSource} using the xoroshiro128++ algorithm, which has a longer period than
+ * {@link SplitMixRandomSource}, at the cost of 128 bits of state. The seed is expanded using SplitMix64.
+ *
+ * @author SirWellington
+ */
+@ThreadUnsafe
+public final class XoroshiroRandomSource implements RandomSource
+{
+
+    private long state0;
+    private long state1;
+
+    public XoroshiroRandomSource(long seed)
+    {
+        this.state0 = mix64(seed + GOLDEN_GAMMA);
+        this.state1 = mix64(seed + 2 * GOLDEN_GAMMA);
+
+        //An all-zero state would only ever produce zeroes
+        if (state0 == 0 && state1 == 0)
+        {
+            state0 = GOLDEN_GAMMA;
+        }
+    }
+
+    @Override
+    public long nextLong()
+    {
+        long s0 = state0;
+        long s1 = state1;
+        long result = Long.rotateLeft(s0 + s1, 17) + s0;
+
+        s1 ^= s0;
+        state0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+        state1 = Long.rotateLeft(s1, 28);
+
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "XoroshiroRandomSource{" + "state0=" + state0 + ", state1=" + state1 + '}';
+    }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.model.TestClass;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Compiles sample Test Classes with the processor, then injects them with the runner.
+ *
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AlchemyInjectorProcessorTest
+{
+
+    private static final String VISIBLE_FIELDS =
+        "package com.example;\n" +
+        "\n" +
+        "import java.util.List;\n" +
+        "import tech.sirwellington.alchemy.test.junit.runners.*;\n" +
+        "\n" +
+        "public class VisibleFieldsTest\n" +
+        "{\n" +
+        "    @GenerateInteger(GenerateInteger.Type.POSITIVE) int points;\n" +
+        "    @GenerateLong(GenerateLong.Type.NEGATIVE) long balance;\n" +
+        "    @GenerateDouble(GenerateDouble.Type.POSITIVE) double ratio;\n" +
+        "    @GenerateFloat(GenerateFloat.Type.POSITIVE) Float boxedFloat;\n" +
+        "    @GenerateBoolean boolean flag;\n" +
+        "    @GenerateString(length = 32) String name;\n" +
+        "    @GenerateList(String.class) List<String> names;\n" +
+        "    @GenerateArray(size = 5) byte[] bytes;\n" +
+        "    @GenerateDate java.sql.Timestamp timestamp;\n" +
+        "    @GenerateOnce @GenerateInteger int fixed;\n" +
+        "    @GenerateOnce @GenerateList(String.class) List<String> fixedNames;\n" +
+        "\n" +
+        "    public static class Nested\n" +
+        "    {\n" +
+        "        @GenerateInteger(GenerateInteger.Type.NEGATIVE) protected int value;\n" +
+        "    }\n" +
+        "}\n";
+
+    /*
+     * Its name is what the nested VisibleFieldsTest.Nested would be, with '$' replaced by '_'.
+     */
+    private static final String LOOKALIKE_FIELDS =
+        "package com.example;\n" +
+        "\n" +
+        "import tech.sirwellington.alchemy.test.junit.runners.*;\n" +
+        "\n" +
+        "public class VisibleFieldsTest_Nested\n" +
+        "{\n" +
+        "    @GenerateString String name;\n" +
+        "}\n";
+
+    private static final String PRIVATE_FIELDS =
+        "package com.example;\n" +
+        "\n" +
+        "import tech.sirwellington.alchemy.test.junit.runners.*;\n" +
+        "\n" +
+        "public class PrivateFieldsTest\n" +
+        "{\n" +
+        "    @GenerateString private String name;\n" +
+        "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File sources;
+    private File generated;
+    private File classes;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        sources = folder.newFolder("sources");
+        generated = folder.newFolder("generated");
+        classes = folder.newFolder("classes");
+    }
+
+    @Test
+    public void testGeneratesInjectors() throws Exception
+    {
+        System.out.println("testGeneratesInjectors");
+
+        String output = compile();
+
+        assertThat(new File(generated, "com/example/VisibleFieldsTest_AlchemyInjector.java").exists(), is(true));
+        assertThat(new File(generated, "com/example/VisibleFieldsTest$Nested_AlchemyInjector.java").exists(), is(true));
+        assertThat(new File(generated, "com/example/VisibleFieldsTest_Nested_AlchemyInjector.java").exists(), is(true));
+
+        assertThat(new File(generated, "com/example/PrivateFieldsTest_AlchemyInjector.java").exists(), is(false));
+        assertThat(output, containsString("com.example.PrivateFieldsTest will be injected by reflection: field name is private"));
+    }
+
+    @Test
+    public void testPrimitiveFieldsAreNotBoxed() throws Exception
+    {
+        System.out.println("testPrimitiveFieldsAreNotBoxed");
+
+        compile();
+
+        File injector = new File(generated, "com/example/VisibleFieldsTest_AlchemyInjector.java");
+        String source = new String(Files.readAllBytes(injector.toPath()), StandardCharsets.UTF_8);
+
+        assertThat(source, containsString("target.points = generator0.getInt();"));
+        assertThat(source, containsString("target.balance = generator1.getLong();"));
+        assertThat(source, containsString("target.ratio = generator2.getDouble();"));
+        assertThat(source, containsString("target.boxedFloat = (java.lang.Float) generator3.get();"));
+    }
+
+    @Test
+    public void testRunnerUsesGeneratedInjector() throws Exception
+    {
+        System.out.println("testRunnerUsesGeneratedInjector");
+
+        compile();
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, getClass().getClassLoader()))
+        {
+            Class<?> testClass = loader.loadClass("com.example.VisibleFieldsTest");
+            InjectionPlan plan = TestClassInjectors.planFor(new TestClass(testClass));
+
+            assertThat(plan.hasGeneratedInjectors(), is(true));
+            assertThat(plan.size(), is(0));
+
+            Object instance = testClass.newInstance();
+            plan.injectInto(instance);
+
+            assertThat((Integer) valueOf(instance, "points"), greaterThan(0));
+            assertThat((Long) valueOf(instance, "balance"), lessThan(0L));
+            assertThat((Double) valueOf(instance, "ratio"), greaterThan(0.0));
+            assertThat((Float) valueOf(instance, "boxedFloat"), greaterThan(0.0f));
+            assertThat(((String) valueOf(instance, "name")).length(), is(32));
+            assertThat((List<?>) valueOf(instance, "names"), not(empty()));
+            assertThat(((byte[]) valueOf(instance, "bytes")).length, is(5));
+            assertThat(valueOf(instance, "timestamp"), instanceOf(Timestamp.class));
+        }
+    }
+
+    @Test
+    public void testNestedAndLookalikeClassesGetTheirOwnInjectors() throws Exception
+    {
+        System.out.println("testNestedAndLookalikeClassesGetTheirOwnInjectors");
+
+        compile();
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, getClass().getClassLoader()))
+        {
+            Class<?> nested = loader.loadClass("com.example.VisibleFieldsTest$Nested");
+            Class<?> lookalike = loader.loadClass("com.example.VisibleFieldsTest_Nested");
+
+            GeneratedInjector<?> nestedInjector = GeneratedInjectors.find(nested);
+            GeneratedInjector<?> lookalikeInjector = GeneratedInjectors.find(lookalike);
+
+            assertThat(nestedInjector, notNullValue());
+            assertThat(lookalikeInjector, notNullValue());
+            assertThat(nestedInjector.getClass(), not(equalTo((Object) lookalikeInjector.getClass())));
+
+            Object instance = lookalike.newInstance();
+            TestClassInjectors.planFor(new TestClass(lookalike)).injectInto(instance);
+            assertThat((String) valueOf(instance, "name"), not(isEmptyOrNullString()));
+        }
+    }
+
+    @Test
+    public void testGeneratedInjectorGeneratesOnce() throws Exception
+    {
+        System.out.println("testGeneratedInjectorGeneratesOnce");
+
+        compile();
+
+        File injector = new File(generated, "com/example/VisibleFieldsTest_AlchemyInjector.java");
+        String source = new String(Files.readAllBytes(injector.toPath()), StandardCharsets.UTF_8);
+        assertThat(source, containsString("target.fixed = (int) generator9.get();"));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, getClass().getClassLoader()))
+        {
+            Class<?> testClass = loader.loadClass("com.example.VisibleFieldsTest");
+            InjectionPlan plan = TestClassInjectors.planFor(new TestClass(testClass));
+
+            Object first = testClass.newInstance();
+            Object second = testClass.newInstance();
+            plan.injectInto(first);
+            plan.injectInto(second);
+
+            assertThat(valueOf(second, "fixed"), is(valueOf(first, "fixed")));
+            assertThat(valueOf(second, "fixedNames"), sameInstance(valueOf(first, "fixedNames")));
+            assertThat(valueOf(second, "name"), not(valueOf(first, "name")));
+        }
+    }
+
+    @Test
+    public void testRunnerFallsBackToReflection() throws Exception
+    {
+        System.out.println("testRunnerFallsBackToReflection");
+
+        compile();
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, getClass().getClassLoader()))
+        {
+            Class<?> testClass = loader.loadClass("com.example.PrivateFieldsTest");
+            InjectionPlan plan = TestClassInjectors.planFor(new TestClass(testClass));
+
+            assertThat(plan.hasGeneratedInjectors(), is(false));
+            assertThat(plan.size(), is(1));
+
+            Object instance = testClass.newInstance();
+            plan.injectInto(instance);
+
+            assertThat((String) valueOf(instance, "name"), not(isEmptyOrNullString()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGeneratorForMissingField() throws Exception
+    {
+        GeneratedInjectors.generatorFor(AlchemyInjectorProcessorTest.class, "missing");
+    }
+
+    @Test
+    public void testInjectorNameFor() throws Exception
+    {
+        assertThat(GeneratedInjectors.injectorNameFor("com.example.Outer$Inner"), is("com.example.Outer$Inner_AlchemyInjector"));
+        assertThat(GeneratedInjectors.injectorNameFor("com.example.Outer_Inner"), is("com.example.Outer_Inner_AlchemyInjector"));
+    }
+
+    private String compile() throws Exception
+    {
+        File visible = write("VisibleFieldsTest.java", VISIBLE_FIELDS);
+        File hidden = write("PrivateFieldsTest.java", PRIVATE_FIELDS);
+        File lookalike = write("VisibleFieldsTest_Nested.java", LOOKALIKE_FIELDS);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StringWriter output = new StringWriter();
+
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8))
+        {
+            Iterable<? extends JavaFileObject> units = files.getJavaFileObjects(visible, hidden, lookalike);
+            List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                                                 "-processor", AlchemyInjectorProcessor.class.getName(),
+                                                 "-s", generated.getPath(),
+                                                 "-d", classes.getPath());
+
+            Boolean success = compiler.getTask(output, files, null, options, null, units).call();
+            assertThat(output.toString(), success, is(true));
+        }
+
+        return output.toString();
+    }
+
+    private File write(String name, String source) throws Exception
+    {
+        File file = new File(sources, name);
+        Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static Object valueOf(Object instance, String fieldName) throws Exception
+    {
+        java.lang.reflect.Field field = instance.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(instance);
+    }
+
+}
@@ -15,14 +15,22 @@
 package tech.sirwellington.alchemy.test.junit.runners;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.*;
 import org.junit.runner.*;
+import org.junit.runner.notification.Failure;
+import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
 import org.mockito.Mock;
+import org.mockito.exceptions.misusing.UnnecessaryStubbingException;
 import tech.sirwellington.alchemy.generator.AlchemyGenerator;
 
 import static org.hamcrest.Matchers.*;
@@ -63,6 +71,200 @@ public class AlchemyTestRunnerTest
 
     }
 
+    @Test
+    public void testRunConcurrently()
+    {
+        Result result = JUnitCore.runClasses(ConcurrentTest.class);
+        assertTrue("Test runs failed: " + result.getFailures(),
+                   result.wasSuccessful());
+        assertThat(result.getRunCount(), is(3));
+    }
+
+    @Test
+    public void testRunWithRepeatListeners()
+    {
+        CountingListener.reset();
+
+        Result result = JUnitCore.runClasses(ListenedTest.class);
+        assertTrue("Test runs failed: " + result.getFailures(),
+                   result.wasSuccessful());
+
+        assertThat(CountingListener.starts.get(), is(2));
+        assertThat(CountingListener.iterations.get(), is(20 + 1));
+        assertThat(CountingListener.finishes.get(), is(2));
+    }
+
+    @Test
+    public void testRunWithBadRepeatListener()
+    {
+        Result result = JUnitCore.runClasses(BadListenerTest.class);
+        assertThat(result.wasSuccessful(), is(false));
+    }
+
+    @Test
+    public void testRunWithWarmup()
+    {
+        CountingListener.reset();
+        WarmedUpTest.runs.set(0);
+
+        Result result = JUnitCore.runClasses(WarmedUpTest.class);
+        assertTrue("Test runs failed: " + result.getFailures(),
+                   result.wasSuccessful());
+
+        assertThat(WarmedUpTest.runs.get(), is(10 + 5));
+        assertThat(CountingListener.iterations.get(), is(10));
+    }
+
+    @Test
+    public void testRunWithRepeatFor()
+    {
+        TimedTest.timedRuns.set(0);
+        TimedTest.boundedRuns.set(0);
+        TimedTest.repeatedRuns.set(0);
+
+        Result result = JUnitCore.runClasses(TimedTest.class);
+        assertTrue("Test runs failed: " + result.getFailures(),
+                   result.wasSuccessful());
+
+        assertThat(TimedTest.timedRuns.get(), greaterThanOrEqualTo(1));
+        assertThat(TimedTest.timedRuns.get(), lessThan(100));
+        assertThat(TimedTest.boundedRuns.get(), is(7));
+        assertThat(TimedTest.repeatedRuns.get(), is(3));
+    }
+
+    @Test
+    public void testRunWithReusedInstance()
+    {
+        ReusedInstanceTest.instances.set(0);
+        ReusedInstanceTest.befores.set(0);
+        ReusedInstanceTest.strings.clear();
+
+        Result result = JUnitCore.runClasses(ReusedInstanceTest.class);
+        assertTrue("Test runs failed: " + result.getFailures(),
+                   result.wasSuccessful());
+
+        assertThat(ReusedInstanceTest.instances.get(), is(1));
+        assertThat(ReusedInstanceTest.befores.get(), is(10));
+        //Generated fields are still refreshed
+        assertThat(ReusedInstanceTest.strings.size(), greaterThan(1));
+    }
+
+    @Test
+    public void testRunWithReusedInstanceInParallel()
+    {
+        Result result = JUnitCore.runClasses(ReusedInstanceInParallelTest.class);
+
+        assertThat(result.getRunCount(), is(1));
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getException(), instanceOf(IllegalArgumentException.class));
+    }
+
+    @Test
+    public void testRunWithInheritedMocks()
+    {
+        Result result = JUnitCore.runClasses(InheritedMocksTest.class, NoMocksTest.class);
+        assertTrue("Test runs failed: " + result.getFailures(),
+                   result.wasSuccessful());
+    }
+
+    @Test
+    public void testRunWithReusedMocks()
+    {
+        ReusedMocksTest.listeners.clear();
+        ReusedMocksTest.runs.set(0);
+
+        Result result = JUnitCore.runClasses(ReusedMocksTest.class);
+        assertTrue("Test runs failed: " + result.getFailures(),
+                   result.wasSuccessful());
+
+        assertThat(ReusedMocksTest.runs.get(), is(10));
+        assertThat(ReusedMocksTest.listeners.size(), is(1));
+    }
+
+    @Test
+    public void testRunWithReusedMocksInParallel()
+    {
+        ReusedMocksInParallelTest.listeners.clear();
+
+        Result result = JUnitCore.runClasses(ReusedMocksInParallelTest.class);
+        assertTrue("Test runs failed: " + result.getFailures(),
+                   result.wasSuccessful());
+
+        assertThat(ReusedMocksInParallelTest.listeners.size(), is(10));
+    }
+
+    @Test
+    public void testRunWithLatencyBudget()
+    {
+        Result result = JUnitCore.runClasses(BudgetedTest.class);
+
+        assertThat(result.getRunCount(), is(3));
+        assertThat(result.getFailureCount(), is(2));
+
+        for (Failure failure : result.getFailures())
+        {
+            assertThat(failure.getDescription().getMethodName(), not(is("runFastTest")));
+        }
+    }
+
+    @Test
+    public void testRunWithStrictStubs()
+    {
+        Result result = JUnitCore.runClasses(StrictStubsTest.class);
+
+        assertThat(result.getRunCount(), is(2));
+        assertThat(result.getFailureCount(), is(1));
+
+        Failure failure = result.getFailures().get(0);
+        assertThat(failure.getException(), instanceOf(UnnecessaryStubbingException.class));
+        assertThat(failure.getMessage(), containsString("stubUnused"));
+    }
+
+    @Test
+    public void testRunWithStrictStubsWhenAllAreUsed()
+    {
+        Result result = JUnitCore.runClasses(UsedStrictStubsTest.class);
+        assertTrue("Test runs failed: " + result.getFailures(),
+                   result.wasSuccessful());
+    }
+
+    @Test
+    public void testRunWithStrictStubsWhenATestFails()
+    {
+        Result result = JUnitCore.runClasses(FailingStrictStubsTest.class);
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getException(), instanceOf(AssertionError.class));
+    }
+
+    @Test
+    public void testRunWithRandomSource()
+    {
+        Result result = JUnitCore.runClasses(RandomSourceTest.class);
+        assertTrue("Test runs failed: " + result.getFailures(),
+                   result.wasSuccessful());
+    }
+
+    @Test
+    public void testRunWithBadRandomSource()
+    {
+        Result result = JUnitCore.runClasses(BadRandomSourceTest.class);
+        assertThat(result.getFailureCount(), is(1));
+    }
+
+    @Test
+    public void testRunWithReplaySeed()
+    {
+        ReplayedTest.numbers.clear();
+
+        Result result = JUnitCore.runClasses(ReplayedTest.class);
+        assertTrue("Test runs failed: " + result.getFailures(),
+                   result.wasSuccessful());
+
+        int expected = RandomSources.nextInt(new SplitMixRandomSource(42L), 1, Integer.MAX_VALUE);
+        assertThat(ReplayedTest.numbers, contains(expected));
+    }
+
     @RunWith(AlchemyTestRunner.class)
     @Repeat(RUNS)
     public static class MockTestClass
@@ -217,6 +419,506 @@ public class AlchemyTestRunnerTest
         }
     }
 
+    @RunWith(AlchemyTestRunner.class)
+    @RunConcurrently(maxConcurrency = 4)
+    @Repeat(50)
+    public static class ConcurrentTest
+    {
+
+        private static final AtomicInteger firstTotalRuns = new AtomicInteger();
+        private static final AtomicInteger secondTotalRuns = new AtomicInteger();
+        private static final AtomicInteger thirdTotalRuns = new AtomicInteger();
+        private static final AtomicInteger running = new AtomicInteger();
+        private static final AtomicInteger maxRunning = new AtomicInteger();
+        private static final AtomicInteger offThreadRuns = new AtomicInteger();
+        private static final Set<String> threads = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        private static volatile String mainThread;
+
+        @GenerateString
+        private String string;
+
+        @BeforeClass
+        public static void whenBegin()
+        {
+            firstTotalRuns.set(0);
+            secondTotalRuns.set(0);
+            thirdTotalRuns.set(0);
+            running.set(0);
+            maxRunning.set(0);
+            offThreadRuns.set(0);
+            threads.clear();
+            mainThread = Thread.currentThread().getName();
+        }
+
+        @Before
+        public void setup() throws InterruptedException
+        {
+            assertThat(string, not(isEmptyOrNullString()));
+
+            int current = running.incrementAndGet();
+            int max = maxRunning.get();
+            while (current > max && !maxRunning.compareAndSet(max, current))
+            {
+                max = maxRunning.get();
+            }
+
+            if (!Thread.currentThread().getName().equals(mainThread))
+            {
+                offThreadRuns.incrementAndGet();
+            }
+
+            threads.add(Thread.currentThread().getName());
+
+            Thread.sleep(1);
+        }
+
+        @After
+        public void tearDown()
+        {
+            running.decrementAndGet();
+        }
+
+        @Test
+        public void runFirstTest()
+        {
+            firstTotalRuns.incrementAndGet();
+        }
+
+        @Repeat(value = 10, parallelism = 2)
+        @Test
+        public void runSecondTest()
+        {
+            secondTotalRuns.incrementAndGet();
+        }
+
+        @DontRepeat
+        @Test
+        public void runThirdTest()
+        {
+            thirdTotalRuns.incrementAndGet();
+        }
+
+        @AfterClass
+        public static void whenDone()
+        {
+            assertThat(firstTotalRuns.get(), is(50));
+            assertThat(secondTotalRuns.get(), is(10));
+            assertThat(thirdTotalRuns.get(), is(1));
+            assertThat(offThreadRuns.get(), is(61));
+
+            //Methods and their iterations share the limit, and its threads
+            assertThat(maxRunning.get(), lessThanOrEqualTo(4));
+            assertThat(threads.size(), lessThanOrEqualTo(4));
+        }
+    }
+
+    public static class CountingListener implements RepeatListener
+    {
+
+        private static final AtomicInteger starts = new AtomicInteger();
+        private static final AtomicInteger iterations = new AtomicInteger();
+        private static final AtomicInteger finishes = new AtomicInteger();
+
+        static void reset()
+        {
+            starts.set(0);
+            iterations.set(0);
+            finishes.set(0);
+        }
+
+        @Override
+        public void onStart(org.junit.runners.model.FrameworkMethod method, int iterations)
+        {
+            starts.incrementAndGet();
+        }
+
+        @Override
+        public void onIteration(org.junit.runners.model.FrameworkMethod method, int iteration, long durationNanos)
+        {
+            iterations.incrementAndGet();
+        }
+
+        @Override
+        public void onFinish(org.junit.runners.model.FrameworkMethod method, RepeatResult result)
+        {
+            finishes.incrementAndGet();
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners(CountingListener.class)
+    @Repeat(20)
+    public static class ListenedTest
+    {
+
+        @Test
+        public void runFirstTest()
+        {
+        }
+
+        @DontRepeat
+        @Test
+        public void runSecondTest()
+        {
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners(CountingListener.class)
+    @Repeat(value = 10, warmup = 5)
+    public static class WarmedUpTest
+    {
+
+        private static final AtomicInteger runs = new AtomicInteger();
+
+        @Test
+        public void runTest()
+        {
+            runs.incrementAndGet();
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @RepeatFor(value = 50, unit = TimeUnit.MILLISECONDS)
+    public static class TimedTest
+    {
+
+        private static final AtomicInteger timedRuns = new AtomicInteger();
+        private static final AtomicInteger boundedRuns = new AtomicInteger();
+        private static final AtomicInteger repeatedRuns = new AtomicInteger();
+
+        @Test
+        public void runTimedTest() throws InterruptedException
+        {
+            timedRuns.incrementAndGet();
+            Thread.sleep(5);
+        }
+
+        @RepeatFor(value = 1, unit = TimeUnit.MINUTES, maxIterations = 7)
+        @Test
+        public void runBoundedTest()
+        {
+            boundedRuns.incrementAndGet();
+        }
+
+        @Repeat(3)
+        @Test
+        public void runRepeatedTest()
+        {
+            repeatedRuns.incrementAndGet();
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @Repeat(value = 10, reuseInstance = true)
+    public static class ReusedInstanceTest
+    {
+
+        private static final AtomicInteger instances = new AtomicInteger();
+        private static final AtomicInteger befores = new AtomicInteger();
+        private static final Set<String> strings = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+        @GenerateString
+        private String string;
+
+        public ReusedInstanceTest()
+        {
+            instances.incrementAndGet();
+        }
+
+        @Before
+        public void setUp()
+        {
+            befores.incrementAndGet();
+        }
+
+        @Test
+        public void runTest()
+        {
+            strings.add(string);
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @Repeat(value = 10, parallelism = 2, reuseInstance = true)
+    public static class ReusedInstanceInParallelTest
+    {
+
+        @Test
+        public void runTest()
+        {
+        }
+    }
+
+    public static class MockHolder
+    {
+
+        @Mock
+        protected RepeatListener listener;
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @Repeat(5)
+    public static class InheritedMocksTest extends MockHolder
+    {
+
+        @Test
+        public void runTest()
+        {
+            assertThat(listener, notNullValue());
+            assertTrue(mockingDetails(listener).isMock());
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @Repeat(5)
+    public static class NoMocksTest
+    {
+
+        @GenerateString
+        private String string;
+
+        private RepeatListener listener;
+
+        @Test
+        public void runTest()
+        {
+            assertThat(string, notNullValue());
+            assertThat(listener, nullValue());
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @InitMocks(reuseMocks = true)
+    @Repeat(10)
+    public static class ReusedMocksTest
+    {
+
+        private static final Set<RepeatListener> listeners = Collections.newSetFromMap(new ConcurrentHashMap<RepeatListener, Boolean>());
+        private static final AtomicInteger runs = new AtomicInteger();
+
+        @Mock
+        private RepeatListener listener;
+
+        @Before
+        public void setUp()
+        {
+            doThrow(new IllegalStateException()).when(listener).onStart(null, 1);
+        }
+
+        @Test
+        public void runTest()
+        {
+            runs.incrementAndGet();
+            listeners.add(listener);
+
+            //Each iteration starts with no recorded invocations
+            verifyZeroInteractions(listener);
+            listener.onFinish(null, null);
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @InitMocks(reuseMocks = true)
+    @Repeat(value = 10, parallelism = 2)
+    public static class ReusedMocksInParallelTest
+    {
+
+        private static final Set<RepeatListener> listeners = Collections.newSetFromMap(new ConcurrentHashMap<RepeatListener, Boolean>());
+
+        @Mock
+        private RepeatListener listener;
+
+        @Test
+        public void runTest()
+        {
+            listeners.add(listener);
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners(UninstantiableListener.class)
+    public static class BadListenerTest
+    {
+
+        @Test
+        public void runTest()
+        {
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @Repeat(5)
+    @LatencyBudget(value = 1, unit = TimeUnit.MINUTES)
+    public static class BudgetedTest
+    {
+
+        @Test
+        public void runFastTest()
+        {
+        }
+
+        @LatencyBudget(value = 1, unit = TimeUnit.MILLISECONDS, percentile = 50)
+        @Test
+        public void runSlowTest() throws InterruptedException
+        {
+            Thread.sleep(5);
+        }
+
+        @LatencyBudget(value = 0)
+        @Test
+        public void runTestWithBadBudget()
+        {
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @InitMocks(strictStubs = true)
+    @Repeat(10)
+    public static class StrictStubsTest
+    {
+
+        @Mock
+        private FrameworkMethod method;
+
+        @Before
+        public void stubUnused()
+        {
+            when(method.getName()).thenReturn("unused");
+        }
+
+        @Test
+        public void runTest()
+        {
+        }
+
+        @Test
+        public void runAnotherTest()
+        {
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @InitMocks(strictStubs = true)
+    @Repeat(10)
+    public static class UsedStrictStubsTest
+    {
+
+        private static final AtomicInteger iterations = new AtomicInteger();
+
+        @Mock
+        private FrameworkMethod method;
+
+        @Before
+        public void setUp()
+        {
+            when(method.getName()).thenReturn("used");
+        }
+
+        @Test
+        public void runTest()
+        {
+            //A stubbing only needs to be used by one iteration
+            if (iterations.incrementAndGet() == 5)
+            {
+                method.getName();
+            }
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @InitMocks(strictStubs = true)
+    public static class FailingStrictStubsTest
+    {
+
+        @Mock
+        private FrameworkMethod method;
+
+        @Before
+        public void setUp()
+        {
+            when(method.getName()).thenReturn("unused");
+        }
+
+        @Test
+        public void runTest()
+        {
+            Assert.fail();
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @UseRandomSource(XoroshiroRandomSource.class)
+    @Repeat(value = 10, parallelism = 2)
+    public static class RandomSourceTest
+    {
+
+        @GenerateInteger(GenerateInteger.Type.POSITIVE)
+        private int number;
+
+        @GenerateString(length = 5)
+        private String string;
+
+        @Test
+        public void runTest()
+        {
+            //Each iteration draws from its own Random Source
+            assertThat(RandomSources.current(), instanceOf(XoroshiroRandomSource.class));
+            assertThat(number, greaterThan(0));
+            assertThat(string.length(), is(5));
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @UseRandomSource(RandomSourcesTest.UnseededRandomSource.class)
+    public static class BadRandomSourceTest
+    {
+
+        @Test
+        public void runTest()
+        {
+        }
+    }
+
+    @RunWith(AlchemyTestRunner.class)
+    @RepeatListeners({})
+    @Repeat(50)
+    public static class ReplayedTest
+    {
+
+        private static final List<Integer> numbers = Collections.synchronizedList(new ArrayList<Integer>());
+
+        @GenerateInteger(GenerateInteger.Type.POSITIVE)
+        private int number;
+
+        @ReplaySeed(42L)
+        @Test
+        public void runTest()
+        {
+            numbers.add(number);
+        }
+    }
+
+    public static class UninstantiableListener extends CountingListener
+    {
+        private UninstantiableListener()
+        {
+        }
+    }
+
     private static class SamplePojo
     {
         private String name;
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static tech.sirwellington.alchemy.generator.AlchemyGenerator.Get.one;
+import static tech.sirwellington.alchemy.generator.NumberGenerators.integers;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class BufferedStringGeneratorTest
+{
+
+    private int length;
+
+    @Before
+    public void setUp()
+    {
+        length = one(integers(1, 500));
+    }
+
+    @Test
+    public void testGet()
+    {
+        for (String alphabet : new String[] { BufferedStringGenerator.ALPHABETIC,
+                                              BufferedStringGenerator.ALPHANUMERIC,
+                                              BufferedStringGenerator.HEXADECIMAL,
+                                              BufferedStringGenerator.NUMERIC })
+        {
+            BufferedStringGenerator instance = new BufferedStringGenerator(alphabet, length);
+
+            String result = instance.get();
+            assertThat(result.length(), is(length));
+            assertOnlyUses(alphabet, result);
+        }
+    }
+
+    @Test
+    public void testGetUsesTheWholeAlphabet()
+    {
+        BufferedStringGenerator instance = new BufferedStringGenerator(BufferedStringGenerator.ALPHANUMERIC, 10_000);
+
+        Set<Character> characters = new HashSet<>();
+        for (char character : instance.get().toCharArray())
+        {
+            characters.add(character);
+        }
+
+        assertThat(characters.size(), is(BufferedStringGenerator.ALPHANUMERIC.length()));
+    }
+
+    @Test
+    public void testGetWithGrowingLengths()
+    {
+        String small = new BufferedStringGenerator(BufferedStringGenerator.NUMERIC, 10).get();
+        String large = new BufferedStringGenerator(BufferedStringGenerator.NUMERIC, 64 * 1024).get();
+        String huge = new BufferedStringGenerator(BufferedStringGenerator.NUMERIC, BufferedStringGenerator.MAX_RETAINED_BUFFER + 1).get();
+        String smallAgain = new BufferedStringGenerator(BufferedStringGenerator.NUMERIC, 10).get();
+
+        assertThat(small.length(), is(10));
+        assertThat(large.length(), is(64 * 1024));
+        assertThat(huge.length(), is(BufferedStringGenerator.MAX_RETAINED_BUFFER + 1));
+        assertThat(smallAgain.length(), is(10));
+        assertOnlyUses(BufferedStringGenerator.NUMERIC, large);
+    }
+
+    @Test
+    public void testGetReturnsDifferentStrings()
+    {
+        BufferedStringGenerator instance = new BufferedStringGenerator(BufferedStringGenerator.ALPHABETIC, 32);
+
+        String first = instance.get();
+        String second = instance.get();
+
+        assertThat(second, not(first));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithBadLength()
+    {
+        new BufferedStringGenerator(BufferedStringGenerator.ALPHABETIC, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithBadAlphabet()
+    {
+        new BufferedStringGenerator("a", length);
+    }
+
+    private static void assertOnlyUses(String alphabet, String string)
+    {
+        for (char character : string.toCharArray())
+        {
+            assertThat(alphabet.indexOf(character), greaterThanOrEqualTo(0));
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.model.FrameworkMethod;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CompositeRepeatListenerTest
+{
+
+    @Mock
+    private RepeatListener first;
+
+    @Mock
+    private RepeatListener second;
+
+    @Mock
+    private FrameworkMethod method;
+
+    private RepeatResult result;
+
+    private CompositeRepeatListener instance;
+
+    @Before
+    public void setUp()
+    {
+        result = new RepeatResult(10, 1000L);
+        instance = CompositeRepeatListener.of(first, second);
+    }
+
+    @Test
+    public void testDispatchesToAll()
+    {
+        instance.onStart(method, 10);
+        instance.onIteration(method, 3, 100L);
+        instance.onFinish(method, result);
+
+        verify(first).onStart(method, 10);
+        verify(second).onStart(method, 10);
+        verify(first).onIteration(method, 3, 100L);
+        verify(second).onIteration(method, 3, 100L);
+        verify(first).onFinish(method, result);
+        verify(second).onFinish(method, result);
+    }
+
+    @Test
+    public void testFailingListenerDoesNotStopOthers()
+    {
+        doThrow(new RuntimeException()).when(first).onStart(any(FrameworkMethod.class), anyInt());
+        doThrow(new RuntimeException()).when(first).onIteration(any(FrameworkMethod.class), anyInt(), anyLong());
+        doThrow(new RuntimeException()).when(first).onFinish(any(FrameworkMethod.class), any(RepeatResult.class));
+
+        instance.onStart(method, 10);
+        instance.onIteration(method, 3, 100L);
+        instance.onFinish(method, result);
+
+        verify(second).onStart(method, 10);
+        verify(second).onIteration(method, 3, 100L);
+        verify(second).onFinish(method, result);
+    }
+
+    @Test
+    public void testIsEmpty()
+    {
+        assertThat(instance.isEmpty(), is(false));
+        assertThat(CompositeRepeatListener.of().isEmpty(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithNull()
+    {
+        new CompositeRepeatListener(null);
+    }
+
+}
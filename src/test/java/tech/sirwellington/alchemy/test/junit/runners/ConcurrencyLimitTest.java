@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConcurrencyLimitTest
+{
+
+    private int maxConcurrency;
+
+    private ConcurrencyLimit instance;
+
+    @Before
+    public void setUp()
+    {
+        maxConcurrency = 3;
+        instance = new ConcurrencyLimit("test-", maxConcurrency, false);
+    }
+
+    @After
+    public void tearDown()
+    {
+        instance.shutdown();
+    }
+
+    @Test
+    public void testTryAcquire()
+    {
+        System.out.println("testTryAcquire");
+
+        assertThat(instance.tryAcquire(2), is(2));
+        assertThat(instance.tryAcquire(5), is(1));
+        assertThat(instance.tryAcquire(1), is(0));
+
+        instance.release();
+        assertThat(instance.tryAcquire(1), is(1));
+    }
+
+    @Test
+    public void testSubmitReleasesItsPermit() throws Exception
+    {
+        System.out.println("testSubmitReleasesItsPermit");
+
+        assertThat(instance.tryAcquire(maxConcurrency), is(maxConcurrency));
+
+        List<Future<String>> results = new ArrayList<>();
+
+        for (int i = 0; i < maxConcurrency; ++i)
+        {
+            results.add(instance.submit(new Callable<String>()
+            {
+                @Override
+                public String call()
+                {
+                    return Thread.currentThread().getName();
+                }
+            }));
+        }
+
+        for (Future<String> result : results)
+        {
+            assertThat(result.get(), startsWith("test-"));
+        }
+
+        instance.awaitIdle();
+        assertThat(instance.tryAcquire(maxConcurrency), is(maxConcurrency));
+    }
+
+    @Test
+    public void testThreadsAreReused() throws Exception
+    {
+        System.out.println("testThreadsAreReused");
+
+        final Set<String> threads = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+        for (int i = 0; i < 50; ++i)
+        {
+            instance.acquire();
+            instance.submit(new Callable<Void>()
+            {
+                @Override
+                public Void call()
+                {
+                    threads.add(Thread.currentThread().getName());
+                    return null;
+                }
+            });
+        }
+
+        instance.awaitIdle();
+        assertThat(threads.size(), lessThanOrEqualTo(maxConcurrency));
+    }
+
+    @Test
+    public void testAwaitIdleWaitsForTasks() throws Exception
+    {
+        System.out.println("testAwaitIdleWaitsForTasks");
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final List<String> finished = Collections.synchronizedList(new ArrayList<String>());
+
+        instance.acquire();
+        instance.submit(new Callable<Void>()
+        {
+            @Override
+            public Void call() throws Exception
+            {
+                started.countDown();
+                Thread.sleep(20);
+                finished.add("done");
+                return null;
+            }
+        });
+
+        started.await();
+        instance.awaitIdle();
+        assertThat(finished, contains("done"));
+    }
+
+    @Test
+    public void testCanBeUsedAfterShutdown() throws Exception
+    {
+        System.out.println("testCanBeUsedAfterShutdown");
+
+        instance.shutdown();
+
+        instance.acquire();
+        Future<Integer> result = instance.submit(new Callable<Integer>()
+        {
+            @Override
+            public Integer call()
+            {
+                return 1;
+            }
+        });
+
+        assertThat(result.get(), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithBadConcurrency()
+    {
+        System.out.println("testConstructorWithBadConcurrency");
+
+        new ConcurrencyLimit("test-", 0, false);
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConcurrentSchedulerTest
+{
+
+    private int maxConcurrency;
+
+    private ConcurrentScheduler instance;
+
+    @Before
+    public void setUp()
+    {
+        maxConcurrency = 3;
+        instance = new ConcurrentScheduler(new ConcurrencyLimit("test-", maxConcurrency, true));
+    }
+
+    @Test
+    public void testScheduleAndFinish() throws Exception
+    {
+        final int tasks = 30;
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        Runnable task = new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                int current = running.incrementAndGet();
+                int max = maxRunning.get();
+                while (current > max && !maxRunning.compareAndSet(max, current))
+                {
+                    max = maxRunning.get();
+                }
+
+                try
+                {
+                    Thread.sleep(2);
+                }
+                catch (InterruptedException ex)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
+                running.decrementAndGet();
+                completed.incrementAndGet();
+            }
+        };
+
+        for (int i = 0; i < tasks; ++i)
+        {
+            instance.schedule(task);
+        }
+
+        instance.finished();
+
+        assertThat(completed.get(), is(tasks));
+        assertThat(maxRunning.get(), lessThanOrEqualTo(maxConcurrency));
+
+        //Can be used again after finishing
+        instance.schedule(task);
+        instance.finished();
+        assertThat(completed.get(), is(tasks + 1));
+    }
+
+    @Test
+    public void testFinishedWithoutSchedule() throws Exception
+    {
+        instance.finished();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithNullLimit() throws Exception
+    {
+        new ConcurrentScheduler(null);
+    }
+
+    @Test
+    public void testToString()
+    {
+        assertThat(instance.toString(), not(isEmptyOrNullString()));
+    }
+
+}
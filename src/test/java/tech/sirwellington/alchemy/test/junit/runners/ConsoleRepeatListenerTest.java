@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.model.FrameworkMethod;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConsoleRepeatListenerTest
+{
+
+    @Mock
+    private FrameworkMethod method;
+
+    private PrintStream originalOut;
+    private ByteArrayOutputStream output;
+
+    private ConsoleRepeatListener instance;
+
+    @Before
+    public void setUp()
+    {
+        when(method.getName()).thenReturn("testSomething");
+
+        originalOut = System.out;
+        output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true));
+
+        instance = new ConsoleRepeatListener();
+    }
+
+    @After
+    public void tearDown()
+    {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void testOnFinishNamesTheMethod()
+    {
+        LatencyHistogram latencies = new LatencyHistogram();
+        latencies.record(100);
+        latencies.record(200);
+
+        instance.onFinish(method, new RepeatResult(2, 300L, latencies));
+
+        String printed = output.toString();
+        System.setOut(originalOut);
+        System.out.println("testOnFinishNamesTheMethod");
+
+        assertThat(printed, startsWith("testSomething() finished in 0ms"));
+        assertThat(printed, containsString("Runs: 2"));
+        assertThat(printed, containsString("Latency: p50=100ns"));
+    }
+
+    @Test
+    public void testOnFinishWithOneIteration()
+    {
+        instance.onFinish(method, new RepeatResult(1, 300L));
+
+        String printed = output.toString();
+        System.setOut(originalOut);
+        System.out.println("testOnFinishWithOneIteration");
+
+        assertThat(printed, is("testSomething() finished in 0ms" + System.lineSeparator()));
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static tech.sirwellington.alchemy.generator.AlchemyGenerator.Get.one;
+import static tech.sirwellington.alchemy.generator.NumberGenerators.*;
+import static tech.sirwellington.alchemy.generator.StringGenerators.alphabeticStrings;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class FieldWriterTest
+{
+
+    private Sample sample;
+
+    @Before
+    public void setUp()
+    {
+        sample = new Sample();
+    }
+
+    @Test
+    public void testSet() throws Exception
+    {
+        String value = one(alphabeticStrings());
+
+        FieldWriter writer = FieldWriter.forField(Sample.class.getDeclaredField("string"));
+        writer.set(sample, value);
+
+        assertThat(sample.string, is(value));
+    }
+
+    @Test
+    public void testSetOnPrimitiveField() throws Exception
+    {
+        Integer value = one(integers(-100, 100));
+
+        FieldWriter writer = FieldWriter.forField(Sample.class.getDeclaredField("integer"));
+        writer.set(sample, value);
+
+        assertThat(sample.integer, is(value));
+    }
+
+    @Test
+    public void testSetPrimitives() throws Exception
+    {
+        int integer = one(integers(-100, 100));
+        long longValue = one(longs(-100L, 100L));
+        double doubleValue = one(doubles(-100, 100));
+        float floatValue = one(positiveFloats());
+
+        FieldWriter.forField(Sample.class.getDeclaredField("integer")).setInt(sample, integer);
+        FieldWriter.forField(Sample.class.getDeclaredField("longValue")).setLong(sample, longValue);
+        FieldWriter.forField(Sample.class.getDeclaredField("doubleValue")).setDouble(sample, doubleValue);
+        FieldWriter.forField(Sample.class.getDeclaredField("floatValue")).setFloat(sample, floatValue);
+        FieldWriter.forField(Sample.class.getDeclaredField("bool")).setBoolean(sample, true);
+
+        assertThat(sample.integer, is(integer));
+        assertThat(sample.longValue, is(longValue));
+        assertThat(sample.doubleValue, is(doubleValue));
+        assertThat(sample.floatValue, is(floatValue));
+        assertThat(sample.bool, is(true));
+    }
+
+    @Test
+    public void testSetOnStaticField() throws Exception
+    {
+        String value = one(alphabeticStrings());
+
+        FieldWriter writer = FieldWriter.forField(Sample.class.getDeclaredField("staticString"));
+        writer.set(sample, value);
+
+        assertThat(Sample.staticString, is(value));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetWithWrongType() throws Exception
+    {
+        FieldWriter writer = FieldWriter.forField(Sample.class.getDeclaredField("string"));
+        writer.set(sample, 45);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetPrimitiveWithWrongType() throws Exception
+    {
+        FieldWriter writer = FieldWriter.forField(Sample.class.getDeclaredField("longValue"));
+        writer.setInt(sample, 45);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testForFieldWithNull() throws Exception
+    {
+        FieldWriter.forField(null);
+    }
+
+    private static class Sample
+    {
+        private static String staticString;
+
+        private String string;
+        private int integer;
+        private long longValue;
+        private double doubleValue;
+        private float floatValue;
+        private boolean bool;
+    }
+
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.annotation.Annotation;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static tech.sirwellington.alchemy.generator.AlchemyGenerator.Get.one;
+import static tech.sirwellington.alchemy.generator.NumberGenerators.integers;
+import static tech.sirwellington.alchemy.generator.NumberGenerators.longs;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GenerateArrayTest
+{
+
+    private int size;
+    private long min;
+    private long max;
+
+    private GenerateArrayInstance annotation;
+
+    @Before
+    public void setUp()
+    {
+        size = one(integers(1, 1000));
+        min = one(longs(-100, 0));
+        max = one(longs(1, 100));
+        annotation = new GenerateArrayInstance(size, min, max);
+    }
+
+    @Test(expected = IllegalAccessException.class)
+    public void testCannotInstatiate() throws IllegalAccessException, InstantiationException
+    {
+        System.out.println("testCannotInstatiate");
+
+        GenerateArray.Values.class.newInstance();
+    }
+
+    @Test
+    public void testIntArrays()
+    {
+        System.out.println("testIntArrays");
+
+        int[] result = (int[]) GenerateArray.Values.createGeneratorFor(annotation, int[].class).get();
+        assertThat(result.length, is(size));
+
+        for (int value : result)
+        {
+            assertThat((long) value, greaterThanOrEqualTo(min));
+            assertThat((long) value, lessThan(max));
+        }
+    }
+
+    @Test
+    public void testLongArrays()
+    {
+        System.out.println("testLongArrays");
+
+        long[] result = (long[]) GenerateArray.Values.createGeneratorFor(annotation, long[].class).get();
+        assertThat(result.length, is(size));
+
+        for (long value : result)
+        {
+            assertThat(value, greaterThanOrEqualTo(min));
+            assertThat(value, lessThan(max));
+        }
+    }
+
+    @Test
+    public void testDoubleArrays()
+    {
+        System.out.println("testDoubleArrays");
+
+        double[] result = (double[]) GenerateArray.Values.createGeneratorFor(annotation, double[].class).get();
+        assertThat(result.length, is(size));
+
+        for (double value : result)
+        {
+            assertThat(value, greaterThanOrEqualTo((double) min));
+            assertThat(value, lessThan((double) max));
+        }
+    }
+
+    @Test
+    public void testFloatArrays()
+    {
+        System.out.println("testFloatArrays");
+
+        float[] result = (float[]) GenerateArray.Values.createGeneratorFor(annotation, float[].class).get();
+        assertThat(result.length, is(size));
+
+        for (float value : result)
+        {
+            assertThat(value, greaterThanOrEqualTo((float) min));
+            assertThat(value, lessThan((float) max));
+        }
+    }
+
+    @Test
+    public void testFractionalDoubleArrays()
+    {
+        System.out.println("testFractionalDoubleArrays");
+
+        annotation = new GenerateArrayInstance(size, 0, 0, 0.25, 0.75);
+
+        double[] result = (double[]) GenerateArray.Values.createGeneratorFor(annotation, double[].class).get();
+        assertThat(result.length, is(size));
+
+        for (double value : result)
+        {
+            assertThat(value, greaterThanOrEqualTo(0.25));
+            assertThat(value, lessThan(0.75));
+        }
+    }
+
+    @Test
+    public void testFractionalFloatArrays()
+    {
+        System.out.println("testFractionalFloatArrays");
+
+        annotation = new GenerateArrayInstance(size, 0, 0, -0.5, 0.5);
+
+        float[] result = (float[]) GenerateArray.Values.createGeneratorFor(annotation, float[].class).get();
+        assertThat(result.length, is(size));
+
+        for (float value : result)
+        {
+            assertThat(value, greaterThanOrEqualTo(-0.5f));
+            assertThat(value, lessThan(0.5f));
+        }
+    }
+
+    @Test
+    public void testIntArraysWithExclusiveMax()
+    {
+        System.out.println("testIntArraysWithExclusiveMax");
+
+        annotation = new GenerateArrayInstance(size, Integer.MAX_VALUE - 10L, Integer.MAX_VALUE + 1L);
+
+        int[] result = (int[]) GenerateArray.Values.createGeneratorFor(annotation, int[].class).get();
+        assertThat(result.length, is(size));
+
+        for (int value : result)
+        {
+            assertThat(value, greaterThanOrEqualTo(Integer.MAX_VALUE - 10));
+        }
+    }
+
+    @Test
+    public void testByteArrays()
+    {
+        System.out.println("testByteArrays");
+
+        byte[] result = (byte[]) GenerateArray.Values.createGeneratorFor(annotation, byte[].class).get();
+        assertThat(result.length, is(size));
+
+        for (byte value : result)
+        {
+            assertThat((long) value, greaterThanOrEqualTo(min));
+            assertThat((long) value, lessThan(max));
+        }
+    }
+
+    @Test
+    public void testCharArrays()
+    {
+        System.out.println("testCharArrays");
+
+        annotation = new GenerateArrayInstance(size, 'a', 'z' + 1);
+
+        char[] result = (char[]) GenerateArray.Values.createGeneratorFor(annotation, char[].class).get();
+        assertThat(result.length, is(size));
+
+        for (char value : result)
+        {
+            assertThat(value, greaterThanOrEqualTo('a'));
+            assertThat(value, lessThanOrEqualTo('z'));
+        }
+    }
+
+    @Test
+    public void testDefaultRanges()
+    {
+        System.out.println("testDefaultRanges");
+
+        annotation = new GenerateArrayInstance(size, 0, 0);
+
+        int[] ints = (int[]) GenerateArray.Values.createGeneratorFor(annotation, int[].class).get();
+        assertThat(ints.length, is(size));
+
+        byte[] bytes = (byte[]) GenerateArray.Values.createGeneratorFor(annotation, byte[].class).get();
+        assertThat(bytes.length, is(size));
+
+        double[] doubles = (double[]) GenerateArray.Values.createGeneratorFor(annotation, double[].class).get();
+        for (double value : doubles)
+        {
+            assertThat(value, greaterThanOrEqualTo(0.0));
+            assertThat(value, lessThan(1.0));
+        }
+
+        char[] chars = (char[]) GenerateArray.Values.createGeneratorFor(annotation, char[].class).get();
+        for (char value : chars)
+        {
+            assertThat(Character.isLetterOrDigit(value), is(true));
+        }
+    }
+
+    @Test
+    public void testArraysAreFresh()
+    {
+        System.out.println("testArraysAreFresh");
+
+        AlchemyGenerator<?> generator = GenerateArray.Values.createGeneratorFor(annotation, long[].class);
+
+        assertThat(generator.get(), not(sameInstance(generator.get())));
+    }
+
+    @Test
+    public void testMillionElementArrays()
+    {
+        System.out.println("testMillionElementArrays");
+
+        annotation = new GenerateArrayInstance(1_000_000, 0, 0);
+
+        byte[] result = (byte[]) GenerateArray.Values.createGeneratorFor(annotation, byte[].class).get();
+        assertThat(result.length, is(1_000_000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesEdgeCases1() throws Exception
+    {
+        GenerateArray.Values.createGeneratorFor(null, int[].class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesEdgeCases2() throws Exception
+    {
+        GenerateArray.Values.createGeneratorFor(annotation, Integer[].class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesEdgeCases3() throws Exception
+    {
+        annotation = new GenerateArrayInstance(0, min, max);
+        GenerateArray.Values.createGeneratorFor(annotation, int[].class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesEdgeCases4() throws Exception
+    {
+        annotation = new GenerateArrayInstance(size, max, min);
+        GenerateArray.Values.createGeneratorFor(annotation, int[].class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesEdgeCases5() throws Exception
+    {
+        annotation = new GenerateArrayInstance(size, 0, 1000);
+        GenerateArray.Values.createGeneratorFor(annotation, byte[].class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesEdgeCases6() throws Exception
+    {
+        GenerateArray.Values.createGeneratorFor(annotation, boolean[].class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesEdgeCases7() throws Exception
+    {
+        annotation = new GenerateArrayInstance(size, 0, Integer.MAX_VALUE + 2L);
+        GenerateArray.Values.createGeneratorFor(annotation, int[].class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesEdgeCases8() throws Exception
+    {
+        annotation = new GenerateArrayInstance(size, 0, 0, 0.25, 0.75);
+        GenerateArray.Values.createGeneratorFor(annotation, int[].class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesEdgeCases9() throws Exception
+    {
+        annotation = new GenerateArrayInstance(size, min, max, 0.25, 0.75);
+        GenerateArray.Values.createGeneratorFor(annotation, double[].class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesEdgeCases10() throws Exception
+    {
+        annotation = new GenerateArrayInstance(size, 0, 0, 0.75, 0.25);
+        GenerateArray.Values.createGeneratorFor(annotation, double[].class);
+    }
+
+    private static class GenerateArrayInstance implements GenerateArray
+    {
+
+        private final int size;
+        private final long min;
+        private final long max;
+        private final double minDouble;
+        private final double maxDouble;
+
+        private GenerateArrayInstance(int size, long min, long max)
+        {
+            this(size, min, max, 0.0, 0.0);
+        }
+
+        private GenerateArrayInstance(int size, long min, long max, double minDouble, double maxDouble)
+        {
+            this.size = size;
+            this.min = min;
+            this.max = max;
+            this.minDouble = minDouble;
+            this.maxDouble = maxDouble;
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public long min()
+        {
+            return min;
+        }
+
+        @Override
+        public long max()
+        {
+            return max;
+        }
+
+        @Override
+        public double minDouble()
+        {
+            return minDouble;
+        }
+
+        @Override
+        public double maxDouble()
+        {
+            return maxDouble;
+        }
+
+        @Override
+        public Class<? extends Annotation> annotationType()
+        {
+            return GenerateArray.class;
+        }
+    }
+
+}
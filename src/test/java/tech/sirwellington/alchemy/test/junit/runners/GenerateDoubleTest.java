@@ -90,6 +90,20 @@ public class GenerateDoubleTest
 
     }
 
+    @Test
+    public void testValuesAsPrimitives()
+    {
+        System.out.println("testValuesAsPrimitives");
+
+        annotation = new GenerateDoubleInstance(RANGE, min, max);
+
+        DoubleGenerator result = GenerateDouble.Values.createGeneratorFor(annotation);
+        double value = result.getDouble();
+
+        assertThat(value, greaterThanOrEqualTo(min));
+        assertThat(value, lessThan(max));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testValuesEdgeCases1() throws Exception
     {
@@ -91,6 +91,20 @@ public class GenerateFloatTest
 
     }
 
+    @Test
+    public void testValuesAsPrimitives()
+    {
+        System.out.println("testValuesAsPrimitives");
+
+        annotation = new GenerateFloatInstance(RANGE, min, max);
+
+        FloatGenerator result = GenerateFloat.Values.createGeneratorFor(annotation);
+        float value = result.getFloat();
+
+        assertThat(value, greaterThanOrEqualTo(min));
+        assertThat(value, lessThan(max));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testValuesEdgeCases1() throws Exception
     {
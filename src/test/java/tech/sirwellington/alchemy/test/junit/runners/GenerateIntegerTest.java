@@ -91,6 +91,20 @@ public class GenerateIntegerTest
 
     }
 
+    @Test
+    public void testValuesAsPrimitives()
+    {
+        System.out.println("testValuesAsPrimitives");
+
+        annotation = new GenerateIntegerInstance(RANGE, min, max);
+
+        IntGenerator result = GenerateInteger.Values.createGeneratorFor(annotation);
+        int value = result.getInt();
+
+        assertThat(value, greaterThanOrEqualTo(min));
+        assertThat(value, lessThan(max));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testValuesEdgeCases1() throws Exception
     {
@@ -91,6 +91,20 @@ public class GenerateLongTest
 
     }
 
+    @Test
+    public void testValuesAsPrimitives()
+    {
+        System.out.println("testValuesAsPrimitives");
+
+        annotation = new GenerateLongInstance(RANGE, min, max);
+
+        LongGenerator result = GenerateLong.Values.createGeneratorFor(annotation);
+        long value = result.getLong();
+
+        assertThat(value, greaterThanOrEqualTo(min));
+        assertThat(value, lessThan(max));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testValuesEdgeCases1()
     {
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author SirWellington
+ */
+public class GenerateOnceTest
+{
+
+    private GenerateOnceAnnotation annotation;
+    private CountingGenerator generator;
+
+    @Before
+    public void setUp()
+    {
+        annotation = new GenerateOnceAnnotation();
+        generator = new CountingGenerator();
+    }
+
+    @Test(expected = IllegalAccessException.class)
+    public void testCannotInstantiate() throws IllegalAccessException, InstantiationException
+    {
+        System.out.println("testCannotInstantiate");
+
+        GenerateOnce.Values.class.newInstance();
+    }
+
+    @Test
+    public void testValues()
+    {
+        System.out.println("testValues");
+
+        AlchemyGenerator<Object> instance = GenerateOnce.Values.createGeneratorFor(annotation, generator);
+        assertThat(generator.calls.get(), is(0));
+
+        Object first = instance.get();
+        assertThat(first, notNullValue());
+
+        for (int i = 0; i < 100; ++i)
+        {
+            assertThat(instance.get(), sameInstance(first));
+        }
+
+        assertThat(generator.calls.get(), is(1));
+    }
+
+    @Test
+    public void testValuesWithNullValue()
+    {
+        System.out.println("testValuesWithNullValue");
+
+        generator.returnNull = true;
+
+        AlchemyGenerator<Object> instance = GenerateOnce.Values.createGeneratorFor(annotation, generator);
+        assertThat(instance.get(), nullValue());
+        assertThat(instance.get(), nullValue());
+        assertThat(generator.calls.get(), is(1));
+    }
+
+    @Test
+    public void testValuesFromManyThreads() throws Exception
+    {
+        System.out.println("testValuesFromManyThreads");
+
+        final AlchemyGenerator<Object> instance = GenerateOnce.Values.createGeneratorFor(annotation, generator);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try
+        {
+            List<Future<Object>> results = new ArrayList<>();
+
+            for (int i = 0; i < 100; ++i)
+            {
+                results.add(executor.submit(new Callable<Object>()
+                {
+                    @Override
+                    public Object call()
+                    {
+                        return instance.get();
+                    }
+                }));
+            }
+
+            Object first = results.get(0).get();
+
+            for (Future<Object> result : results)
+            {
+                assertThat(result.get(), sameInstance(first));
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertThat(generator.calls.get(), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesEdgeCases1()
+    {
+        System.out.println("testValuesEdgeCases");
+
+        GenerateOnce.Values.createGeneratorFor(null, generator);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesEdgeCases2()
+    {
+        System.out.println("testValuesEdgeCases");
+
+        GenerateOnce.Values.createGeneratorFor(annotation, null);
+    }
+
+    private static class CountingGenerator implements AlchemyGenerator<Object>
+    {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private boolean returnNull = false;
+
+        @Override
+        public Object get()
+        {
+            calls.incrementAndGet();
+            return returnNull ? null : new Object();
+        }
+    }
+
+    private static class GenerateOnceAnnotation implements GenerateOnce
+    {
+
+        @Override
+        public Class<? extends Annotation> annotationType()
+        {
+            return GenerateOnce.class;
+        }
+    }
+
+}
@@ -21,6 +21,7 @@ import java.util.Date;
 import org.junit.Before;
 import org.junit.Test;
 import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+import tech.sirwellington.alchemy.test.junit.runners.GeneratePojo.Cycles;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.assertThat;
@@ -80,6 +81,46 @@ public class GeneratePojoTest
     }
 
 
+    @Test
+    public void testValuesWithSettings()
+    {
+        System.out.println("testValuesWithSettings");
+
+        annotation.maxDepth = 0;
+        annotation.cycles = Cycles.FAIL;
+
+        Node result = GeneratePojo.Values.createGeneratorFor(annotation, Node.class).get();
+        assertThat(result, notNullValue());
+        assertThat(result.name, not(isEmptyOrNullString()));
+        assertThat(result.next, nullValue());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testValuesWithCycle()
+    {
+        System.out.println("testValuesWithCycle");
+
+        annotation.cycles = Cycles.FAIL;
+
+        GeneratePojo.Values.createGeneratorFor(annotation, Node.class).get();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValuesWithBadSettings()
+    {
+        System.out.println("testValuesWithBadSettings");
+
+        annotation.maxDepth = -1;
+
+        GeneratePojo.Values.createGeneratorFor(annotation, SamplePojo.class);
+    }
+
+    private static class Node
+    {
+        private String name;
+        private Node next;
+    }
+
     private static class SamplePojo
     {
         private String name;
@@ -91,6 +132,35 @@ public class GeneratePojoTest
     private static class GeneratePojoInstance implements GeneratePojo
     {
 
+        private int maxDepth = PojoSettings.DEFAULT_MAX_DEPTH;
+        private int maxCollectionSize = TypeGenerators.MAX_COLLECTION_SIZE;
+        private Cycles cycles = Cycles.LEAVE_NULL;
+        private int leafPoolSize = 0;
+
+        @Override
+        public int maxDepth()
+        {
+            return maxDepth;
+        }
+
+        @Override
+        public int maxCollectionSize()
+        {
+            return maxCollectionSize;
+        }
+
+        @Override
+        public Cycles cycles()
+        {
+            return cycles;
+        }
+
+        @Override
+        public int leafPoolSize()
+        {
+            return leafPoolSize;
+        }
+
         @Override
         public Class<? extends Annotation> annotationType()
         {
@@ -96,6 +96,27 @@ public class GenerateStringTest
 
     }
 
+    @Test
+    public void testValuesAreShared()
+    {
+        System.out.println("testValuesAreShared");
+
+        AlchemyGenerator<String> first = GenerateString.Values.createGeneratorFor(annotation);
+        AlchemyGenerator<String> second = GenerateString.Values.createGeneratorFor(new GenerateStringInstance(type, length));
+        assertThat(second, sameInstance(first));
+
+        AlchemyGenerator<String> longer = GenerateString.Values.createGeneratorFor(new GenerateStringInstance(type, length + 1));
+
+        if (type == UUID)
+        {
+            assertThat(longer, sameInstance(first));
+        }
+        else
+        {
+            assertThat(longer, not(sameInstance(first)));
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testValuesEdgeCases1()
     {
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LatencyHistogramTest
+{
+
+    private LatencyHistogram instance;
+
+    @Before
+    public void setUp()
+    {
+        instance = new LatencyHistogram();
+    }
+
+    @Test
+    public void testEmpty()
+    {
+        assertThat(instance.getCount(), is(0L));
+        assertThat(instance.getMin(), is(0L));
+        assertThat(instance.getMax(), is(0L));
+        assertThat(instance.getMean(), is(0.0));
+        assertThat(instance.getStdDeviation(), is(0.0));
+        assertThat(instance.getMedian(), is(0L));
+    }
+
+    @Test
+    public void testSmallValuesAreExact()
+    {
+        for (int i = 1; i <= 100; ++i)
+        {
+            instance.record(i);
+        }
+
+        assertThat(instance.getCount(), is(100L));
+        assertThat(instance.getMin(), is(1L));
+        assertThat(instance.getMax(), is(100L));
+        assertThat(instance.getMean(), is(50.5));
+        assertThat(instance.getMedian(), is(50L));
+        assertThat(instance.getP90(), is(90L));
+        assertThat(instance.getP99(), is(99L));
+        assertThat(instance.getValueAtPercentile(100.0), is(100L));
+        assertThat(instance.getStdDeviation(), closeTo(28.866, 0.001));
+    }
+
+    @Test
+    public void testLargeValuesAreWithinOnePercent()
+    {
+        long micros = TimeUnit.MICROSECONDS.toNanos(1);
+
+        for (int i = 1; i <= 1000; ++i)
+        {
+            instance.record(i * micros);
+        }
+
+        assertThat(instance.getMin(), is(micros));
+        assertThat(instance.getMax(), is(1000 * micros));
+        assertThat(instance.getMean(), is(500.5 * micros));
+        assertThat((double) instance.getMedian(), closeTo(500.0 * micros, 5.0 * micros));
+        assertThat((double) instance.getP90(), closeTo(900.0 * micros, 9.0 * micros));
+        assertThat((double) instance.getP99(), closeTo(990.0 * micros, 9.9 * micros));
+        assertThat(instance.getStdDeviation(), closeTo(288.675 * micros, 3.0 * micros));
+    }
+
+    @Test
+    public void testTailLatency()
+    {
+        for (int i = 0; i < 98; ++i)
+        {
+            instance.record(100);
+        }
+
+        instance.record(TimeUnit.MILLISECONDS.toNanos(5));
+        instance.record(TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThat(instance.getMedian(), is(100L));
+        assertThat(instance.getP90(), is(100L));
+        assertThat((double) instance.getP99(), closeTo(TimeUnit.MILLISECONDS.toNanos(5), 50_000));
+        assertThat(instance.getMax(), is(TimeUnit.MILLISECONDS.toNanos(10)));
+    }
+
+    @Test
+    public void testLowestValueAtPercentile()
+    {
+        long budget = TimeUnit.MILLISECONDS.toNanos(1);
+        long justUnderBudget = budget - 1_000;
+
+        instance.record(100);
+        instance.record(justUnderBudget);
+        instance.record(budget * 2);
+
+        assertThat(instance.getValueAtPercentile(60.0), greaterThanOrEqualTo(justUnderBudget));
+        assertThat(instance.getLowestValueAtPercentile(60.0), lessThanOrEqualTo(justUnderBudget));
+        assertThat(instance.getLowestValueAtPercentile(60.0), lessThanOrEqualTo(budget));
+        assertThat(instance.getLowestValueAtPercentile(100.0), greaterThan(budget));
+        assertThat(instance.getLowestValueAtPercentile(1.0), is(100L));
+    }
+
+    @Test
+    public void testBuckets()
+    {
+        long[] values = { 0, 1, 255, 256, 257, 1000, 123_456_789L, Long.MAX_VALUE };
+
+        for (long value : values)
+        {
+            int bucket = LatencyHistogram.bucketFor(value);
+
+            assertThat(LatencyHistogram.lowestValueOf(bucket), lessThanOrEqualTo(value));
+            assertThat(LatencyHistogram.highestValueOf(bucket), greaterThanOrEqualTo(value));
+        }
+    }
+
+    @Test
+    public void testRecordConcurrently() throws Exception
+    {
+        final int threads = 4;
+        final int recordsPerThread = 10_000;
+
+        Callable<Void> task = new Callable<Void>()
+        {
+            @Override
+            public Void call()
+            {
+                for (int i = 1; i <= recordsPerThread; ++i)
+                {
+                    instance.record(i);
+                }
+                return null;
+            }
+        };
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; ++i)
+        {
+            tasks.add(task);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            executor.invokeAll(tasks);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertThat(instance.getCount(), is((long) threads * recordsPerThread));
+        assertThat(instance.getMin(), is(1L));
+        assertThat(instance.getMax(), is((long) recordsPerThread));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRecordWithNegative()
+    {
+        instance.record(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetValueAtPercentileWithBadArgs()
+    {
+        instance.getValueAtPercentile(101);
+    }
+
+}
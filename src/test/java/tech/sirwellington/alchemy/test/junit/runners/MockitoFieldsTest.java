@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MockitoFieldsTest
+{
+
+    @Test
+    public void testWithMocks()
+    {
+        MockitoFields instance = MockitoFields.of(WithMocks.class);
+
+        assertThat(instance.isEmpty(), is(false));
+        assertThat(namesOf(instance), containsInAnyOrder("mock", "spy", "captor", "injected"));
+    }
+
+    @Test
+    public void testWithInheritedMocks()
+    {
+        MockitoFields instance = MockitoFields.of(WithInheritedMocks.class);
+
+        assertThat(instance.isEmpty(), is(false));
+        assertThat(namesOf(instance), containsInAnyOrder("mock", "spy", "captor", "injected"));
+    }
+
+    @Test
+    public void testWithoutMocks()
+    {
+        MockitoFields instance = MockitoFields.of(WithoutMocks.class);
+
+        assertThat(instance.isEmpty(), is(true));
+        assertThat(instance.getFields(), is(empty()));
+    }
+
+    @Test
+    public void testIsCachedPerClass()
+    {
+        MockitoFields first = MockitoFields.of(WithMocks.class);
+        MockitoFields second = MockitoFields.of(WithMocks.class);
+
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfWithNull()
+    {
+        MockitoFields.of(null);
+    }
+
+    private static List<String> namesOf(MockitoFields mockitoFields)
+    {
+        List<String> names = new ArrayList<>();
+
+        for (Field field : mockitoFields.getFields())
+        {
+            names.add(field.getName());
+        }
+
+        return names;
+    }
+
+    private static class WithMocks
+    {
+
+        @Mock
+        private Runnable mock;
+
+        @Spy
+        private List<String> spy = new ArrayList<>();
+
+        @Captor
+        private ArgumentCaptor<String> captor;
+
+        @InjectMocks
+        private Object injected;
+
+        @GenerateString
+        private String string;
+
+        private String plain;
+    }
+
+    private static class WithInheritedMocks extends WithMocks
+    {
+
+        @GenerateInteger
+        private int integer;
+    }
+
+    private static class WithoutMocks
+    {
+
+        @GenerateString
+        private String string;
+
+        private Runnable plain;
+    }
+
+}
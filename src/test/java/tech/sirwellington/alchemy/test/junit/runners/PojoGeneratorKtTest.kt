@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners
+
+import org.hamcrest.Matchers.*
+import org.junit.Assert.assertThat
+import org.junit.Assert.fail
+import org.junit.Test
+
+/**
+ * @author SirWellington
+ */
+class PojoGeneratorKtTest
+{
+
+    data class Customer(val name: String, val balance: Long)
+
+    data class Order(val id: String,
+                     val quantity: Int,
+                     val tags: List<String>,
+                     val customers: List<Customer>,
+                     val customer: Customer)
+
+    data class Defaults(val id: String = "", val count: Int = 0)
+    {
+        var notes: String? = null
+    }
+
+    data class Node(val name: String, val next: Node)
+
+    data class NullableNode(val name: String, val next: NullableNode?)
+
+    data class Top(val middle: Middle)
+
+    data class Middle(val bottom: Bottom)
+
+    data class Bottom(val name: String)
+
+    class NotADataClass(val name: String)
+    {
+        fun component1() = name
+    }
+
+    @Test
+    fun testIsKotlinDataClass()
+    {
+        assertThat(PojoGenerator.isKotlinDataClass(Order::class.java), `is`(true))
+        assertThat(PojoGenerator.isKotlinDataClass(Defaults::class.java), `is`(true))
+        assertThat(PojoGenerator.isKotlinDataClass(String::class.java), `is`(false))
+    }
+
+    @Test
+    fun testGetWithDataClass()
+    {
+        val result = PojoGenerator.of(Order::class.java).get()
+
+        assertThat(result, notNullValue())
+        assertThat(result.id, not(isEmptyOrNullString()))
+        assertThat(result.quantity, greaterThan(0))
+        assertThat(result.tags, not(empty()))
+        assertThat(result.customers, not(empty()))
+        assertThat(result.customers[0].name, not(isEmptyOrNullString()))
+        assertThat(result.customer.balance, greaterThan(0L))
+    }
+
+    @Test
+    fun testGetWithDefaultValues()
+    {
+        val result = PojoGenerator.of(Defaults::class.java).get()
+
+        assertThat(result.id, not(isEmptyOrNullString()))
+        assertThat(result.count, greaterThan(0))
+        assertThat(result.notes, nullValue())
+    }
+
+    @Test
+    fun testGetWithNonNullCycle()
+    {
+        for (cycles in listOf(GeneratePojo.Cycles.LEAVE_NULL, GeneratePojo.Cycles.REUSE))
+        {
+            val settings = PojoSettings(PojoSettings.DEFAULT_MAX_DEPTH, 5, cycles, 0)
+
+            try
+            {
+                PojoGenerator.of(Node::class.java).withSettings(settings).get()
+                fail("Expected exception")
+            }
+            catch (ex: IllegalStateException)
+            {
+                assertThat(ex.message, containsString("Node -> null"))
+                assertThat(ex.message, containsString("next"))
+            }
+        }
+    }
+
+    @Test
+    fun testGetWithNullableCycle()
+    {
+        val result = PojoGenerator.of(NullableNode::class.java).get()
+
+        assertThat(result.name, not(isEmptyOrNullString()))
+        assertThat(result.next, nullValue())
+    }
+
+    @Test
+    fun testGetBeyondMaxDepth()
+    {
+        val settings = PojoSettings(1, 5, GeneratePojo.Cycles.LEAVE_NULL, 0)
+
+        try
+        {
+            PojoGenerator.of(Top::class.java).withSettings(settings).get()
+            fail("Expected exception")
+        }
+        catch (ex: IllegalStateException)
+        {
+            assertThat(ex.message, containsString("Top -> Middle -> null"))
+        }
+
+        val result = PojoGenerator.of(Top::class.java).withSettings(PojoSettings(2, 5, GeneratePojo.Cycles.LEAVE_NULL, 0)).get()
+        assertThat(result.middle.bottom.name, not(isEmptyOrNullString()))
+    }
+
+    @Test
+    fun testGetWithRegularKotlinClass()
+    {
+        val result = PojoGenerator.of(NotADataClass::class.java).get()
+
+        assertThat(result.name, not(isEmptyOrNullString()))
+    }
+
+}
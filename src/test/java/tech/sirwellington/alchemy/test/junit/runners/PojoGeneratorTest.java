@@ -0,0 +1,510 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PojoGeneratorTest
+{
+
+    private static final String RECORD =
+        "package com.example;\n" +
+        "\n" +
+        "import java.util.List;\n" +
+        "\n" +
+        "public record Order(String id, int quantity, List<String> tags, Customer customer)\n" +
+        "{\n" +
+        "    public Order()\n" +
+        "    {\n" +
+        "        this(null, 0, null, null);\n" +
+        "    }\n" +
+        "\n" +
+        "    public record Customer(String name, long balance)\n" +
+        "    {\n" +
+        "    }\n" +
+        "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testOf()
+    {
+        System.out.println("testOf");
+
+        PojoGenerator<SamplePojo> instance = PojoGenerator.of(SamplePojo.class);
+        assertThat(instance, notNullValue());
+        assertThat(instance.getType(), equalTo(SamplePojo.class));
+        assertThat(PojoGenerator.of(SamplePojo.class), sameInstance(instance));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfWithNull()
+    {
+        System.out.println("testOfWithNull");
+
+        PojoGenerator.of(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfWithInterface()
+    {
+        System.out.println("testOfWithInterface");
+
+        PojoGenerator.of(Runnable.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfWithAbstractClass()
+    {
+        System.out.println("testOfWithAbstractClass");
+
+        PojoGenerator.of(AbstractPojo.class);
+    }
+
+    @Test
+    public void testCanInstantiate()
+    {
+        System.out.println("testCanInstantiate");
+
+        assertThat(PojoGenerator.canInstantiate(SamplePojo.class), is(true));
+        assertThat(PojoGenerator.canInstantiate(String.class), is(false));
+        assertThat(PojoGenerator.canInstantiate(int.class), is(false));
+        assertThat(PojoGenerator.canInstantiate(int[].class), is(false));
+        assertThat(PojoGenerator.canInstantiate(Runnable.class), is(false));
+        assertThat(PojoGenerator.canInstantiate(AbstractPojo.class), is(false));
+        assertThat(PojoGenerator.canInstantiate(Color.class), is(false));
+    }
+
+    @Test
+    public void testGet()
+    {
+        System.out.println("testGet");
+
+        PojoGenerator<SamplePojo> instance = PojoGenerator.of(SamplePojo.class);
+
+        SamplePojo first = instance.get();
+        assertThat(first, notNullValue());
+        assertThat(first.name, not(isEmptyOrNullString()));
+        assertThat(first.age, greaterThan(0));
+        assertThat(first.balance, greaterThan(0L));
+        assertThat(first.birthday, notNullValue());
+        assertThat(first.color, notNullValue());
+        assertThat(first.constant, is(SamplePojo.CONSTANT));
+
+        SamplePojo second = instance.get();
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second.name, not(first.name));
+    }
+
+    @Test
+    public void testGetWithNestedPojosAndCollections()
+    {
+        System.out.println("testGetWithNestedPojosAndCollections");
+
+        ParentPojo result = PojoGenerator.of(ParentPojo.class).get();
+        assertThat(result, notNullValue());
+        assertThat(result.child, notNullValue());
+        assertThat(result.child.name, not(isEmptyOrNullString()));
+
+        assertThat(result.names, notNullValue());
+        assertThat(result.names.size(), greaterThanOrEqualTo(TypeGenerators.MIN_COLLECTION_SIZE));
+        assertThat(result.names.size(), lessThanOrEqualTo(TypeGenerators.MAX_COLLECTION_SIZE));
+
+        assertThat(result.children, not(empty()));
+        for (SamplePojo child : result.children)
+        {
+            assertThat(child, notNullValue());
+            assertThat(child.name, not(isEmptyOrNullString()));
+        }
+
+        assertThat(result.colors, notNullValue());
+        assertThat(result.colors.isEmpty(), is(false));
+        assertThat(result.ages, notNullValue());
+        assertThat(result.ages.isEmpty(), is(false));
+    }
+
+    @Test
+    public void testGetFillsInheritedFields()
+    {
+        System.out.println("testGetFillsInheritedFields");
+
+        ChildPojo result = PojoGenerator.of(ChildPojo.class).get();
+        assertThat(result.name, not(isEmptyOrNullString()));
+        assertThat(result.nickname, not(isEmptyOrNullString()));
+    }
+
+    @Test
+    public void testGetWithConstructorArguments()
+    {
+        System.out.println("testGetWithConstructorArguments");
+
+        ImmutablePojo result = PojoGenerator.of(ImmutablePojo.class).get();
+        assertThat(result.id, not(isEmptyOrNullString()));
+        assertThat(result.count, greaterThan(0));
+        assertThat(result.child, notNullValue());
+    }
+
+    @Test
+    public void testGetLeavesUnknownFieldsAlone()
+    {
+        System.out.println("testGetLeavesUnknownFieldsAlone");
+
+        UnknownFieldsPojo result = PojoGenerator.of(UnknownFieldsPojo.class).get();
+        assertThat(result.name, not(isEmptyOrNullString()));
+        assertThat(result.runnable, nullValue());
+        assertThat(result.raw, nullValue());
+    }
+
+    @Test
+    public void testGetWithCycle()
+    {
+        System.out.println("testGetWithCycle");
+
+        Node result = PojoGenerator.of(Node.class).get();
+        assertThat(result, notNullValue());
+        assertThat(result.name, not(isEmptyOrNullString()));
+        assertThat(result.next, nullValue());
+        assertThat(result.children, empty());
+        assertThat(result.leaf, notNullValue());
+        assertThat(result.leaf.parent, nullValue());
+    }
+
+    @Test
+    public void testGetWithCycleReused()
+    {
+        System.out.println("testGetWithCycleReused");
+
+        PojoSettings settings = new PojoSettings(PojoSettings.DEFAULT_MAX_DEPTH, 5, GeneratePojo.Cycles.REUSE, 0);
+
+        Node result = PojoGenerator.of(Node.class).withSettings(settings).get();
+        assertThat(result.next, sameInstance(result));
+        assertThat(result.leaf.parent, sameInstance(result));
+        assertThat(result.children, not(empty()));
+
+        for (Node child : result.children)
+        {
+            assertThat(child, sameInstance(result));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetWithCycleFailing()
+    {
+        System.out.println("testGetWithCycleFailing");
+
+        PojoSettings settings = new PojoSettings(PojoSettings.DEFAULT_MAX_DEPTH, 5, GeneratePojo.Cycles.FAIL, 0);
+
+        PojoGenerator.of(Node.class).withSettings(settings).get();
+    }
+
+    @Test
+    public void testGetWithMaxDepth()
+    {
+        System.out.println("testGetWithMaxDepth");
+
+        PojoSettings settings = new PojoSettings(2, 5, GeneratePojo.Cycles.LEAVE_NULL, 0);
+
+        Level1 result = PojoGenerator.of(Level1.class).withSettings(settings).get();
+        assertThat(result.next, notNullValue());
+        assertThat(result.next.next, notNullValue());
+        assertThat(result.next.next.next, nullValue());
+        assertThat(result.next.next.nexts, empty());
+        assertThat(result.next.next.name, not(isEmptyOrNullString()));
+
+        settings = new PojoSettings(0, 5, GeneratePojo.Cycles.LEAVE_NULL, 0);
+
+        result = PojoGenerator.of(Level1.class).withSettings(settings).get();
+        assertThat(result.name, not(isEmptyOrNullString()));
+        assertThat(result.next, nullValue());
+    }
+
+    @Test
+    public void testGetWithMaxCollectionSize()
+    {
+        System.out.println("testGetWithMaxCollectionSize");
+
+        PojoSettings settings = new PojoSettings(PojoSettings.DEFAULT_MAX_DEPTH, 2, GeneratePojo.Cycles.LEAVE_NULL, 0);
+        AlchemyGenerator<ParentPojo> generator = PojoGenerator.of(ParentPojo.class).withSettings(settings);
+
+        for (int i = 0; i < 100; ++i)
+        {
+            ParentPojo result = generator.get();
+            assertThat(result.names.size(), lessThanOrEqualTo(2));
+            assertThat(result.children.size(), lessThanOrEqualTo(2));
+            assertThat(result.ages.size(), lessThanOrEqualTo(2));
+        }
+
+        settings = new PojoSettings(PojoSettings.DEFAULT_MAX_DEPTH, 0, GeneratePojo.Cycles.LEAVE_NULL, 0);
+
+        ParentPojo result = PojoGenerator.of(ParentPojo.class).withSettings(settings).get();
+        assertThat(result.names, empty());
+        assertThat(result.children, empty());
+    }
+
+    @Test
+    public void testGetWithLeafPool()
+    {
+        System.out.println("testGetWithLeafPool");
+
+        PojoSettings settings = new PojoSettings(PojoSettings.DEFAULT_MAX_DEPTH, 25, GeneratePojo.Cycles.LEAVE_NULL, 2);
+
+        ParentPojo result = PojoGenerator.of(ParentPojo.class).withSettings(settings).get();
+
+        Set<String> names = new HashSet<>(result.names);
+        for (SamplePojo child : result.children)
+        {
+            names.add(child.name);
+        }
+        assertThat(names.size(), lessThanOrEqualTo(2));
+
+        Set<Integer> ages = new HashSet<>(result.ages.values());
+        assertThat(ages.size(), lessThanOrEqualTo(2));
+
+        //Each graph has its own pool
+        ParentPojo other = PojoGenerator.of(ParentPojo.class).withSettings(settings).get();
+        assertThat(other.names, not(hasItem(result.names.get(0))));
+    }
+
+    @Test
+    public void testGetClosesTheGraph()
+    {
+        System.out.println("testGetClosesTheGraph");
+
+        PojoGenerator.of(ParentPojo.class).get();
+        assertThat(PojoGraph.current(), nullValue());
+
+        try
+        {
+            PojoSettings settings = new PojoSettings(PojoSettings.DEFAULT_MAX_DEPTH, 5, GeneratePojo.Cycles.FAIL, 0);
+            PojoGenerator.of(Node.class).withSettings(settings).get();
+        }
+        catch (IllegalStateException expected)
+        {
+        }
+
+        assertThat(PojoGraph.current(), nullValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSettingsWithBadValues()
+    {
+        System.out.println("testSettingsWithBadValues");
+
+        new PojoSettings(0, -1, GeneratePojo.Cycles.LEAVE_NULL, 0);
+    }
+
+    @Test
+    public void testGetWithRecord() throws Exception
+    {
+        System.out.println("testGetWithRecord");
+
+        Class<?> recordClass = compileRecord();
+        assertThat(PojoGenerator.isRecord(recordClass), is(true));
+        assertThat(PojoGenerator.isRecord(SamplePojo.class), is(false));
+
+        Object result = PojoGenerator.of(recordClass).get();
+        assertThat(result, instanceOf(recordClass));
+
+        assertThat((String) componentOf(result, "id"), not(isEmptyOrNullString()));
+        assertThat((Integer) componentOf(result, "quantity"), greaterThan(0));
+        assertThat((List<?>) componentOf(result, "tags"), not(empty()));
+
+        Object customer = componentOf(result, "customer");
+        assertThat(customer, notNullValue());
+        assertThat((String) componentOf(customer, "name"), not(isEmptyOrNullString()));
+        assertThat((Long) componentOf(customer, "balance"), greaterThan(0L));
+    }
+
+    private Class<?> compileRecord() throws Exception
+    {
+        assumeTrue(hasRecords());
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(compiler != null);
+
+        File sources = folder.newFolder("sources");
+        File classes = folder.newFolder("classes");
+        File source = new File(sources, "Order.java");
+        Files.write(source.toPath(), RECORD.getBytes(StandardCharsets.UTF_8));
+
+        StringWriter output = new StringWriter();
+
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8))
+        {
+            Iterable<? extends JavaFileObject> units = files.getJavaFileObjects(source);
+            List<String> options = Arrays.asList("-d", classes.getPath());
+
+            Boolean success = compiler.getTask(output, files, null, options, null, units).call();
+            assertThat(output.toString(), success, is(true));
+        }
+
+        ClassLoader loader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, getClass().getClassLoader());
+        return loader.loadClass("com.example.Order");
+    }
+
+    private static boolean hasRecords()
+    {
+        try
+        {
+            Class.class.getMethod("isRecord");
+            return true;
+        }
+        catch (NoSuchMethodException ex)
+        {
+            return false;
+        }
+    }
+
+    private static Object componentOf(Object record, String name) throws Exception
+    {
+        return record.getClass().getMethod(name).invoke(record);
+    }
+
+    enum Color
+    {
+        RED,
+        GREEN,
+        BLUE
+    }
+
+    private static class SamplePojo
+    {
+        private static final String CONSTANT = "constant";
+
+        private String name;
+        private int age;
+        private Date birthday;
+        private long balance;
+        private Color color;
+        private final String constant = CONSTANT;
+    }
+
+    private static class ParentPojo
+    {
+        private SamplePojo child;
+        private List<String> names;
+        private List<SamplePojo> children;
+        private Set<Color> colors;
+        private Map<String, Integer> ages;
+    }
+
+    private static class Node
+    {
+        private String name;
+        private Node next;
+        private List<Node> children;
+        private Leaf leaf;
+    }
+
+    private static class Leaf
+    {
+        private String name;
+        private Node parent;
+    }
+
+    private static class Level1
+    {
+        private String name;
+        private Level2 next;
+    }
+
+    private static class Level2
+    {
+        private Level3 next;
+    }
+
+    private static class Level3
+    {
+        private String name;
+        private Level4 next;
+        private List<Level4> nexts;
+    }
+
+    private static class Level4
+    {
+        private String name;
+    }
+
+    private static class BasePojo
+    {
+        String name;
+    }
+
+    private static class ChildPojo extends BasePojo
+    {
+        private String nickname;
+    }
+
+    private static class ImmutablePojo
+    {
+        private final String id;
+        private final int count;
+        private final SamplePojo child;
+
+        public ImmutablePojo(String id, int count, SamplePojo child)
+        {
+            this.id = id;
+            this.count = count;
+            this.child = child;
+        }
+    }
+
+    private static class UnknownFieldsPojo
+    {
+        private String name;
+        private Runnable runnable;
+        @SuppressWarnings("rawtypes")
+        private List raw;
+    }
+
+    private static abstract class AbstractPojo
+    {
+        private String name;
+    }
+
+}
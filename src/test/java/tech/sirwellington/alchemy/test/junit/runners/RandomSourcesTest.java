@@ -0,0 +1,249 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RandomSourcesTest
+{
+
+    private static final int TRIALS = 1_000;
+    private static final List<Class<? extends RandomSource>> TYPES = Arrays.<Class<? extends RandomSource>>asList(SplitMixRandomSource.class,
+                                                                                                              XoroshiroRandomSource.class);
+
+    private RandomSource random;
+
+    @Before
+    public void setUp()
+    {
+        random = new SplitMixRandomSource(RandomSources.newSeed());
+    }
+
+    @Test(expected = IllegalAccessException.class)
+    public void testCannotInstantiate() throws Exception
+    {
+        RandomSources.class.newInstance();
+    }
+
+    @Test
+    public void testSplitMixMatchesTheReferenceAlgorithm()
+    {
+        RandomSource instance = new SplitMixRandomSource(0);
+
+        assertThat(instance.nextLong(), is(0xe220a8397b1dcdafL));
+        assertThat(instance.nextLong(), is(0x6e789e6aa1b965f4L));
+    }
+
+    @Test
+    public void testSameSeedsProduceTheSameValues()
+    {
+        long seed = RandomSources.newSeed();
+
+        for (Class<? extends RandomSource> type : TYPES)
+        {
+            RandomSource first = RandomSources.create(type, seed);
+            RandomSource second = RandomSources.create(type, seed);
+
+            for (int i = 0; i < TRIALS; ++i)
+            {
+                assertThat(second.nextLong(), is(first.nextLong()));
+            }
+        }
+    }
+
+    @Test
+    public void testNewSeed()
+    {
+        assertThat(RandomSources.newSeed(), not(RandomSources.newSeed()));
+    }
+
+    @Test
+    public void testStartIteration()
+    {
+        RandomSource first = RandomSources.startIteration(XoroshiroRandomSource.class, 1L);
+        assertThat(RandomSources.current(), sameInstance(first));
+        assertThat(first, instanceOf(XoroshiroRandomSource.class));
+
+        RandomSource second = RandomSources.startIteration(SplitMixRandomSource.class, 1L);
+        assertThat(RandomSources.current(), sameInstance(second));
+    }
+
+    @Test
+    public void testGeneratorsReplayFromTheSameSeed()
+    {
+        List<AlchemyGenerator<?>> generators = Arrays.<AlchemyGenerator<?>>asList(RandomGenerators.uuids(),
+                                                                                  RandomGenerators.urls("https"),
+                                                                                  RandomGenerators.byteBuffers(16),
+                                                                                  RandomGenerators.enumValues(TimeUnit.class));
+        long seed = RandomSources.newSeed();
+
+        for (AlchemyGenerator<?> generator : generators)
+        {
+            RandomSources.startIteration(SplitMixRandomSource.class, seed);
+            Object first = generator.get();
+
+            RandomSources.startIteration(SplitMixRandomSource.class, seed);
+            Object second = generator.get();
+
+            assertThat(second, is(first));
+        }
+    }
+
+    @Test
+    public void testUuids()
+    {
+        UUID uuid = UUID.fromString(RandomGenerators.uuids().get());
+
+        assertThat(uuid.version(), is(4));
+        assertThat(uuid.variant(), is(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUrlsWithUnknownProtocol()
+    {
+        RandomGenerators.urls("notaprotocol");
+    }
+
+    @Test
+    public void testCurrentIsPerThread() throws Exception
+    {
+        final RandomSource[] sourceOfOtherThread = new RandomSource[1];
+
+        Thread thread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                sourceOfOtherThread[0] = RandomSources.current();
+            }
+        };
+
+        thread.start();
+        thread.join();
+
+        assertThat(sourceOfOtherThread[0], notNullValue());
+        assertThat(sourceOfOtherThread[0], not(sameInstance(RandomSources.current())));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreateWithoutSeedConstructor()
+    {
+        RandomSources.create(UnseededRandomSource.class, 1L);
+    }
+
+    @Test
+    public void testNextLong()
+    {
+        for (int i = 0; i < TRIALS; ++i)
+        {
+            assertThat(RandomSources.nextLong(random, -10, 10), allOf(greaterThanOrEqualTo(-10L), lessThan(10L)));
+            assertThat(RandomSources.nextLong(random, 0, 16), allOf(greaterThanOrEqualTo(0L), lessThan(16L)));
+            assertThat(RandomSources.nextLong(random, 1, Long.MAX_VALUE), greaterThanOrEqualTo(1L));
+            assertThat(RandomSources.nextLong(random, Long.MIN_VALUE, 0), lessThan(0L));
+            assertThat(RandomSources.nextLong(random, Long.MIN_VALUE + 1, Long.MAX_VALUE), lessThan(Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void testNextLongCoversTheRange()
+    {
+        boolean[] seen = new boolean[7];
+
+        for (int i = 0; i < TRIALS; ++i)
+        {
+            seen[(int) RandomSources.nextLong(random, 0, 7)] = true;
+        }
+
+        for (boolean value : seen)
+        {
+            assertThat(value, is(true));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNextLongWithBadRange()
+    {
+        RandomSources.nextLong(random, 5, 5);
+    }
+
+    @Test
+    public void testNextInt()
+    {
+        for (int i = 0; i < TRIALS; ++i)
+        {
+            assertThat(RandomSources.nextInt(random, Integer.MIN_VALUE, Integer.MAX_VALUE), lessThan(Integer.MAX_VALUE));
+            assertThat(RandomSources.nextInt(random, 3, 4), is(3));
+        }
+    }
+
+    @Test
+    public void testNextDouble()
+    {
+        for (int i = 0; i < TRIALS; ++i)
+        {
+            assertThat(RandomSources.nextDouble(random), allOf(greaterThanOrEqualTo(0.0), lessThan(1.0)));
+            assertThat(RandomSources.nextDouble(random, -5.0, 5.0), allOf(greaterThanOrEqualTo(-5.0), lessThan(5.0)));
+
+            double anyDouble = RandomSources.nextDouble(random, -Double.MAX_VALUE, Double.MAX_VALUE);
+            assertThat(Double.isInfinite(anyDouble), is(false));
+            assertThat(anyDouble, lessThan(Double.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void testNextBoolean()
+    {
+        boolean seenTrue = false;
+        boolean seenFalse = false;
+
+        for (int i = 0; i < TRIALS; ++i)
+        {
+            boolean value = RandomSources.nextBoolean(random);
+            seenTrue |= value;
+            seenFalse |= !value;
+        }
+
+        assertThat(seenTrue, is(true));
+        assertThat(seenFalse, is(true));
+    }
+
+    public static class UnseededRandomSource implements RandomSource
+    {
+
+        @Override
+        public long nextLong()
+        {
+            return 4;
+        }
+    }
+
+}
@@ -14,20 +14,29 @@
  */
 package tech.sirwellington.alchemy.test.junit.runners;
 
+import java.util.Collections;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.MultipleFailureException;
 import org.junit.runners.model.Statement;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 
-import static org.hamcrest.Matchers.isEmptyOrNullString;
-import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -191,6 +200,508 @@ public class RepeatStatementTest
         instance.evaluate();
     }
 
+    @Test
+    public void testEvaluateInParallel() throws Throwable
+    {
+        final int parallelism = 4;
+        final int iterations = 200;
+        final AtomicInteger runs = new AtomicInteger();
+        final Set<String> threads = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+        Provider<Statement> factory = new Provider<Statement>()
+        {
+            @Override
+            public Statement get()
+            {
+                return new Statement()
+                {
+                    @Override
+                    public void evaluate() throws Throwable
+                    {
+                        threads.add(Thread.currentThread().getName());
+                        runs.incrementAndGet();
+                    }
+                };
+            }
+        };
+
+        instance = new RepeatStatement(iterations, parallelism, factory, method);
+        instance.evaluate();
+
+        //The calling thread is one of the workers
+        assertThat(runs.get(), is(iterations));
+        assertThat(threads.size(), lessThanOrEqualTo(parallelism));
+    }
+
+    @Test
+    public void testEvaluateInParallelWithFailure() throws Throwable
+    {
+        final AtomicInteger runs = new AtomicInteger();
+        final IllegalStateException failure = new IllegalStateException();
+
+        Provider<Statement> factory = new Provider<Statement>()
+        {
+            @Override
+            public Statement get()
+            {
+                return new Statement()
+                {
+                    @Override
+                    public void evaluate() throws Throwable
+                    {
+                        if (runs.incrementAndGet() == 5)
+                        {
+                            throw failure;
+                        }
+
+                        //Gives the failing thread time to stop the others, even on a single CPU
+                        Thread.sleep(1);
+                    }
+                };
+            }
+        };
+
+        instance = new RepeatStatement(100, 1, factory, method);
+
+        try
+        {
+            instance.evaluate();
+            fail("Expected exception");
+        }
+        catch (IllegalStateException ex)
+        {
+            assertThat(ex, sameInstance(failure));
+        }
+
+        runs.set(0);
+        instance = new RepeatStatement(100, 2, factory, method);
+
+        try
+        {
+            instance.evaluate();
+            fail("Expected exception");
+        }
+        catch (IllegalStateException ex)
+        {
+            assertThat(ex, sameInstance(failure));
+        }
+
+        //Later iterations should not start once one has failed
+        assertThat(runs.get(), lessThan(100));
+    }
+
+    @Test
+    public void testEvaluateInParallelAggregatesFailures() throws Throwable
+    {
+        Provider<Statement> factory = new Provider<Statement>()
+        {
+            @Override
+            public Statement get()
+            {
+                return new Statement()
+                {
+                    @Override
+                    public void evaluate() throws Throwable
+                    {
+                        Thread.sleep(10);
+                        throw new IllegalStateException();
+                    }
+                };
+            }
+        };
+
+        instance = new RepeatStatement(10, 3, factory, method);
+
+        try
+        {
+            instance.evaluate();
+            fail("Expected exception");
+        }
+        catch (MultipleFailureException ex)
+        {
+            assertThat(ex.getFailures().size(), greaterThan(1));
+            assertThat(ex.getFailures().size(), lessThanOrEqualTo(3));
+        }
+    }
+
+    @Test
+    public void testEvaluateNotifiesListener() throws Throwable
+    {
+        RepeatListener listener = mock(RepeatListener.class);
+        RepeatSettings settings = RepeatSettings.times(timesToRepeat).withListener(listener);
+
+        instance = new RepeatStatement(settings, statementFactory, method);
+        instance.evaluate();
+
+        verify(listener).onStart(method, timesToRepeat);
+        verify(listener, times(timesToRepeat)).onIteration(eq(method), anyInt(), anyLong());
+
+        ArgumentCaptor<RepeatResult> captor = ArgumentCaptor.forClass(RepeatResult.class);
+        verify(listener).onFinish(eq(method), captor.capture());
+
+        RepeatResult result = captor.getValue();
+        assertThat(result.getIterations(), is(timesToRepeat));
+        assertThat(result.getTotalNanos(), greaterThanOrEqualTo(0L));
+        assertThat(result.getLatencies().getCount(), is((long) timesToRepeat));
+        assertThat(result.getLatencies().getMax(), lessThanOrEqualTo(result.getTotalNanos()));
+    }
+
+    @Test
+    public void testEvaluateDoesNotFinishOnFailure() throws Throwable
+    {
+        RepeatListener listener = mock(RepeatListener.class);
+        RepeatSettings settings = RepeatSettings.times(timesToRepeat).withListener(listener);
+        doThrow(new IllegalStateException()).when(statement).evaluate();
+
+        instance = new RepeatStatement(settings, statementFactory, method);
+
+        try
+        {
+            instance.evaluate();
+            fail("Expected exception");
+        }
+        catch (IllegalStateException ex)
+        {
+        }
+
+        verify(listener).onStart(method, timesToRepeat);
+        verify(listener, never()).onIteration(eq(method), anyInt(), anyLong());
+        verify(listener, never()).onFinish(eq(method), any(RepeatResult.class));
+    }
+
+    @Test
+    public void testEvaluateWithWarmup() throws Throwable
+    {
+        int warmup = 1 + random.nextInt(20);
+        RepeatListener listener = mock(RepeatListener.class);
+        RepeatSettings settings = RepeatSettings.times(timesToRepeat).withWarmup(warmup).withListener(listener);
+
+        instance = new RepeatStatement(settings, statementFactory, method);
+        instance.evaluate();
+
+        verify(statement, times(timesToRepeat + warmup)).evaluate();
+        verify(listener, times(timesToRepeat)).onIteration(eq(method), anyInt(), anyLong());
+
+        ArgumentCaptor<RepeatResult> captor = ArgumentCaptor.forClass(RepeatResult.class);
+        verify(listener).onFinish(eq(method), captor.capture());
+        assertThat(captor.getValue().getIterations(), is(timesToRepeat));
+        assertThat(captor.getValue().getLatencies().getCount(), is((long) timesToRepeat));
+    }
+
+    @Test
+    public void testEvaluateWithWarmupInParallel() throws Throwable
+    {
+        int warmup = 2 + random.nextInt(20);
+        RepeatListener listener = mock(RepeatListener.class);
+        RepeatSettings settings = RepeatSettings.times(timesToRepeat)
+                                                .withWarmup(warmup)
+                                                .withParallelism(4)
+                                                .withListener(listener);
+
+        instance = new RepeatStatement(settings, statementFactory, method);
+        instance.evaluate();
+
+        verify(statement, times(timesToRepeat + warmup)).evaluate();
+        verify(listener, times(timesToRepeat)).onIteration(eq(method), anyInt(), anyLong());
+    }
+
+    @Test
+    public void testEvaluateWhenWarmupFails() throws Throwable
+    {
+        doThrow(new IllegalStateException()).when(statement).evaluate();
+
+        RepeatListener listener = mock(RepeatListener.class);
+        RepeatSettings settings = RepeatSettings.times(timesToRepeat).withWarmup(3).withListener(listener);
+        instance = new RepeatStatement(settings, statementFactory, method);
+
+        try
+        {
+            instance.evaluate();
+            fail("Expected exception");
+        }
+        catch (IllegalStateException ex)
+        {
+        }
+
+        verify(statement, times(1)).evaluate();
+        verifyZeroInteractions(listener);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithNegativeWarmup()
+    {
+        RepeatSettings.times(timesToRepeat).withWarmup(-1);
+    }
+
+    @Test
+    public void testEvaluateForDuration() throws Throwable
+    {
+        doAnswer(sleep(5)).when(statement).evaluate();
+
+        RepeatListener listener = mock(RepeatListener.class);
+        RepeatSettings settings = RepeatSettings.times(10_000)
+                                                .withDuration(50, TimeUnit.MILLISECONDS)
+                                                .withListener(listener);
+
+        instance = new RepeatStatement(settings, statementFactory, method);
+        instance.evaluate();
+
+        ArgumentCaptor<RepeatResult> captor = ArgumentCaptor.forClass(RepeatResult.class);
+        verify(listener).onFinish(eq(method), captor.capture());
+
+        int iterations = captor.getValue().getIterations();
+        assertThat(iterations, greaterThanOrEqualTo(1));
+        assertThat(iterations, lessThan(100));
+        verify(statement, times(iterations)).evaluate();
+        verify(listener, times(iterations)).onIteration(eq(method), anyInt(), anyLong());
+    }
+
+    @Test
+    public void testEvaluateForDurationStopsAtMaxIterations() throws Throwable
+    {
+        RepeatSettings settings = RepeatSettings.times(timesToRepeat)
+                                                .withDuration(1, TimeUnit.MINUTES)
+                                                .withListener(mock(RepeatListener.class));
+
+        instance = new RepeatStatement(settings, statementFactory, method);
+        instance.evaluate();
+
+        verify(statement, times(timesToRepeat)).evaluate();
+    }
+
+    @Test
+    public void testEvaluateForDurationInParallel() throws Throwable
+    {
+        doAnswer(sleep(5)).when(statement).evaluate();
+
+        RepeatListener listener = mock(RepeatListener.class);
+        RepeatSettings settings = RepeatSettings.times(10_000)
+                                                .withDuration(50, TimeUnit.MILLISECONDS)
+                                                .withParallelism(4)
+                                                .withListener(listener);
+
+        instance = new RepeatStatement(settings, statementFactory, method);
+        instance.evaluate();
+
+        ArgumentCaptor<RepeatResult> captor = ArgumentCaptor.forClass(RepeatResult.class);
+        verify(listener).onFinish(eq(method), captor.capture());
+
+        int iterations = captor.getValue().getIterations();
+        assertThat(iterations, greaterThanOrEqualTo(1));
+        assertThat(iterations, lessThan(400));
+        verify(statement, times(iterations)).evaluate();
+    }
+
+    @Test
+    public void testEvaluateForDurationRunsAtLeastOnce() throws Throwable
+    {
+        doAnswer(sleep(5)).when(statement).evaluate();
+
+        RepeatSettings settings = RepeatSettings.times(timesToRepeat)
+                                                .withDuration(1, TimeUnit.NANOSECONDS)
+                                                .withListener(mock(RepeatListener.class));
+
+        instance = new RepeatStatement(settings, statementFactory, method);
+        instance.evaluate();
+
+        verify(statement, times(1)).evaluate();
+    }
+
+    @Test
+    public void testEvaluateWithReusedStatement() throws Throwable
+    {
+        RepeatSettings settings = RepeatSettings.times(timesToRepeat)
+                                                .withReuseInstance(true)
+                                                .withListener(mock(RepeatListener.class));
+
+        instance = new RepeatStatement(settings, statementFactory, method);
+        instance.evaluate();
+
+        verify(statement, times(timesToRepeat)).evaluate();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReuseInstanceInParallel()
+    {
+        RepeatSettings.times(timesToRepeat).withReuseInstance(true).withParallelism(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithBadDuration()
+    {
+        RepeatSettings.times(timesToRepeat).withDuration(0, TimeUnit.SECONDS);
+    }
+
+    private static Answer<Void> sleep(final long millis)
+    {
+        return new Answer<Void>()
+        {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable
+            {
+                Thread.sleep(millis);
+                return null;
+            }
+        };
+    }
+
+    @Test
+    public void testEvaluateWithinLatencyBudget() throws Throwable
+    {
+        RepeatSettings settings = RepeatSettings.times(timesToRepeat)
+                                                .withListener(mock(RepeatListener.class))
+                                                .withLatencyBudget(budget("generousBudget"));
+
+        instance = new RepeatStatement(settings, statementFactory, method);
+        instance.evaluate();
+
+        verify(statement, times(timesToRepeat)).evaluate();
+    }
+
+    @Test
+    public void testEvaluateExceedingLatencyBudget() throws Throwable
+    {
+        doAnswer(sleep(2)).when(statement).evaluate();
+
+        RepeatListener listener = mock(RepeatListener.class);
+        RepeatSettings settings = RepeatSettings.times(3)
+                                                .withListener(listener)
+                                                .withLatencyBudget(budget("tightBudget"));
+
+        instance = new RepeatStatement(settings, statementFactory, method);
+
+        try
+        {
+            instance.evaluate();
+            fail("Expected exception");
+        }
+        catch (AssertionError ex)
+        {
+            assertThat(ex.getMessage(), containsString(methodName));
+            assertThat(ex.getMessage(), containsString("p100"));
+        }
+
+        //Results are still reported
+        verify(listener).onFinish(eq(method), any(RepeatResult.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithBadLatencyBudget() throws Exception
+    {
+        RepeatSettings.times(timesToRepeat).withLatencyBudget(budget("badBudget"));
+    }
+
+    private static LatencyBudget budget(String methodName) throws NoSuchMethodException
+    {
+        return Budgets.class.getDeclaredMethod(methodName).getAnnotation(LatencyBudget.class);
+    }
+
+    private static class Budgets
+    {
+        @LatencyBudget(value = 1, unit = TimeUnit.MINUTES)
+        void generousBudget()
+        {
+        }
+
+        @LatencyBudget(value = 1, unit = TimeUnit.MILLISECONDS, percentile = 100)
+        void tightBudget()
+        {
+        }
+
+        @LatencyBudget(value = 1, percentile = 0)
+        void badBudget()
+        {
+        }
+    }
+
+    @Test
+    public void testEvaluateReportsTheFailingSeed() throws Throwable
+    {
+        final long[] seenValues = new long[timesToRepeat];
+        final AtomicInteger iterations = new AtomicInteger();
+
+        doAnswer(new Answer<Void>()
+        {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable
+            {
+                int iteration = iterations.getAndIncrement();
+                seenValues[iteration] = RandomSources.current().nextLong();
+
+                if (iteration == timesToRepeat - 1)
+                {
+                    throw new IllegalStateException();
+                }
+
+                return null;
+            }
+        }).when(statement).evaluate();
+
+        IllegalStateException failure = null;
+
+        try
+        {
+            instance.evaluate();
+            fail("Expected exception");
+        }
+        catch (IllegalStateException ex)
+        {
+            failure = ex;
+        }
+
+        assertThat(failure.getSuppressed().length, is(1));
+        assertThat(failure.getSuppressed()[0], instanceOf(IterationSeed.class));
+
+        IterationSeed report = (IterationSeed) failure.getSuppressed()[0];
+        assertThat(report.getMessage(), containsString("Iteration " + (timesToRepeat - 1) + " of " + methodName + "()"));
+        assertThat(report.getMessage(), containsString("@ReplaySeed(" + report.getSeed() + "L)"));
+
+        //The seed reproduces the values of the failing iteration
+        RandomSource replayed = RandomSources.create(RandomSources.DEFAULT_TYPE, report.getSeed());
+        assertThat(replayed.nextLong(), is(seenValues[timesToRepeat - 1]));
+    }
+
+    @Test
+    public void testEvaluateWithReplaySeed() throws Throwable
+    {
+        final long seed = random.nextLong();
+        final AtomicInteger iterations = new AtomicInteger();
+
+        doAnswer(new Answer<Void>()
+        {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable
+            {
+                iterations.incrementAndGet();
+
+                RandomSource expected = new XoroshiroRandomSource(seed);
+                assertThat(RandomSources.current().nextLong(), is(expected.nextLong()));
+                return null;
+            }
+        }).when(statement).evaluate();
+
+        RepeatSettings settings = RepeatSettings.times(1)
+                                                .withListener(mock(RepeatListener.class))
+                                                .withRandomSource(XoroshiroRandomSource.class)
+                                                .withReplaySeed(seed);
+        instance = new RepeatStatement(settings, statementFactory, method);
+        instance.evaluate();
+
+        assertThat(iterations.get(), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReplaySeedWithManyIterations()
+    {
+        RepeatSettings.times(2).withReplaySeed(1L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithBadParallelism() throws Exception
+    {
+        new RepeatStatement(5, 0, statementFactory, method);
+    }
+
     @Test
     public void testToString()
     {
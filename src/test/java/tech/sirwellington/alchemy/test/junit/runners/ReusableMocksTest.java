@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.model.FrameworkMethod;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReusableMocksTest
+{
+
+    private ReusableMocks instance;
+
+    @Before
+    public void setUp()
+    {
+        instance = new ReusableMocks(MockitoFields.of(SampleTest.class));
+    }
+
+    @Test
+    public void testFirstInitialization() throws Exception
+    {
+        SampleTest first = new SampleTest();
+        instance.initMocks(first);
+
+        assertTrue(mockingDetails(first.listener).isMock());
+        assertTrue(mockingDetails(first.spy).isSpy());
+        assertThat(first.captor, notNullValue());
+        assertThat(first.service, notNullValue());
+        assertThat(first.service.listener, sameInstance(first.listener));
+    }
+
+    @Test
+    public void testMocksAreReused() throws Exception
+    {
+        SampleTest first = new SampleTest();
+        instance.initMocks(first);
+
+        SampleTest second = new SampleTest();
+        instance.initMocks(second);
+
+        assertThat(second.listener, sameInstance(first.listener));
+        assertThat(second.service.listener, sameInstance(second.listener));
+    }
+
+    @Test
+    public void testMocksAreReset() throws Exception
+    {
+        FrameworkMethod method = mock(FrameworkMethod.class);
+
+        SampleTest first = new SampleTest();
+        instance.initMocks(first);
+        first.listener.onStart(method, 5);
+        doThrow(new IllegalStateException()).when(first.listener).onIteration(method, 1, 1L);
+
+        SampleTest second = new SampleTest();
+        instance.initMocks(second);
+
+        verifyZeroInteractions(second.listener);
+        //No longer stubbed
+        second.listener.onIteration(method, 1, 1L);
+    }
+
+    @Test
+    public void testCaptorsAndSpiesAreRecreated() throws Exception
+    {
+        SampleTest first = new SampleTest();
+        instance.initMocks(first);
+
+        SampleTest second = new SampleTest();
+        instance.initMocks(second);
+
+        assertThat(second.captor, notNullValue());
+        assertThat(second.captor, not(sameInstance(first.captor)));
+        assertTrue(mockingDetails(second.spy).isSpy());
+        assertThat(second.spy, not(sameInstance(first.spy)));
+        assertThat(second.service, not(sameInstance(first.service)));
+    }
+
+    @Test
+    public void testReusingTheSameInstance() throws Exception
+    {
+        SampleTest target = new SampleTest();
+        instance.initMocks(target);
+        RepeatListener listener = target.listener;
+
+        instance.initMocks(target);
+
+        assertThat(target.listener, sameInstance(listener));
+        assertTrue(mockingDetails(target.spy).isSpy());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInitMocksWithNull() throws Exception
+    {
+        instance.initMocks(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithNull()
+    {
+        new ReusableMocks(null);
+    }
+
+    public static class Service
+    {
+
+        private final RepeatListener listener;
+
+        public Service(RepeatListener listener)
+        {
+            this.listener = listener;
+        }
+    }
+
+    public static class Counter
+    {
+
+        private int count;
+
+        public void increment()
+        {
+            count += 1;
+        }
+    }
+
+    public static class SampleTest
+    {
+
+        @Mock
+        private RepeatListener listener;
+
+        //Not a RepeatListener, so constructor injection can only pick the mock
+        @Spy
+        private Counter spy = new Counter();
+
+        @Captor
+        private ArgumentCaptor<String> captor;
+
+        @InjectMocks
+        private Service service;
+    }
+
+}
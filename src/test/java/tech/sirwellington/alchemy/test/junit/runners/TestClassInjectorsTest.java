@@ -84,6 +84,96 @@ public class TestClassInjectorsTest
     {
     }
 
+    @Test
+    public void testPlanIsCachedPerClass() throws Exception
+    {
+        System.out.println("testPlanIsCachedPerClass");
+
+        InjectionPlan first = TestClassInjectors.planFor(new TestClass(FakeTestClass.class));
+        InjectionPlan second = TestClassInjectors.planFor(new TestClass(FakeTestClass.class));
+
+        assertThat(first, notNullValue());
+        assertThat(second, sameInstance(first));
+        assertThat(first.size(), is(17));
+    }
+
+    @Test
+    public void testPopulateGeneratedFieldsGeneratesFreshValues() throws Exception
+    {
+        System.out.println("testPopulateGeneratedFieldsGeneratesFreshValues");
+
+        TestClass testClass = new TestClass(FakeTestClass.class);
+        FakeTestClass first = new FakeTestClass();
+        FakeTestClass second = new FakeTestClass();
+
+        TestClassInjectors.populateGeneratedFields(testClass, first);
+        TestClassInjectors.populateGeneratedFields(testClass, second);
+        first.setUp();
+        second.setUp();
+
+        assertThat(second.string, not(first.string));
+        assertThat(second.names, not(sameInstance(first.names)));
+    }
+
+    @Test
+    public void testCustomGeneratorsAreCreatedForEachInjection() throws Exception
+    {
+        System.out.println("testCustomGeneratorsAreCreatedForEachInjection");
+
+        TestClass testClass = new TestClass(CountingTestClass.class);
+        CountingTestClass first = new CountingTestClass();
+        CountingTestClass second = new CountingTestClass();
+
+        TestClassInjectors.populateGeneratedFields(testClass, first);
+        TestClassInjectors.populateGeneratedFields(testClass, second);
+
+        //A shared generator would have counted 2
+        assertThat(first.count, is(1));
+        assertThat(second.count, is(1));
+    }
+
+    @Test
+    public void testPopulateGenerateOnceFields() throws Exception
+    {
+        System.out.println("testPopulateGenerateOnceFields");
+
+        TestClass testClass = new TestClass(OnceTestClass.class);
+        OnceTestClass first = new OnceTestClass();
+        OnceTestClass second = new OnceTestClass();
+
+        TestClassInjectors.populateGeneratedFields(testClass, first);
+        TestClassInjectors.populateGeneratedFields(testClass, second);
+
+        assertThat(first.sharedNames.size(), is(100));
+        assertThat(second.sharedNames, sameInstance(first.sharedNames));
+        assertThat(first.sharedInt, greaterThan(0));
+        assertThat(second.sharedInt, is(first.sharedInt));
+        assertThat(first.sharedPojo, notNullValue());
+        assertThat(second.sharedPojo, sameInstance(first.sharedPojo));
+
+        assertThat(second.freshString, not(first.freshString));
+    }
+
+    @Test
+    public void testPopulatePrimitiveAndBoxedFields() throws Exception
+    {
+        System.out.println("testPopulatePrimitiveAndBoxedFields");
+
+        TestClass testClass = new TestClass(NumbersTestClass.class);
+        NumbersTestClass instance = new NumbersTestClass();
+
+        TestClassInjectors.populateGeneratedFields(testClass, instance);
+
+        assertThat(instance.primitiveInt, greaterThan(0));
+        assertThat(instance.boxedInt, greaterThan(0));
+        assertThat(instance.primitiveLong, lessThan(0L));
+        assertThat(instance.boxedLong, lessThan(0L));
+        assertThat(instance.primitiveDouble, greaterThan(0.0));
+        assertThat(instance.boxedDouble, greaterThan(0.0));
+        assertThat(instance.primitiveFloat, greaterThan(0.0f));
+        assertThat(instance.boxedFloat, greaterThan(0.0f));
+    }
+
     public static class FakeTestClass
     {
 
@@ -101,6 +191,8 @@ public class TestClassInjectorsTest
         private static final double MIN_DOUBLE = -39341.1983123153;
         private static final double MAX_DOUBLE = 29414.5329;
 
+        private static final int ARRAY_SIZE = 1500;
+
         private static final long START_TIME = 20431;
         private static final long END_TIME = START_TIME + 25442545;
 
@@ -152,6 +244,9 @@ public class TestClassInjectorsTest
         @GenerateCustom(BookGenerator.class)
         private Book book;
 
+        @GenerateArray(size = ARRAY_SIZE, min = MIN_INT, max = MAX_INT)
+        private int[] integers;
+
 
         @Before
         public void setUp()
@@ -197,6 +292,11 @@ public class TestClassInjectorsTest
             assertThat(book, notNullValue());
             checkBook();
 
+            assertThat(integers, notNullValue());
+            assertThat(integers.length, is(ARRAY_SIZE));
+            assertThat(integers[0], greaterThanOrEqualTo(MIN_INT));
+            assertThat(integers[0], lessThan(MAX_INT));
+
             checkPojo(pojo);
         }
 
@@ -226,6 +326,74 @@ public class TestClassInjectorsTest
         }
     }
 
+    private static class OnceTestClass
+    {
+
+        @GenerateOnce
+        @GenerateList(value = String.class, size = 100)
+        private List<String> sharedNames;
+
+        @GenerateOnce
+        @GenerateInteger(GenerateInteger.Type.POSITIVE)
+        private int sharedInt;
+
+        @GenerateOnce
+        @GeneratePojo
+        private NumbersTestClass sharedPojo;
+
+        @GenerateString
+        private String freshString;
+    }
+
+    private static class NumbersTestClass
+    {
+
+        @GenerateInteger(GenerateInteger.Type.POSITIVE)
+        private int primitiveInt;
+
+        @GenerateInteger(GenerateInteger.Type.POSITIVE)
+        private Integer boxedInt;
+
+        @GenerateLong(GenerateLong.Type.NEGATIVE)
+        private long primitiveLong;
+
+        @GenerateLong(GenerateLong.Type.NEGATIVE)
+        private Long boxedLong;
+
+        @GenerateDouble(GenerateDouble.Type.POSITIVE)
+        private double primitiveDouble;
+
+        @GenerateDouble(GenerateDouble.Type.POSITIVE)
+        private Double boxedDouble;
+
+        @GenerateFloat(GenerateFloat.Type.POSITIVE)
+        private float primitiveFloat;
+
+        @GenerateFloat(GenerateFloat.Type.POSITIVE)
+        private Float boxedFloat;
+    }
+
+    private static class CountingTestClass
+    {
+        @GenerateCustom(CountingGenerator.class)
+        private Integer count;
+    }
+
+    private static class CountingGenerator implements AlchemyGenerator<Integer>
+    {
+        private int calls = 0;
+
+        public CountingGenerator()
+        {
+        }
+
+        @Override
+        public Integer get()
+        {
+            return ++calls;
+        }
+    }
+
     private static class BadListTest
     {
         @GenerateList(value = String.class, size = -1)
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class TestExecutorsTest
+{
+
+    @Test(expected = IllegalAccessException.class)
+    public void testCannotInstantiate() throws Exception
+    {
+        TestExecutors.class.newInstance();
+    }
+
+    @Test
+    public void testNewExecutor() throws Exception
+    {
+        ExecutorService executor = TestExecutors.newExecutor("platform-", 2, false);
+
+        try
+        {
+            Thread thread = executor.submit(new CurrentThread()).get();
+            assertThat(thread.getName(), startsWith("platform-"));
+            assertThat(thread.isDaemon(), is(true));
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNewExecutorPreferringVirtualThreads() throws Exception
+    {
+        ExecutorService executor = TestExecutors.newExecutor("virtual-", 2, true);
+
+        try
+        {
+            Thread thread = executor.submit(new CurrentThread()).get();
+            assertThat(thread.getName(), startsWith("virtual-"));
+
+            if (TestExecutors.virtualThreadsSupported())
+            {
+                Object isVirtual = Thread.class.getMethod("isVirtual").invoke(thread);
+                assertThat(isVirtual, is((Object) true));
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNewExecutorWithBadArgs() throws Exception
+    {
+        TestExecutors.newExecutor("", 0, false);
+    }
+
+    private static class CurrentThread implements Callable<Thread>
+    {
+        @Override
+        public Thread call()
+        {
+            return Thread.currentThread();
+        }
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.*;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+import tech.sirwellington.alchemy.generator.AlchemyGenerator;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class TypeGeneratorsTest
+{
+
+    private List<String> strings;
+    private Set<Long> longs;
+    private Map<String, List<Integer>> nested;
+    private Queue<String> queue;
+    private TreeMap<String, String> sorted;
+
+    @Test(expected = IllegalAccessException.class)
+    public void testCannotInstantiate() throws Exception
+    {
+        System.out.println("testCannotInstantiate");
+
+        TypeGenerators.class.newInstance();
+    }
+
+    @Test
+    public void testForTypeWithValues()
+    {
+        System.out.println("testForTypeWithValues");
+
+        List<Class<?>> types = Arrays.<Class<?>>asList(String.class, Integer.class, Long.class, Double.class,
+                                                       Float.class, Boolean.class, Short.class, Byte.class,
+                                                       Character.class, Date.class, Instant.class, URL.class,
+                                                       ByteBuffer.class, byte[].class);
+
+        for (Class<?> type : types)
+        {
+            AlchemyGenerator<?> generator = TypeGenerators.forType(type);
+            assertThat(type.getName(), generator, notNullValue());
+            assertThat(generator.get(), instanceOf(type));
+        }
+    }
+
+    @Test
+    public void testForTypeWithPrimitives()
+    {
+        System.out.println("testForTypeWithPrimitives");
+
+        assertThat(TypeGenerators.forType(int.class), instanceOf(IntGenerator.class));
+        assertThat(TypeGenerators.forType(long.class), instanceOf(LongGenerator.class));
+        assertThat(TypeGenerators.forType(Integer.class).get(), instanceOf(Integer.class));
+        assertThat(TypeGenerators.forType(Long.class).get(), instanceOf(Long.class));
+        assertThat(TypeGenerators.forType(char.class).get(), instanceOf(Character.class));
+    }
+
+    @Test
+    public void testForTypeWithEnum()
+    {
+        System.out.println("testForTypeWithEnum");
+
+        AlchemyGenerator<?> generator = TypeGenerators.forType(Thread.State.class);
+        assertThat(generator, notNullValue());
+        assertThat(generator.get(), instanceOf(Thread.State.class));
+    }
+
+    @Test
+    public void testForTypeWithCollections() throws Exception
+    {
+        System.out.println("testForTypeWithCollections");
+
+        Object list = generate("strings");
+        assertThat(list, instanceOf(List.class));
+        assertThat(((List<?>) list).size(), greaterThanOrEqualTo(TypeGenerators.MIN_COLLECTION_SIZE));
+        assertThat(((List<?>) list).size(), lessThanOrEqualTo(TypeGenerators.MAX_COLLECTION_SIZE));
+        assertThat(((List<?>) list).get(0), instanceOf(String.class));
+
+        Object set = generate("longs");
+        assertThat(set, instanceOf(Set.class));
+        assertThat(((Set<?>) set).iterator().next(), instanceOf(Long.class));
+
+        Object map = generate("nested");
+        assertThat(map, instanceOf(Map.class));
+        Map.Entry<?, ?> entry = ((Map<?, ?>) map).entrySet().iterator().next();
+        assertThat(entry.getKey(), instanceOf(String.class));
+        assertThat(entry.getValue(), instanceOf(List.class));
+    }
+
+    @Test
+    public void testForTypeWithUnsupportedCollections() throws Exception
+    {
+        System.out.println("testForTypeWithUnsupportedCollections");
+
+        assertThat(TypeGenerators.forType(List.class), nullValue());
+        assertThat(generatorFor("queue"), nullValue());
+        assertThat(generatorFor("sorted"), nullValue());
+    }
+
+    @Test
+    public void testForTypeWithUnknownTypes()
+    {
+        System.out.println("testForTypeWithUnknownTypes");
+
+        assertThat(TypeGenerators.forType(Runnable.class), nullValue());
+        assertThat(TypeGenerators.forType(Object.class), nullValue());
+        assertThat(TypeGenerators.forType(int[].class), nullValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testForTypeWithNull()
+    {
+        System.out.println("testForTypeWithNull");
+
+        TypeGenerators.forType(null);
+    }
+
+    private Object generate(String fieldName) throws Exception
+    {
+        AlchemyGenerator<?> generator = generatorFor(fieldName);
+        assertThat(generator, notNullValue());
+
+        return generator.get();
+    }
+
+    private AlchemyGenerator<?> generatorFor(String fieldName) throws Exception
+    {
+        java.lang.reflect.Field field = getClass().getDeclaredField(fieldName);
+        return TypeGenerators.forType(field.getType(), field.getGenericType());
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2019. Sir Wellington.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.sirwellington.alchemy.test.junit.runners;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.model.FrameworkMethod;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.exceptions.misusing.UnnecessaryStubbingException;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author SirWellington
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class UnusedStubbingsTest
+{
+
+    private UnusedStubbings instance;
+
+    @Before
+    public void setUp()
+    {
+        instance = new UnusedStubbings(MockitoFields.of(SampleTest.class));
+    }
+
+    @Test
+    public void testCollectFrom() throws Exception
+    {
+        SampleTest test = newIteration();
+        test.stub();
+
+        instance.collectFrom(test);
+
+        assertFalse(instance.isEmpty());
+        assertThat(instance.getUnusedLocations(), hasSize(1));
+    }
+
+    @Test
+    public void testCollectFromWhenStubbingIsUsed() throws Exception
+    {
+        SampleTest test = newIteration();
+        test.stub();
+        test.method.getName();
+
+        instance.collectFrom(test);
+
+        assertTrue(instance.isEmpty());
+    }
+
+    @Test
+    public void testCollectFromWhenUsedByALaterIteration() throws Exception
+    {
+        SampleTest first = newIteration();
+        first.stub();
+        instance.collectFrom(first);
+        assertFalse(instance.isEmpty());
+
+        SampleTest second = newIteration();
+        second.stub();
+        second.method.getName();
+        instance.collectFrom(second);
+        assertTrue(instance.isEmpty());
+
+        SampleTest third = newIteration();
+        third.stub();
+        instance.collectFrom(third);
+        assertTrue(instance.isEmpty());
+    }
+
+    @Test
+    public void testCollectFromWithStubbingsFromTheSameLine() throws Exception
+    {
+        SampleTest test = newIteration();
+        test.stubTwice();
+        test.method.getAnnotation(Repeat.class);
+
+        instance.collectFrom(test);
+
+        assertFalse(instance.isEmpty());
+        assertThat(instance.getUnusedLocations(), hasSize(1));
+    }
+
+    @Test
+    public void testCollectFromWithStubbingsFromTheSameLineAcrossIterations() throws Exception
+    {
+        SampleTest first = newIteration();
+        first.stubTwice();
+        first.method.getAnnotation(Repeat.class);
+        instance.collectFrom(first);
+        assertFalse(instance.isEmpty());
+
+        SampleTest second = newIteration();
+        second.stubTwice();
+        second.method.getAnnotation(InitMocks.class);
+        instance.collectFrom(second);
+        assertTrue(instance.isEmpty());
+    }
+
+    @Test
+    public void testCollectFromIgnoresLenientStubbings() throws Exception
+    {
+        SampleTest test = newIteration();
+        lenient().when(test.method.getName()).thenReturn("lenient");
+
+        instance.collectFrom(test);
+
+        assertTrue(instance.isEmpty());
+    }
+
+    @Test
+    public void testCollectFromWhenMocksAreMissing() throws Exception
+    {
+        instance.collectFrom(new SampleTest());
+
+        assertTrue(instance.isEmpty());
+    }
+
+    @Test
+    public void testToException() throws Exception
+    {
+        SampleTest test = newIteration();
+        test.stub();
+        instance.collectFrom(test);
+
+        UnnecessaryStubbingException ex = instance.toException(SampleTest.class);
+        String location = instance.getUnusedLocations().get(0);
+
+        assertThat(ex.getMessage(), containsString(SampleTest.class.getSimpleName()));
+        assertThat(ex.getMessage(), containsString(location));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testToExceptionWhenEmpty() throws Exception
+    {
+        instance.toException(SampleTest.class);
+    }
+
+    @Test
+    public void testClear() throws Exception
+    {
+        SampleTest test = newIteration();
+        test.stub();
+        instance.collectFrom(test);
+
+        instance.clear();
+
+        assertTrue(instance.isEmpty());
+    }
+
+    private SampleTest newIteration()
+    {
+        SampleTest test = new SampleTest();
+        MockitoAnnotations.initMocks(test);
+        return test;
+    }
+
+    static class SampleTest
+    {
+
+        @Mock
+        private FrameworkMethod method;
+
+        void stub()
+        {
+            when(method.getName()).thenReturn("sample");
+        }
+
+        /*
+         * Both stubbings are made by the same line.
+         */
+        void stubTwice()
+        {
+            for (Class<? extends Annotation> annotation : Arrays.asList(Repeat.class, InitMocks.class))
+            {
+                when(method.getAnnotation(annotation)).thenReturn(null);
+            }
+        }
+    }
+
+}